@@ -0,0 +1,13 @@
+package cz.masci.commons.springfx.data;
+
+/**
+ * Change of one field of an item used for delta saves.
+ *
+ * @author Daniel Mašek
+ *
+ * @param name          the name of the changed field
+ * @param originalValue the value of the field when the item was loaded or saved last time
+ * @param currentValue  the current value of the field
+ */
+public record FieldChange(String name, Object originalValue, Object currentValue) {
+}
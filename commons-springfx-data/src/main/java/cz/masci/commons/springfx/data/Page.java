@@ -0,0 +1,15 @@
+package cz.masci.commons.springfx.data;
+
+import java.util.List;
+
+/**
+ * One page of items together with the total count of items used for paged loading.
+ *
+ * @author Daniel Mašek
+ *
+ * @param <T>        Item type
+ * @param items      the items of the page
+ * @param totalCount the total count of items of all pages
+ */
+public record Page<T>(List<T> items, long totalCount) {
+}
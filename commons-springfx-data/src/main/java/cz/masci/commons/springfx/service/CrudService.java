@@ -1,6 +1,8 @@
 package cz.masci.commons.springfx.service;
 
+import cz.masci.commons.springfx.data.FieldChange;
 import cz.masci.commons.springfx.data.Modifiable;
+import cz.masci.commons.springfx.data.Page;
 import cz.masci.commons.springfx.exception.CrudException;
 import java.util.List;
 
@@ -8,7 +10,9 @@ import java.util.List;
  * Service for CRUD operations on {@link Modifiable} children items.
  * <ul>
  *   <li>Get list of modifiable items</li>
+ *   <li>Get page of modifiable items</li>
  *   <li>Saves modified item</li>
+ *   <li>Saves only changed fields of modified item</li>
  *   <li>Delete modified item</li>
  * </ul>
  * 
@@ -26,6 +30,22 @@ public interface CrudService<T extends Modifiable> {
    */
   List<T> list() throws CrudException;
 
+  /**
+   * Get one page of items with the total count of items to display in the paged Master view table.
+   * The default implementation reads all items by {@link #list()}, the implementations should override it to read only the page.
+   *
+   * @param pageIndex Index of the page starting with 0
+   * @param pageSize  Number of items on the page
+   * @return Page of items
+   * @throws CrudException Exception reading data
+   */
+  default Page<T> page(int pageIndex, int pageSize) throws CrudException {
+    var items = list();
+    int from = (int) Math.min((long) pageIndex * pageSize, items.size());
+    int to = (int) Math.min((long) from + pageSize, items.size());
+    return new Page<>(List.copyOf(items.subList(from, to)), items.size());
+  }
+
   /**
    * Saves created/updated item from edit dialog or detail view.
    *
@@ -35,6 +55,19 @@ public interface CrudService<T extends Modifiable> {
    */
   T save(T item) throws CrudException;
 
+  /**
+   * Saves only the changed fields of the updated item. The item identifies the saved record, the changes contain the fields to write.
+   * The default implementation saves the whole item by {@link #save(Object)}.
+   *
+   * @param item    Item to save
+   * @param changes Changed fields of the item
+   * @return Saved item
+   * @throws CrudException Exception saving data
+   */
+  default T saveChanges(T item, List<FieldChange> changes) throws CrudException {
+    return save(item);
+  }
+
   /**
    * Deletes item.
    *
@@ -23,6 +23,7 @@ import cz.masci.springfx.demo.interactor.BookInteractor;
 import cz.masci.springfx.demo.model.BookDetailModel;
 import cz.masci.springfx.demo.model.BookListModel;
 import cz.masci.springfx.mvci.controller.ViewProvider;
+import cz.masci.springfx.mvci.controller.impl.ElementsDiff;
 import cz.masci.springfx.mvci.controller.impl.OperableManagerController;
 import cz.masci.springfx.mvci.util.ConcurrentUtils;
 import cz.masci.springfx.mvci.util.builder.BackgroundTaskBuilder;
@@ -83,15 +84,16 @@ public class BookManagerController implements ViewProvider<Region> {
   }
 
   /**
-   * Loads books from the interactor in a background task.
+   * Loads books from the interactor in a background task and reloads only the changed books.
    *
    * @param postGuiStuff runnable executed on the JavaFX thread after loading
    */
   private void load(Runnable postGuiStuff) {
+    var snapshot = operableManagerController.snapshot();
     BackgroundTaskBuilder
-        .task(interactor::list)
+        .task(() -> ElementsDiff.of(snapshot, interactor.list()))
         .postGuiCall(postGuiStuff)
-        .onSucceeded(operableManagerController::addAll)
+        .onSucceeded(operableManagerController::reload)
         .start();
   }
 
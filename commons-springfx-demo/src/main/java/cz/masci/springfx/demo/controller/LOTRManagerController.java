@@ -23,6 +23,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LOTRManagerController {
 
+  /** The key of the background task loading the LOTR characters. */
+  private static final String LOAD_CHARACTERS_KEY = "lotr-load";
+
   /** The shared LOTR list view model. */
   private final LOTRListModel viewModel;
   /** Interactor for LOTR character persistence operations. */
@@ -98,13 +101,14 @@ public class LOTRManagerController {
   }
 
   /**
-   * Loads all LOTR characters from the interactor in a background task.
+   * Loads all LOTR characters from the interactor in a background task. Repeated calls join the loading in flight.
    *
    * @param postGuiStuff runnable executed on the JavaFX thread after loading
    */
   private void loadCharacters(Runnable postGuiStuff) {
     BackgroundTaskBuilder
         .task(interactor::loadCharacters)
+        .key(LOAD_CHARACTERS_KEY)
         .postGuiCall(postGuiStuff)
         .onSucceeded(operableManagerController::addAll)
         .start();
@@ -78,10 +78,12 @@ public class LOTRInteractorImpl implements LOTRInteractor {
    */
   private LOTRDetailModel map(LordOfTheRings origin, long id) {
     var model = new LOTRDetailModel();
-    model.setId(id);
-    model.setCharacter(origin.character());
-    model.setLocation(origin.location());
-    model.rebaseline();
+    model.batch(() -> {
+      model.setId(id);
+      model.setCharacter(origin.character());
+      model.setLocation(origin.location());
+      model.rebaseline();
+    });
     return model;
   }
 }
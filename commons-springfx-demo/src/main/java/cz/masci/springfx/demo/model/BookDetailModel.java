@@ -40,8 +40,9 @@ public class BookDetailModel extends BaseDetailModel<Long> {
    * Creates a new {@code BookDetailModel} and registers dirty properties and constraints.
    */
   public BookDetailModel() {
-    addComposites(title, author);
-    addConstraints(ConstraintUtils.isNotEmpty(title, "Title"));
+    addComposite("title", title);
+    addComposite("author", author);
+    addConstraints(() -> ConstraintUtils.isNotEmpty(title, "Title"));
   }
 
   // region setters and getters
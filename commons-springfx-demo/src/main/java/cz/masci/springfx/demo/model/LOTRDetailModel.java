@@ -20,9 +20,9 @@
 package cz.masci.springfx.demo.model;
 
 import cz.masci.springfx.mvci.model.detail.impl.BaseDetailModel;
+import cz.masci.springfx.mvci.model.dirty.DirtyStringProperty;
 import cz.masci.springfx.mvci.util.constraint.ConstraintUtils;
 import lombok.EqualsAndHashCode;
-import org.nield.dirtyfx.beans.DirtyStringProperty;
 
 /**
  * Detail model representing a Lord of the Rings character with a name and location.
@@ -39,8 +39,9 @@ public class LOTRDetailModel extends BaseDetailModel<Long> {
    * Creates a new {@code LOTRDetailModel} and registers dirty properties and constraints.
    */
   public LOTRDetailModel() {
-    addComposites(character, location);
-    addConstraints(ConstraintUtils.isNotEmpty(character, "Character"));
+    addComposite("character", character);
+    addComposite("location", location);
+    addConstraints(() -> ConstraintUtils.isNotEmpty(character, "Character"));
   }
 
   // region setters and getters
@@ -20,9 +20,9 @@
 package cz.masci.springfx.demo.model;
 
 import cz.masci.springfx.mvci.model.detail.impl.BaseDetailModel;
+import cz.masci.springfx.mvci.model.dirty.DirtyStringProperty;
 import cz.masci.springfx.mvci.util.constraint.ConstraintUtils;
 import lombok.EqualsAndHashCode;
-import org.nield.dirtyfx.beans.DirtyStringProperty;
 
 /**
  * Detail model representing a Harry Potter character with book, character name, location, and quote.
@@ -42,11 +42,14 @@ public class PotterDetailModel extends BaseDetailModel<Long> {
    * Creates a new {@code PotterDetailModel} and registers dirty properties and constraints.
    */
   public PotterDetailModel() {
-    addComposites(book, character, location, quote);
+    addComposite("book", book);
+    addComposite("character", character);
+    addComposite("location", location);
+    addComposite("quote", quote);
     addConstraints(
-        ConstraintUtils.isNotEmpty(book, "Book"),
-        ConstraintUtils.isNotEmpty(character, "Character"),
-        ConstraintUtils.isNotEmpty(location, "Location")
+        () -> ConstraintUtils.isNotEmpty(book, "Book"),
+        () -> ConstraintUtils.isNotEmpty(character, "Character"),
+        () -> ConstraintUtils.isNotEmpty(location, "Location")
     );
   }
 
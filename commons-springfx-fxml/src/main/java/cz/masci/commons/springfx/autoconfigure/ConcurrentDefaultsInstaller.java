@@ -0,0 +1,67 @@
+package cz.masci.commons.springfx.autoconfigure;
+
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import cz.masci.springfx.mvci.util.concurrent.FxDispatcher;
+import cz.masci.springfx.mvci.util.concurrent.PriorityTaskScheduler;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Installs the library-wide concurrent defaults of the commons-springfx-mvci library from {@link SpringFxProperties}
+ * after all singletons are instantiated and restores the original defaults when the context is closed.
+ * <ul>
+ *   <li>default background task executor {@link BackgroundExecutors#getDefaultExecutor()}</li>
+ *   <li>factory of the default priority scheduler {@link PriorityTaskScheduler#getDefault()}, the scheduler is created on first use</li>
+ *   <li>time budget of the default {@link FxDispatcher}</li>
+ * </ul>
+ *
+ * @author Daniel Mašek
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrentDefaultsInstaller implements SmartInitializingSingleton, DisposableBean {
+
+  /** The commons-springfx properties. */
+  private final SpringFxProperties properties;
+  /** The installed background task executor. */
+  private Executor executor;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    executor = createExecutor(properties.getBackgroundTask());
+    BackgroundExecutors.setDefaultExecutor(executor);
+    var schedulerProperties = properties.getPriorityScheduler();
+    PriorityTaskScheduler.setDefaultFactory(() -> new PriorityTaskScheduler(schedulerProperties.getPoolSize(), schedulerProperties.getQueueCapacity(),
+        schedulerProperties.getOverflowPolicy()));
+    FxDispatcher.getDefault().setTimeBudget(properties.getFxDispatcher().getTimeBudget());
+    log.debug("Background task executor {} installed", properties.getBackgroundTask().getExecutor());
+  }
+
+  @Override
+  public void destroy() {
+    BackgroundExecutors.resetDefaultExecutor();
+    FxDispatcher.getDefault().setTimeBudget(FxDispatcher.DEFAULT_TIME_BUDGET);
+    PriorityTaskScheduler.resetDefault();
+    if (executor instanceof ExecutorService executorService) {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Creates the background task executor based on the properties.
+   *
+   * @param taskProperties the background task properties
+   * @return the background task executor
+   */
+  private Executor createExecutor(SpringFxProperties.BackgroundTask taskProperties) {
+    return switch (taskProperties.getExecutor()) {
+      case THREAD_PER_TASK -> BackgroundExecutors.threadPerTask();
+      case PLATFORM_POOL -> BackgroundExecutors.platformPool(taskProperties.getPoolSize(), taskProperties.getQueueCapacity());
+      case VIRTUAL -> BackgroundExecutors.virtualThreads();
+    };
+  }
+}
@@ -0,0 +1,36 @@
+package cz.masci.commons.springfx.autoconfigure;
+
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Installs the {@link MicrometerMetricsRecorder} as the library-wide metrics recorder {@link SpringFxMetrics#getRecorder()}
+ * when the {@link MeterRegistry} bean is available, and restores the no-op recorder when the context is closed.
+ *
+ * @author Daniel Mašek
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MetricsRecorderInstaller implements SmartInitializingSingleton, DisposableBean {
+
+  /** The provider of the meter registry. */
+  private final ObjectProvider<MeterRegistry> registryProvider;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    registryProvider.ifAvailable(registry -> {
+      SpringFxMetrics.setRecorder(new MicrometerMetricsRecorder(registry));
+      log.debug("Micrometer metrics recorder installed");
+    });
+  }
+
+  @Override
+  public void destroy() {
+    SpringFxMetrics.resetRecorder();
+  }
+}
@@ -0,0 +1,54 @@
+package cz.masci.commons.springfx.autoconfigure;
+
+import cz.masci.springfx.mvci.util.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The {@link MetricsRecorder} publishing the commons-springfx metrics to the Micrometer {@link MeterRegistry}.
+ * <dl>
+ *   <dt>springfx.task.wait, springfx.task.run, springfx.task.delivery
+ *   <dd>- timers of the background task wait for a thread, the task body and the delivery of the result to the JavaFX thread,
+ *   tagged by {@code name} and {@code outcome}.
+ *   <dt>springfx.fx.dispatch.latency, springfx.fx.dispatch.duration
+ *   <dd>- timers of the queue wait of the oldest runnable and the time of one drain of the JavaFX dispatcher.
+ *   <dt>springfx.fx.dispatch.runnables
+ *   <dd>- distribution of the number of runnables run by one drain of the JavaFX dispatcher.
+ *   <dt>springfx.save.batch
+ *   <dd>- timer of the save batch of dirty elements, tagged by {@code name}.
+ *   <dt>springfx.save.batch.size
+ *   <dd>- distribution of the number of elements in the save batch, tagged by {@code name}.
+ * </dl>
+ *
+ * @author Daniel Mašek
+ */
+@RequiredArgsConstructor
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+  /** The meter registry. */
+  private final MeterRegistry registry;
+
+  @Override
+  public void taskCompleted(String name, TaskOutcome outcome, Duration wait, Duration run, Duration delivery) {
+    String outcomeTag = outcome.name().toLowerCase();
+    registry.timer("springfx.task.wait", "name", name, "outcome", outcomeTag).record(wait);
+    registry.timer("springfx.task.run", "name", name, "outcome", outcomeTag).record(run);
+    registry.timer("springfx.task.delivery", "name", name, "outcome", outcomeTag).record(delivery);
+  }
+
+  @Override
+  public void fxDrained(int runnables, Duration latency, Duration duration) {
+    registry.timer("springfx.fx.dispatch.latency").record(latency);
+    registry.timer("springfx.fx.dispatch.duration").record(duration);
+    registry.summary("springfx.fx.dispatch.runnables").record(runnables);
+  }
+
+  @Override
+  public void saveBatch(String name, int size, Duration duration) {
+    Timer.builder("springfx.save.batch").tag("name", name).register(registry).record(duration);
+    DistributionSummary.builder("springfx.save.batch.size").tag("name", name).register(registry).record(size);
+  }
+}
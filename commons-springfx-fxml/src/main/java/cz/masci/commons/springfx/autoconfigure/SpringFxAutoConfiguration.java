@@ -1,10 +1,24 @@
 package cz.masci.commons.springfx.autoconfigure;
 
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import cz.masci.springfx.mvci.util.concurrent.FxDispatcher;
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * Defining spring component scan package.
+ * <p>
+ *   When the commons-springfx-mvci library is on the classpath, the default background task executor and the default {@link FxDispatcher}
+ *   are configured from {@link SpringFxProperties}. When Micrometer is on the classpath as well, the library metrics are published
+ *   to the {@link MeterRegistry}.
+ * </p>
  * 
  * @author Daniel Mašek
  */
@@ -12,4 +26,44 @@ import org.springframework.context.annotation.Configuration;
 @ComponentScan
 public class SpringFxAutoConfiguration {
 
+  /**
+   * Configuration of the background tasks and the JavaFX dispatcher from the commons-springfx-mvci library.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(BackgroundExecutors.class)
+  @EnableConfigurationProperties(SpringFxProperties.class)
+  static class ConcurrentConfiguration {
+
+    /**
+     * Creates the installer of the library-wide concurrent defaults.
+     *
+     * @param properties the commons-springfx properties
+     * @return the installer bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    ConcurrentDefaultsInstaller springFxConcurrentDefaultsInstaller(SpringFxProperties properties) {
+      return new ConcurrentDefaultsInstaller(properties);
+    }
+  }
+
+  /**
+   * Configuration of the Micrometer metrics of the commons-springfx-mvci library.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass({SpringFxMetrics.class, MeterRegistry.class})
+  static class MetricsConfiguration {
+
+    /**
+     * Creates the installer of the Micrometer metrics recorder.
+     *
+     * @param registryProvider the provider of the meter registry
+     * @return the installer bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    MetricsRecorderInstaller springFxMetricsRecorderInstaller(ObjectProvider<MeterRegistry> registryProvider) {
+      return new MetricsRecorderInstaller(registryProvider);
+    }
+  }
 }
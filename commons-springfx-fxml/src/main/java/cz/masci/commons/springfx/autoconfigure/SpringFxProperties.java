@@ -0,0 +1,85 @@
+package cz.masci.commons.springfx.autoconfigure;
+
+import cz.masci.springfx.mvci.util.concurrent.PriorityTaskScheduler;
+import cz.masci.springfx.mvci.util.concurrent.PriorityTaskScheduler.OverflowPolicy;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the commons-springfx libraries.
+ *
+ * <pre>{@code
+ *   springfx:
+ *     background-task:
+ *       executor: platform-pool
+ *       pool-size: 8
+ *       queue-capacity: 1000
+ *     priority-scheduler:
+ *       pool-size: 4
+ *       queue-capacity: 500
+ *       overflow-policy: drop-oldest
+ *     fx-dispatcher:
+ *       time-budget: 8ms
+ * }</pre>
+ *
+ * @author Daniel Mašek
+ */
+@Data
+@ConfigurationProperties(prefix = "springfx")
+public class SpringFxProperties {
+
+  /** Background task properties. */
+  private BackgroundTask backgroundTask = new BackgroundTask();
+  /** Priority scheduler properties. */
+  private PriorityScheduler priorityScheduler = new PriorityScheduler();
+  /** JavaFX dispatcher properties. */
+  private FxDispatcher fxDispatcher = new FxDispatcher();
+
+  /**
+   * Properties of the default executor used by background tasks.
+   */
+  @Data
+  public static class BackgroundTask {
+    /** Type of the default executor. */
+    private ExecutorType executor = ExecutorType.THREAD_PER_TASK;
+    /** Maximum number of threads of the {@link ExecutorType#PLATFORM_POOL} executor. */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    /** Maximum number of waiting tasks of the {@link ExecutorType#PLATFORM_POOL} executor. */
+    private int queueCapacity = Integer.MAX_VALUE;
+  }
+
+  /**
+   * Properties of the default scheduler used by background tasks with a priority.
+   */
+  @Data
+  public static class PriorityScheduler {
+    /** Number of worker threads. */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    /** Capacity of each priority queue. */
+    private int queueCapacity = PriorityTaskScheduler.DEFAULT_QUEUE_CAPACITY;
+    /** Policy applied when the priority queue is full. */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+  }
+
+  /**
+   * Properties of the default dispatcher running code in the JavaFX Application Thread.
+   */
+  @Data
+  public static class FxDispatcher {
+    /** Time budget of one drain of the dispatcher queue. */
+    private Duration timeBudget = Duration.ofMillis(8);
+  }
+
+  /**
+   * Type of the default background task executor.
+   */
+  public enum ExecutorType {
+    /** New daemon platform thread per task. */
+    THREAD_PER_TASK,
+    /** Bounded pool of daemon platform threads. */
+    PLATFORM_POOL,
+    /** New virtual thread per task. */
+    VIRTUAL
+  }
+}
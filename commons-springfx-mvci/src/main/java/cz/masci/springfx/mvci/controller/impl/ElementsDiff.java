@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.controller.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.commons.springfx.data.Identifiable;
+import cz.masci.springfx.mvci.model.detail.DirtyModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The new elements of the list indexed by their id, prepared for {@link OperableManagerController#reload(ElementsDiff)}.
+ * The diff does not touch the current elements, so it could be created off the JavaFX thread, e.g. in the background task loading the elements.
+ * <p>
+ *   The diff created from the {@link ElementsSnapshot} of the current elements computes the whole reload off the JavaFX thread:
+ *   it matches the elements by id, finds the unchanged elements, and computes the merged or replaced elements and the range changes of the list.
+ *   The JavaFX thread then only applies them, unless the list or the removed elements changed since the snapshot was taken.
+ *   The diff created by {@link #of(ElementsSnapshot, List)} computes the reload replacing the changed elements, the diff created
+ *   by {@link #ofMerged(ElementsSnapshot, List)} the reload merging them by the merge action.
+ *   The diff compares the values of the current elements captured by the snapshot, so the snapshot should be taken right before the elements are loaded.
+ * </p>
+ * Usage example:
+ * <pre>{@code
+ * var snapshot = operableManagerController.snapshot();
+ * BackgroundTaskBuilder
+ *     .task(() -> ElementsDiff.of(snapshot, interactor.list()))
+ *     .onSucceeded(operableManagerController::reload)
+ *     .start();
+ * }</pre>
+ *
+ * @param <I> the type of the id of the elements
+ * @param <E> the type of the elements
+ */
+public class ElementsDiff<I, E extends Identifiable<I>> {
+  /** The new elements in their order. */
+  private final List<E> elements;
+  /** The new elements by their id. */
+  private final Map<I, E> elementsById;
+  /** The snapshot of the current elements, {@code null} if the diff was created without it. */
+  private final ElementsSnapshot<E> snapshot;
+  /** {@code true} if the plan merges the changed elements, {@code false} if it replaces them. */
+  private final boolean merging;
+  /** The plan computed from the snapshot, {@code null} without the snapshot. */
+  private final Plan<E> plan;
+
+  /**
+   * Creates a new diff of the new elements.
+   *
+   * @param snapshot the snapshot of the current elements, could be {@code null}
+   * @param elements the new elements
+   * @param merging  {@code true} if the plan merges the changed elements, {@code false} if it replaces them
+   */
+  private ElementsDiff(ElementsSnapshot<E> snapshot, List<E> elements, boolean merging) {
+    this.elements = List.copyOf(elements);
+    this.elementsById = HashMap.newHashMap(elements.size());
+    this.elements.forEach(element -> {
+      if (element.getId() != null) {
+        elementsById.put(element.getId(), element);
+      }
+    });
+    this.snapshot = snapshot;
+    this.merging = merging;
+    this.plan = snapshot != null ? plan(snapshot, merging) : null;
+  }
+
+  /**
+   * Creates a new diff of the new elements. The current elements are matched in the JavaFX thread when the diff is applied.
+   *
+   * @param elements the new elements
+   * @param <I>      the type of the id of the elements
+   * @param <E>      the type of the elements
+   * @return the diff of the new elements
+   */
+  public static <I, E extends Identifiable<I>> ElementsDiff<I, E> of(List<E> elements) {
+    return new ElementsDiff<>(null, elements, false);
+  }
+
+  /**
+   * Creates a new diff of the new elements against the snapshot of the current elements, computing the reload replacing the changed elements
+   * by {@link OperableManagerController#reload(ElementsDiff)}. The current element is unchanged if both elements are {@link DirtyModel}
+   * with the same values, see {@link DirtyModel#hasSameValues(DirtyModel)}, or if they are equal otherwise.
+   *
+   * @param snapshot the snapshot of the current elements
+   * @param elements the new elements
+   * @param <I>      the type of the id of the elements
+   * @param <E>      the type of the elements
+   * @return the diff of the new elements
+   */
+  public static <I, E extends Identifiable<I>> ElementsDiff<I, E> of(ElementsSnapshot<E> snapshot, List<E> elements) {
+    return new ElementsDiff<>(requireNonNull(snapshot), elements, false);
+  }
+
+  /**
+   * Creates a new diff of the new elements against the snapshot of the current elements, computing the reload merging the changed elements
+   * by {@link OperableManagerController#reload(ElementsDiff, java.util.function.BiConsumer)} with the merge action.
+   * The current element is unchanged as by {@link #of(ElementsSnapshot, List)}.
+   *
+   * @param snapshot the snapshot of the current elements
+   * @param elements the new elements
+   * @param <I>      the type of the id of the elements
+   * @param <E>      the type of the elements
+   * @return the diff of the new elements
+   */
+  public static <I, E extends Identifiable<I>> ElementsDiff<I, E> ofMerged(ElementsSnapshot<E> snapshot, List<E> elements) {
+    return new ElementsDiff<>(requireNonNull(snapshot), elements, true);
+  }
+
+  /**
+   * Returns the new element with the id.
+   *
+   * @param id the id
+   * @return the new element, or {@code null} if there is none
+   */
+  E get(I id) {
+    return id != null ? elementsById.get(id) : null;
+  }
+
+  /**
+   * Returns the plan computed from the snapshot if the snapshot is up to date and the plan was computed for the same reload, otherwise {@code null}.
+   *
+   * @param list        the current list
+   * @param listVersion the current number of changes of the list
+   * @param merging     {@code true} if the changed elements are merged, {@code false} if they are replaced
+   * @return the plan computed from the snapshot, or {@code null}
+   */
+  Plan<E> getPlan(List<E> list, long listVersion, boolean merging) {
+    if (snapshot == null || this.merging != merging || !snapshot.isCurrent(list, listVersion)) {
+      return null;
+    }
+    return plan;
+  }
+
+  /**
+   * Computes the plan of the reload of the current elements. The reloaded elements are in the order of the loaded elements.
+   * The kept current elements missing in the diff are placed after the reloaded element they follow in the current list.
+   * Only the ids and the values of the current elements captured by the snapshot are read, so the plan could be computed off the JavaFX thread.
+   *
+   * @param current the snapshot of the current elements
+   * @param merging {@code true} if the changed elements are merged, {@code false} if they are replaced
+   * @return the plan of the reload
+   */
+  Plan<E> plan(ElementsSnapshot<E> current, boolean merging) {
+    Map<Object, ElementsSnapshot.Entry<E>> currentById = HashMap.newHashMap(current.getEntries().size());
+    Map<E, List<E>> keptAfter = new IdentityHashMap<>();
+    List<E> keptFirst = new ArrayList<>();
+    E anchor = null;
+    for (var entry : current.getEntries()) {
+      if (entry.id() != null && elementsById.containsKey(entry.id())) {
+        currentById.put(entry.id(), entry);
+        anchor = entry.element();
+      } else if (entry.kept()) {
+        if (anchor == null) {
+          keptFirst.add(entry.element());
+        } else {
+          keptAfter.computeIfAbsent(anchor, key -> new ArrayList<>()).add(entry.element());
+        }
+      }
+    }
+
+    Map<E, E> merges = new IdentityHashMap<>();
+    List<E> reloaded = new ArrayList<>(elements.size() + keptFirst.size());
+    reloaded.addAll(keptFirst);
+    for (E loaded : elements) {
+      var currentEntry = loaded.getId() != null ? currentById.get(loaded.getId()) : null;
+      var element = loaded;
+      if (currentEntry != null) {
+        if (currentEntry.kept() || isUnchanged(currentEntry.values(), loaded)) {
+          element = currentEntry.element();
+        } else if (merging) {
+          merges.put(currentEntry.element(), loaded);
+          element = currentEntry.element();
+        }
+      }
+      reloaded.add(element);
+      if (currentEntry != null && keptAfter.containsKey(currentEntry.element())) {
+        reloaded.addAll(keptAfter.get(currentEntry.element()));
+      }
+    }
+    return new Plan<>(reloaded, merges, replaced(current.getElements(), reloaded), ranges(current.getElements(), reloaded));
+  }
+
+  /**
+   * Returns the current elements missing in the reloaded elements.
+   *
+   * @param current  the current elements
+   * @param reloaded the reloaded elements
+   * @return the removed or replaced current elements
+   */
+  private static <E> Set<E> replaced(List<E> current, List<E> reloaded) {
+    Set<E> reloadedElements = Collections.newSetFromMap(new IdentityHashMap<>(reloaded.size()));
+    reloadedElements.addAll(reloaded);
+    Set<E> replaced = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (E element : current) {
+      if (!reloadedElements.contains(element)) {
+        replaced.add(element);
+      }
+    }
+    return replaced;
+  }
+
+  /**
+   * Returns the range changes turning the current elements into the reloaded elements. The elements between the kept elements are replaced,
+   * from the end of the list so the positions of the preceding elements stay valid.
+   *
+   * @param current  the current elements
+   * @param reloaded the reloaded elements
+   * @return the range changes, or {@code null} if the order of the kept elements changed and the whole list has to be set
+   */
+  private static <E> List<Range<E>> ranges(List<E> current, List<E> reloaded) {
+    Map<E, Integer> currentPositions = new IdentityHashMap<>(current.size());
+    for (int i = 0; i < current.size(); i++) {
+      currentPositions.put(current.get(i), i);
+    }
+    List<int[]> kept = new ArrayList<>();
+    int lastPosition = -1;
+    for (int i = 0; i < reloaded.size(); i++) {
+      var position = currentPositions.get(reloaded.get(i));
+      if (position != null) {
+        if (position < lastPosition) {
+          return null;
+        }
+        kept.add(new int[]{position, i});
+        lastPosition = position;
+      }
+    }
+    List<Range<E>> ranges = new ArrayList<>();
+    int currentTo = current.size();
+    int reloadedTo = reloaded.size();
+    for (int k = kept.size(); k >= 0; k--) {
+      int currentFrom = k > 0 ? kept.get(k - 1)[0] + 1 : 0;
+      int reloadedFrom = k > 0 ? kept.get(k - 1)[1] + 1 : 0;
+      if (currentFrom < currentTo || reloadedFrom < reloadedTo) {
+        ranges.add(new Range<>(currentFrom, currentTo, List.copyOf(reloaded.subList(reloadedFrom, reloadedTo))));
+      }
+      currentTo = currentFrom - 1;
+      reloadedTo = reloadedFrom - 1;
+    }
+    return ranges;
+  }
+
+  /**
+   * Returns the values of the element compared by the diff, the values of the {@link DirtyModel}, see {@link DirtyModel#getValues()},
+   * or the element itself otherwise.
+   *
+   * @param element the element
+   * @return the compared values, or {@code null} if the element could not be compared
+   */
+  static Object valuesOf(Object element) {
+    return element instanceof DirtyModel model ? model.getValues() : element;
+  }
+
+  /**
+   * Returns {@code true} if the captured values of the current element are the same as the values of the loaded element.
+   *
+   * @param currentValues the values of the current element captured by the snapshot
+   * @param loaded        the loaded element
+   * @return {@code true} if the elements are the same
+   */
+  private static boolean isUnchanged(Object currentValues, Object loaded) {
+    return currentValues != null && currentValues.equals(valuesOf(loaded));
+  }
+
+  /**
+   * The plan of the reload.
+   *
+   * @param reloaded the reloaded elements
+   * @param merges   the loaded elements to merge into the current elements
+   * @param replaced the current elements removed or replaced by the reload
+   * @param ranges   the range changes of the list, or {@code null} if the whole list is set
+   * @param <E>      the type of the elements
+   */
+  record Plan<E>(List<E> reloaded, Map<E, E> merges, Set<E> replaced, List<Range<E>> ranges) {
+  }
+
+  /**
+   * The range change of the list replacing the current elements in the range by the added elements.
+   *
+   * @param from  the first replaced position
+   * @param to    the position after the last replaced position
+   * @param added the added elements
+   * @param <E>   the type of the elements
+   */
+  record Range<E>(int from, int to, List<E> added) {
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.controller.impl;
+
+import java.util.List;
+
+/**
+ * The snapshot of the current elements of the {@link OperableManagerController} taken in the JavaFX thread by {@link OperableManagerController#snapshot()}.
+ * The {@link ElementsDiff} created from the snapshot matches the loaded elements off the JavaFX thread, so the JavaFX thread only applies the changes.
+ * The ids and the compared values of the current elements are captured by the snapshot, so the diff does not read the properties
+ * of the current elements off the JavaFX thread.
+ *
+ * @param <E> the type of the elements
+ */
+public final class ElementsSnapshot<E> {
+  /** The list the snapshot was taken from. */
+  private final List<E> source;
+  /** The current elements in their order. */
+  private final List<E> elements;
+  /** The captured state of the current elements in their order. */
+  private final List<Entry<E>> entries;
+  /** The number of changes of the source list when the snapshot was taken. */
+  private final long version;
+
+  /**
+   * Creates a new snapshot of the current elements.
+   *
+   * @param source  the list the snapshot was taken from
+   * @param entries the captured state of the current elements
+   * @param version the number of changes of the source list
+   */
+  ElementsSnapshot(List<E> source, List<Entry<E>> entries, long version) {
+    this.source = source;
+    this.elements = entries.stream().map(Entry::element).toList();
+    this.entries = entries;
+    this.version = version;
+  }
+
+  /**
+   * Returns the current elements in their order.
+   *
+   * @return the current elements
+   */
+  List<E> getElements() {
+    return elements;
+  }
+
+  /**
+   * Returns the captured state of the current elements in their order.
+   *
+   * @return the captured state of the current elements
+   */
+  List<Entry<E>> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Returns {@code true} if the snapshot was taken from the list and the list has not changed since.
+   *
+   * @param list        the list
+   * @param listVersion the current number of changes of the list
+   * @return {@code true} if the snapshot is up to date
+   */
+  boolean isCurrent(List<E> list, long listVersion) {
+    return source == list && version == listVersion;
+  }
+
+  /**
+   * The state of the current element captured by the snapshot.
+   *
+   * @param element the current element
+   * @param id      the id of the element
+   * @param kept    {@code true} if the element was dirty or transient, so it is kept by the reload
+   * @param values  the values compared with the loaded element, see {@link ElementsDiff#valuesOf(Object)}, {@code null} for the kept element
+   * @param <E>     the type of the elements
+   */
+  record Entry<E>(E element, Object id, boolean kept, Object values) {
+  }
+}
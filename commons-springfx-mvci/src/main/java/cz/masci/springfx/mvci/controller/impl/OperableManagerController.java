@@ -19,19 +19,27 @@
 
 package cz.masci.springfx.mvci.controller.impl;
 
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
 import cz.masci.springfx.mvci.model.detail.DetailModel;
 import cz.masci.springfx.mvci.model.detail.DirtyModel;
+import cz.masci.springfx.mvci.model.list.DirtyElements;
 import cz.masci.springfx.mvci.model.list.Focusable;
 import cz.masci.springfx.mvci.model.list.Removable;
 import cz.masci.springfx.mvci.model.list.Selectable;
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
 import io.github.palexdev.materialfx.validation.Validated;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 
 /**
@@ -51,9 +59,19 @@ public class OperableManagerController<I, E extends DetailModel<I>> {
   private final Removable<E> removable;
   /** The observable list of managed elements. */
   private final ObservableList<E> elements;
+  /** The index of the dirty elements, {@code null} if the model does not provide it. */
+  private DirtyElements<E> dirtyElements;
+  /** The name of the save batches used in metrics. */
+  @Setter
+  private String metricsName = "default";
+  /** The number of changes of the elements, counted since the first snapshot to check the snapshots are up to date. */
+  private long elementsVersion;
+  /** Counts the changes of the elements, {@code null} until the first snapshot. */
+  private ListChangeListener<E> versionListener;
 
   /**
    * Convenience constructor that accepts a model implementing all three list capabilities.
+   * If the model implements {@link DirtyElements} as well, its index is used to find the dirty elements.
    *
    * @param model    a model implementing {@link Selectable}, {@link Focusable}, and {@link Removable}
    * @param elements the observable list of managed elements
@@ -64,6 +82,11 @@ public class OperableManagerController<I, E extends DetailModel<I>> {
     this.selectable = model;
     this.focusable = model;
     this.removable = model;
+    if (model instanceof DirtyElements<?>) {
+      @SuppressWarnings("unchecked")
+      var modelDirtyElements = (DirtyElements<E>) model;
+      this.dirtyElements = modelDirtyElements;
+    }
   }
 
   /**
@@ -96,31 +119,126 @@ public class OperableManagerController<I, E extends DetailModel<I>> {
     elements.addAll(newElements);
   }
 
+  /**
+   * Takes the snapshot of the current elements used by {@link ElementsDiff#of(ElementsSnapshot, List)} to compute the reload off the JavaFX thread.
+   * Captures the ids and the values of the current elements compared by the diff.
+   * Must be called in the JavaFX thread, e.g. right before the background task loading the elements is started.
+   *
+   * @return the snapshot of the current elements
+   */
+  public ElementsSnapshot<E> snapshot() {
+    if (versionListener == null) {
+      versionListener = change -> elementsVersion++;
+      elements.addListener(versionListener);
+    }
+    List<ElementsSnapshot.Entry<E>> entries = new ArrayList<>(elements.size());
+    for (E element : elements) {
+      boolean kept = element.isDirty() || element.isTransient();
+      entries.add(new ElementsSnapshot.Entry<>(element, element.getId(), kept, kept ? null : ElementsDiff.valuesOf(element)));
+    }
+    return new ElementsSnapshot<>(elements, entries, elementsVersion);
+  }
+
+  /**
+   * Reloads the elements from the given list, applying only the differences to the current elements. See {@link #reload(ElementsDiff, BiConsumer)}.
+   *
+   * @param newElements the list of the loaded elements
+   */
+  public void reload(List<E> newElements) {
+    reload(ElementsDiff.of(newElements), null);
+  }
+
+  /**
+   * Reloads the elements from the diff, applying only the differences to the current elements. See {@link #reload(ElementsDiff, BiConsumer)}.
+   *
+   * @param diff the diff of the loaded elements, could be created off the JavaFX thread
+   */
+  public void reload(ElementsDiff<I, E> diff) {
+    reload(diff, null);
+  }
+
+  /**
+   * Reloads the elements from the diff, applying only the differences to the current elements matched by id.
+   * Unlike {@link #addAll(List)}, the unchanged rows and the selection are kept.
+   * <ul>
+   *   <li>The loaded element without the current element is inserted.</li>
+   *   <li>The current element without the loaded element is removed, unless it is dirty or transient.</li>
+   *   <li>The dirty current element is kept, so the user's edits are never overwritten.</li>
+   *   <li>The not dirty current element with the same values as the loaded element is kept as is.</li>
+   *   <li>The other not dirty current element is updated by the merge action and rebaselined, or replaced by the loaded element if the merge action is {@code null}.</li>
+   * </ul>
+   * If the diff was created from the {@link #snapshot()} and neither the list nor the removed or replaced elements changed since, the changes computed
+   * by the diff are applied. Otherwise, they are computed from the current elements.
+   * The elements are updated in the {@link ModelBatch}. The runs of inserted, removed or replaced elements are applied as range changes of the list,
+   * or the whole list is set at once if the order of the kept elements changed.
+   * If the selected element is replaced, the replacing element is selected. If it is removed, the selection is cleared.
+   *
+   * @param diff        the diff of the loaded elements, could be created off the JavaFX thread
+   * @param mergeAction the action copying the loaded element (second argument) into the current element (first argument), could be {@code null}
+   */
+  public void reload(ElementsDiff<I, E> diff, BiConsumer<E, E> mergeAction) {
+    ModelBatch.run(() -> {
+      var selected = selectable.getSelectedElement();
+      var plan = reloadPlan(diff, mergeAction != null);
+      plan.merges().forEach((current, loaded) -> {
+        if (!current.isDirty()) {
+          mergeAction.accept(current, loaded);
+          current.rebaseline();
+        }
+      });
+      applyPlan(plan);
+      if (selected != null && plan.replaced().contains(selected)) {
+        selectable.select(diff.get(selected.getId()));
+      }
+    });
+  }
+
   /**
    * Updates the elements in the list of elements managed by the OperableManagerController.
    * 1. Filters the dirty elements that are valid.
    * 2. For each valid dirty element, the updateAction is executed by accepting the element and the updatedElement consumer.
    * 3. If the element is transient, the id of the element is set to the id of the updatedElement.
    * 4. The element is rebaselined.
+   * The elements are updated in the order returned by {@link #getDirtyElements()}.
+   * The size and the duration of the batch are recorded by {@link SpringFxMetrics#getRecorder()} when the last element is updated,
+   * so the duration includes the asynchronous saves. The batch with an element never updated, e.g. because its save failed, is not recorded.
+   * The update action could save only the changed fields provided by {@link DetailModel#getChanges()}, e.g. by {@code CrudService.saveChanges}.
    *
    * @param updateAction the action to update the element
    *                    Accepts the element to be updated and the consumer to accept the updated element
    *                    The consumer is responsible for updating the element and can provide the updated element
    */
   public void update(BiConsumer<E, Consumer<E>> updateAction) {
-    getDirtyElements().filter(Validated::isValid)
-                      .forEach(element -> updateAction.accept(element, updatedElement -> {
-                        if (element.isTransient()) {
-                          element.setId(updatedElement.getId());
-                        }
-                        element.rebaseline();
-                      }));
+    long start = System.nanoTime();
+    var validDirtyElements = getDirtyElements().filter(Validated::isValid).toList();
+    var pending = new AtomicInteger(validDirtyElements.size());
+    Runnable recordBatch = () -> {
+      if (SpringFxMetrics.isEnabled()) {
+        SpringFxMetrics.getRecorder().saveBatch(metricsName, validDirtyElements.size(), Duration.ofNanos(System.nanoTime() - start));
+      }
+    };
+    if (validDirtyElements.isEmpty()) {
+      recordBatch.run();
+    }
+    validDirtyElements.forEach(element -> {
+      var updated = new AtomicBoolean();
+      updateAction.accept(element, updatedElement -> {
+        if (element.isTransient()) {
+          element.setId(updatedElement.getId());
+        }
+        element.rebaseline();
+        if (!updated.getAndSet(true) && pending.decrementAndGet() == 0) {
+          recordBatch.run();
+        }
+      });
+    });
   }
 
   /**
    * Discards changes made to the dirty elements in the list of elements managed by the OperableManagerController.
-   * If an element is transient, it is removed from the list.
+   * If an element is transient, it is removed from the list. All transient elements are removed at once by {@link Removable#removeAll}.
    * If an element is not transient, it is reset to its original state.
+   * The elements are discarded in the order returned by {@link #getDirtyElements()}.
    */
   public void discard() {
     var elementsToRemove = new ArrayList<E>();
@@ -131,15 +249,59 @@ public class OperableManagerController<I, E extends DetailModel<I>> {
         element.reset();
       }
     });
-    elementsToRemove.forEach(removable::remove);
+    if (!elementsToRemove.isEmpty()) {
+      removable.removeAll(elementsToRemove);
+    }
+  }
+
+  /**
+   * Returns the plan of the reload computed by the diff if it is still applicable, otherwise computes it from the current elements.
+   * The plan is applicable if the list has not changed since the snapshot and none of the removed or replaced elements became dirty.
+   *
+   * @param diff    the diff of the loaded elements
+   * @param merging {@code true} if the changed elements are merged, {@code false} if they are replaced
+   * @return the plan of the reload
+   */
+  private ElementsDiff.Plan<E> reloadPlan(ElementsDiff<I, E> diff, boolean merging) {
+    var plan = diff.getPlan(elements, elementsVersion, merging);
+    if (plan != null && plan.replaced().stream().noneMatch(DirtyModel::isDirty)) {
+      return plan;
+    }
+    return diff.plan(snapshot(), merging);
+  }
+
+  /**
+   * Applies the plan of the reload to the list, by its range changes or by setting the whole list.
+   *
+   * @param plan the plan of the reload
+   */
+  private void applyPlan(ElementsDiff.Plan<E> plan) {
+    if (plan.ranges() == null) {
+      elements.setAll(plan.reloaded());
+      return;
+    }
+    for (var range : plan.ranges()) {
+      if (range.from() < range.to()) {
+        elements.remove(range.from(), range.to());
+      }
+      if (!range.added().isEmpty()) {
+        elements.addAll(range.from(), range.added());
+      }
+    }
   }
 
   /**
    * Returns a stream of elements that currently have unsaved (dirty) changes.
+   * The stream is taken from a snapshot of the dirty elements index if available, so the elements could be rebaselined or removed while streaming.
+   * The indexed elements are streamed in the order they became dirty, not in the list order, so the cost does not depend on the list size.
+   * Otherwise, all elements are filtered in the list order.
    *
    * @return stream of dirty elements
    */
   protected Stream<E> getDirtyElements() {
+    if (dirtyElements != null) {
+      return List.copyOf(dirtyElements.getDirtyElements()).stream();
+    }
     return elements.stream().filter(DirtyModel::isDirty);
   }
 }
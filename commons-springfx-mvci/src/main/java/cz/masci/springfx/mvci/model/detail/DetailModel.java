@@ -19,10 +19,21 @@
 
 package cz.masci.springfx.mvci.model.detail;
 
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+
 /**
  * Composite model interface combining dirty tracking, validation and identifiability for a detail view element.
  *
  * @param <T> The type of the identifier
  */
 public interface DetailModel<T> extends DirtyModel, ValidModel, IdentifiableModel<T> {
+
+  /**
+   * Runs the updates of the model in the {@link ModelBatch}. The dirty and validation state is recomputed once when the batch commits.
+   *
+   * @param updates the updates of the model
+   */
+  default void batch(Runnable updates) {
+    ModelBatch.run(updates);
+  }
 }
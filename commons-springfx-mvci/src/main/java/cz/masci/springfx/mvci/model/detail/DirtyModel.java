@@ -21,6 +21,10 @@ package cz.masci.springfx.mvci.model.detail;
 
 import static java.util.Objects.requireNonNull;
 
+import cz.masci.commons.springfx.data.FieldChange;
+import cz.masci.springfx.mvci.model.dirty.DirtyComposite;
+import java.util.List;
+import java.util.Map;
 import javafx.beans.value.ObservableValue;
 import org.jetbrains.annotations.NotNull;
 import org.nield.dirtyfx.tracking.CompositeDirtyProperty;
@@ -31,6 +35,7 @@ import org.nield.dirtyfx.tracking.DirtyProperty;
  * Simplifies implementation of the DirtyProperty for composite object.
  * <p>
  *   Only {@link DirtyModel#getComposite()} has to be defined and all {@link DirtyProperty} methods could be used targeting the composite property.
+ *   Models tracking the dirty state by other composite, e.g. {@link DirtyComposite}, override {@link DirtyModel#getDirtyComposite()} as well.
  * </p>
  */
 public interface DirtyModel extends DirtyProperty {
@@ -39,35 +44,79 @@ public interface DirtyModel extends DirtyProperty {
    * Returns the composite dirty property aggregating all tracked dirty properties.
    *
    * @return the {@link CompositeDirtyProperty} for this model
+   * @deprecated use {@link #getDirtyComposite()} which is not bound to the {@link CompositeDirtyProperty}
    */
+  @Deprecated
   CompositeDirtyProperty getComposite();
 
+  /**
+   * Returns the dirty property aggregating all tracked dirty properties. The {@link DirtyProperty} methods of the model target this property.
+   * Defaults to {@link #getComposite()}.
+   *
+   * @return the composite dirty property for this model, e.g. {@link DirtyComposite}
+   */
+  default DirtyProperty getDirtyComposite() {
+    return getComposite();
+  }
+
+  /**
+   * Returns {@code true} if the other model has the same current values. Compares the fields of the {@link DirtyComposite} by their names,
+   * see {@link DirtyComposite#hasSameValues(DirtyComposite)}. The models tracked by other composites are never the same.
+   *
+   * @param other the other model
+   * @return {@code true} if the current values of the models are the same
+   */
+  default boolean hasSameValues(DirtyModel other) {
+    var values = getValues();
+    return values != null && values.equals(other.getValues());
+  }
+
+  /**
+   * Returns the copy of the current values of the fields of the {@link DirtyComposite}, see {@link DirtyComposite#getValues()}.
+   * The values captured in the JavaFX thread could be compared with the values of another model off the JavaFX thread.
+   *
+   * @return the current values, or {@code null} if the model is tracked by other composite or a field does not provide its value
+   */
+  default Map<Object, Object> getValues() {
+    return getDirtyComposite() instanceof DirtyComposite composite ? composite.getValues() : null;
+  }
+
   @Override
   default boolean isDirty() {
-    requireNonNull(getComposite());
+    requireNonNull(getDirtyComposite());
 
-    return getComposite().isDirty();
+    return getDirtyComposite().isDirty();
   }
 
   @NotNull
   @Override
   default ObservableValue<Boolean> isDirtyProperty() {
-    requireNonNull(getComposite());
+    requireNonNull(getDirtyComposite());
 
-    return getComposite().isDirtyProperty();
+    return getDirtyComposite().isDirtyProperty();
+  }
+
+  /**
+   * Returns the changes of the dirty fields with original and current values for delta saves.
+   * The changes are provided by the {@link DirtyComposite}, other composites provide no changes.
+   *
+   * @return the field changes
+   */
+  default List<FieldChange> getChanges() {
+    return getDirtyComposite() instanceof DirtyComposite dirtyComposite ? dirtyComposite.getChanges() : List.of();
   }
 
   @Override
   default void rebaseline() {
-    requireNonNull(getComposite());
+    requireNonNull(getDirtyComposite());
 
-    getComposite().rebaseline();
+    getDirtyComposite().rebaseline();
   }
 
   @Override
   default void reset() {
-    requireNonNull(getComposite());
+    requireNonNull(getDirtyComposite());
 
-    getComposite().reset();
+    getDirtyComposite().reset();
   }
 }
@@ -19,29 +19,114 @@
 
 package cz.masci.springfx.mvci.model.detail.impl;
 
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
 import cz.masci.springfx.mvci.model.detail.DetailModel;
+import cz.masci.springfx.mvci.model.dirty.DirtyComposite;
 import io.github.palexdev.materialfx.validation.Constraint;
 import io.github.palexdev.materialfx.validation.MFXValidator;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
+import javafx.beans.binding.Binding;
 import javafx.beans.binding.BooleanExpression;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanPropertyBase;
 import javafx.beans.property.SimpleObjectProperty;
-import lombok.Getter;
+import javafx.beans.value.ChangeListener;
 import org.nield.dirtyfx.tracking.CompositeDirtyProperty;
 import org.nield.dirtyfx.tracking.DirtyProperty;
 
 /**
  * Abstract base implementation of {@link DetailModel} providing common id, dirty tracking and validation support.
+ * <p>
+ *   The validator and its constraints are created on the first access to {@link #getValidator()}, {@link #validProperty()}, {@link #isValid()}
+ *   or when the model is dirtied first time. Constraints registered by {@link #addConstraints(Supplier[])} are built only then.
+ *   On rebaseline or reset, the validator is released if its valid property is not observed, so unselected rows do not pay for the validation listeners.
+ *   The validator of the clean model is released also when the last listener of its valid property is removed, e.g. when the view of the deselected row unbinds.
+ *   The listeners of the collected weak listeners, e.g. of the dropped bindings, do not count.
+ *   The condition bindings of the constraints built by the factories are disposed then, the constraints registered by {@link #addConstraints(Constraint[])}
+ *   are kept for the next validator.
+ * </p>
  *
  * @param <T> The type of the identifier
  */
 public abstract class BaseDetailModel<T> implements DetailModel<T> {
   /** The property holding the identifier of this model. */
   private final ObjectProperty<T> id = new SimpleObjectProperty<>();
-  @Getter
-  private final CompositeDirtyProperty composite = new CompositeDirtyProperty();
-  @Getter
-  private final MFXValidator validator = new MFXValidator();
+  /** The composite tracking the dirty state of the registered properties. */
+  private final DirtyComposite composite = new DirtyComposite();
+  /** The {@link CompositeDirtyProperty} wrapping the composite, created on the first request. */
+  private CompositeDirtyProperty legacyComposite;
+  /** The factories of the constraints registered with the validator when it is created. */
+  private final List<Supplier<Constraint>> constraintFactories = new ArrayList<>(1);
+  /** The constraints registered with the current validator. */
+  private List<Constraint> constraints = List.of();
+  /** The validator, created on the first access. */
+  private BatchValidator validator;
+
+  /**
+   * Creates a new {@code BaseDetailModel} creating the validator when the model is dirtied.
+   */
+  protected BaseDetailModel() {
+    composite.isDirtyProperty().addListener((observable, oldValue, dirty) -> {
+      if (Boolean.TRUE.equals(dirty)) {
+        validator();
+      }
+    });
+  }
+
+  @Override
+  public DirtyComposite getDirtyComposite() {
+    return composite;
+  }
+
+  /**
+   * Returns the {@link CompositeDirtyProperty} wrapping the {@link #getDirtyComposite()}. It is dirty when the model is dirty and rebaselines
+   * or resets the model. Properties added to the returned composite are not tracked by the model, use {@link #addComposite(String, DirtyProperty)}.
+   *
+   * @return the composite dirty property wrapping the model composite
+   * @deprecated use {@link #getDirtyComposite()}
+   */
+  @Deprecated
+  @Override
+  public CompositeDirtyProperty getComposite() {
+    if (legacyComposite == null) {
+      legacyComposite = new CompositeDirtyProperty();
+      legacyComposite.add(composite);
+    }
+    return legacyComposite;
+  }
+
+  @Override
+  public MFXValidator getValidator() {
+    return validator();
+  }
+
+  @Override
+  public boolean isValid() {
+    return validator().isValid();
+  }
+
+  @Override
+  public List<Constraint> validate() {
+    return validator().validate();
+  }
+
+  @Override
+  public void rebaseline() {
+    DetailModel.super.rebaseline();
+    releaseValidator();
+  }
+
+  @Override
+  public void reset() {
+    DetailModel.super.reset();
+    releaseValidator();
+  }
 
   @Override
   public ObjectProperty<T> idProperty() {
@@ -54,7 +139,8 @@ public abstract class BaseDetailModel<T> implements DetailModel<T> {
   }
 
   /**
-   * Registers the given dirty properties with the composite dirty tracker.
+   * Registers the given dirty properties with the composite dirty tracker. The properties are named by their property name,
+   * only the named properties are reported in the {@link #getChanges()}, otherwise use {@link #addComposite(String, DirtyProperty)}.
    *
    * @param properties the dirty properties to add
    */
@@ -63,11 +149,237 @@ public abstract class BaseDetailModel<T> implements DetailModel<T> {
   }
 
   /**
-   * Registers the given constraints with the validator.
+   * Registers the named dirty property with the composite dirty tracker. The name is reported in the {@link #getChanges()}.
+   *
+   * @param name     the name of the field
+   * @param property the dirty property to add
+   * @throws IllegalArgumentException if the name is blank
+   */
+  protected void addComposite(String name, DirtyProperty property) {
+    composite.add(name, property);
+  }
+
+  /**
+   * Registers the given constraints with the validator. The constraints are registered when the validator is created.
    *
    * @param constraints the constraints to add
    */
   protected void addConstraints(Constraint ...constraints) {
-    Arrays.stream(constraints).forEach(validator::constraint);
+    Arrays.stream(constraints).forEach(constraint -> addConstraintFactory(new SharedConstraint(constraint)));
+  }
+
+  /**
+   * Registers the factories of the constraints. The constraints and their bindings are built when the validator is created.
+   * Usage example:
+   * <pre>{@code
+   * addConstraints(() -> ConstraintUtils.isNotEmpty(name, "Name"));
+   * }</pre>
+   *
+   * @param factories the factories of the constraints to add
+   */
+  @SafeVarargs
+  protected final void addConstraints(Supplier<Constraint>... factories) {
+    Arrays.stream(factories).forEach(this::addConstraintFactory);
+  }
+
+  /**
+   * Adds the constraint factory and registers its constraint if the validator is already created.
+   *
+   * @param factory the factory of the constraint
+   */
+  private void addConstraintFactory(Supplier<Constraint> factory) {
+    constraintFactories.add(factory);
+    if (validator != null) {
+      registerConstraint(factory);
+    }
+  }
+
+  /**
+   * Returns the validator, creates it and registers the constraints if not created yet.
+   *
+   * @return the validator
+   */
+  private MFXValidator validator() {
+    if (validator == null) {
+      validator = new BatchValidator(this::onValidatorUnobserved);
+      constraints = new ArrayList<>(constraintFactories.size());
+      constraintFactories.forEach(this::registerConstraint);
+    }
+    return validator;
+  }
+
+  /**
+   * Builds the constraint and registers it with the validator.
+   *
+   * @param factory the factory of the constraint
+   */
+  private void registerConstraint(Supplier<Constraint> factory) {
+    var constraint = factory.get();
+    constraints.add(constraint);
+    validator.constraint(constraint);
+  }
+
+  /**
+   * Releases the validator of the clean model when its valid property is not observed anymore.
+   */
+  private void onValidatorUnobserved() {
+    if (!isDirty()) {
+      releaseValidator();
+    }
+  }
+
+  /**
+   * Releases the validator and detaches it from the constraints if its valid property is not observed. The condition bindings of the constraints
+   * built by the factories are disposed.
+   */
+  private void releaseValidator() {
+    if (validator == null || validator.isObserved()) {
+      return;
+    }
+    // the constraints are built in the order of their factories
+    for (int i = 0; i < constraints.size(); i++) {
+      var constraint = constraints.get(i);
+      validator.removeConstraint(constraint);
+      if (!(constraintFactories.get(i) instanceof SharedConstraint) && constraint.getCondition() instanceof Binding<?> binding) {
+        binding.dispose();
+      }
+    }
+    constraints = List.of();
+    validator = null;
+  }
+
+  /**
+   * The factory returning the constraint registered as an instance. The constraint is reused by every validator, so its condition is not disposed.
+   *
+   * @param constraint the registered constraint
+   */
+  private record SharedConstraint(Constraint constraint) implements Supplier<Constraint> {
+    @Override
+    public Constraint get() {
+      return constraint;
+    }
+  }
+
+  /**
+   * Validator deferring the validation update to the end of the {@link ModelBatch} if any. Its valid property tracks the listeners,
+   * so the validator is released when nobody observes it.
+   */
+  private static class BatchValidator extends MFXValidator {
+    /** Updates the validation state. */
+    private final Runnable validRecomputation = super::update;
+    /** The valid property tracking its listeners. */
+    private final ObservedValidProperty valid;
+
+    /**
+     * Creates a new validator.
+     *
+     * @param onUnobserved the command executed when the last listener of the valid property is removed
+     */
+    BatchValidator(Runnable onUnobserved) {
+      valid = new ObservedValidProperty(super.validProperty(), onUnobserved);
+    }
+
+    @Override
+    public void update() {
+      ModelBatch.recompute(validRecomputation);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty validProperty() {
+      return valid;
+    }
+
+    /**
+     * Returns {@code true} if the valid property has a listener, the collected weak listeners are not counted.
+     *
+     * @return {@code true} if the valid property is observed
+     */
+    boolean isObserved() {
+      return valid.isObserved();
+    }
+  }
+
+  /**
+   * The valid property of the validator forwarding its value and tracking its listeners.
+   */
+  private static class ObservedValidProperty extends ReadOnlyBooleanPropertyBase {
+    /** The valid property of the validator. */
+    private final ReadOnlyBooleanProperty valid;
+    /** The command executed when the last listener is removed. */
+    private final Runnable onUnobserved;
+    /** The registered listeners. */
+    private final List<Object> listeners = new ArrayList<>(1);
+
+    /**
+     * Creates a new property forwarding the valid property of the validator.
+     *
+     * @param valid        the valid property of the validator
+     * @param onUnobserved the command executed when the last listener is removed
+     */
+    ObservedValidProperty(ReadOnlyBooleanProperty valid, Runnable onUnobserved) {
+      this.valid = valid;
+      this.onUnobserved = onUnobserved;
+      valid.addListener(observable -> fireValueChangedEvent());
+    }
+
+    @Override
+    public boolean get() {
+      return valid.get();
+    }
+
+    @Override
+    public Object getBean() {
+      return valid.getBean();
+    }
+
+    @Override
+    public String getName() {
+      return valid.getName();
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+      super.addListener(listener);
+      listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+      super.removeListener(listener);
+      removed(listener);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super Boolean> listener) {
+      super.addListener(listener);
+      listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super Boolean> listener) {
+      super.removeListener(listener);
+      removed(listener);
+    }
+
+    /**
+     * Returns {@code true} if a listener is registered, the collected weak listeners are dropped.
+     *
+     * @return {@code true} if the property is observed
+     */
+    boolean isObserved() {
+      listeners.removeIf(listener -> listener instanceof WeakListener weakListener && weakListener.wasGarbageCollected());
+      return !listeners.isEmpty();
+    }
+
+    /**
+     * Forgets the removed listener and runs the command if it was the last one.
+     *
+     * @param listener the removed listener
+     */
+    private void removed(Object listener) {
+      if (listeners.remove(listener) && !isObserved()) {
+        onUnobserved.run();
+      }
+    }
   }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.commons.springfx.data.FieldChange;
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+import org.nield.dirtyfx.tracking.DirtyProperty;
+
+/**
+ * Composite dirty property tracking the dirty state of its children.
+ *
+ * <p>
+ *   The dirty children are tracked incrementally from their dirty events, so the composite is dirty when at least one child is dirty
+ *   and {@link #rebaseline()} and {@link #reset()} visit only the dirty children. Saving or discarding a wide model costs as much as the edits made.
+ *   The library dirty properties notify the composite directly, so their observable dirty properties are not created.
+ * </p>
+ * <p>
+ *   The changes of the named dirty children implementing {@link DirtyValue} are provided by {@link #getChanges()} for delta saves.
+ *   The unnamed children are tracked as well, but their changes are not reported.
+ * </p>
+ * <p>
+ *   Inside the {@link ModelBatch} the dirty state of the children may not be recomputed yet, so all children are rebaselined or reset.
+ * </p>
+ */
+public class DirtyComposite implements DirtyProperty {
+
+  /** The children with their names and dirty listeners. */
+  private final Map<DirtyProperty, Child> children = new IdentityHashMap<>();
+  /** The currently dirty children. */
+  private final Set<DirtyProperty> dirtyChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+  /** Tracks whether any child is dirty. */
+  private final BooleanProperty isDirty = new SimpleBooleanProperty(false);
+  /** The observer of the library dirty children, notified without their observable dirty property. */
+  private final DirtyObserver childObserver = this::onChildDirtyChanged;
+  /** The position of the next added child. */
+  private int nextPosition;
+
+  /**
+   * Adds the children to the composite. The children are named by {@link ReadOnlyProperty#getName()} if available.
+   *
+   * @param properties the children to add
+   */
+  public void addAll(DirtyProperty... properties) {
+    for (DirtyProperty property : properties) {
+      add(property);
+    }
+  }
+
+  /**
+   * Adds the child to the composite. The child is named by {@link ReadOnlyProperty#getName()} if available.
+   * The child without a name is not reported in the changes, use {@link #add(String, DirtyProperty)} to report it.
+   *
+   * @param property the child to add
+   */
+  public void add(DirtyProperty property) {
+    String name = property instanceof ReadOnlyProperty<?> readOnlyProperty ? readOnlyProperty.getName() : null;
+    addChild(name == null || name.isBlank() ? null : name, property);
+  }
+
+  /**
+   * Adds the named child to the composite. The child already present in the composite is ignored.
+   *
+   * @param name     the name of the child reported in the changes
+   * @param property the child to add
+   * @throws IllegalArgumentException if the name is blank
+   */
+  public void add(String name, DirtyProperty property) {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("The name of the dirty property " + property + " must not be blank");
+    }
+    addChild(name, property);
+  }
+
+  /**
+   * Adds the child to the composite. The child already present in the composite is ignored.
+   *
+   * @param name     the name of the child, {@code null} for the child not reported in the changes
+   * @param property the child to add
+   */
+  private void addChild(String name, DirtyProperty property) {
+    requireNonNull(property);
+    if (children.containsKey(property)) {
+      return;
+    }
+    ChangeListener<Boolean> listener = null;
+    if (!DirtyObserver.attach(property, childObserver)) {
+      listener = (observable, oldValue, newValue) -> onChildDirtyChanged(property, Boolean.TRUE.equals(newValue));
+      property.isDirtyProperty().addListener(listener);
+    }
+    children.put(property, new Child(name, nextPosition++, listener));
+    if (property.isDirty()) {
+      onChildDirtyChanged(property, true);
+    }
+  }
+
+  /**
+   * Removes the child from the composite.
+   *
+   * @param property the child to remove
+   */
+  public void remove(DirtyProperty property) {
+    var child = children.remove(property);
+    if (child != null) {
+      if (child.listener() != null) {
+        property.isDirtyProperty().removeListener(child.listener());
+      } else {
+        DirtyObserver.detach(property, childObserver);
+      }
+      onChildDirtyChanged(property, false);
+    }
+  }
+
+  /**
+   * Returns the number of dirty children.
+   *
+   * @return the number of dirty children
+   */
+  public int getDirtyCount() {
+    return dirtyChildren.size();
+  }
+
+  /**
+   * Returns the changes of the named dirty children providing their values, in the order the children were added.
+   * Costs time proportional to the number of dirty children.
+   *
+   * @return the field changes
+   */
+  public List<FieldChange> getChanges() {
+    return dirtyChildren.stream()
+        .filter(property -> property instanceof DirtyValue<?> && children.get(property).name() != null)
+        .sorted(Comparator.comparingInt(property -> children.get(property).position()))
+        .map(property -> new FieldChange(children.get(property).name(), ((DirtyValue<?>) property).getOriginalValue(), ((DirtyValue<?>) property).getValue()))
+        .toList();
+  }
+
+  /**
+   * Returns the current values of the children by their names, the values of the unnamed children by the order they were added.
+   * The returned map is a copy, so the values could be captured in the JavaFX thread and compared later, e.g. off the JavaFX thread.
+   * Costs time proportional to the number of children.
+   *
+   * @return the current values of the children, or {@code null} if a child does not provide its value
+   */
+  public Map<Object, Object> getValues() {
+    Map<Object, Object> values = HashMap.newHashMap(children.size());
+    for (var entry : children.entrySet()) {
+      if (!(entry.getKey() instanceof DirtyValue<?> value)) {
+        return null;
+      }
+      values.put(entry.getValue().key(), value.getValue());
+    }
+    return values;
+  }
+
+  /**
+   * Returns {@code true} if the other composite has the children of the same names with equal current values.
+   * The unnamed children are matched by the order they were added. The composites with a child not providing its value are never the same.
+   * Costs time proportional to the number of children.
+   *
+   * @param other the other composite
+   * @return {@code true} if the current values of the children are the same
+   */
+  public boolean hasSameValues(DirtyComposite other) {
+    var values = getValues();
+    return values != null && values.equals(other.getValues());
+  }
+
+  @Override
+  public boolean isDirty() {
+    return isDirty.get();
+  }
+
+  @NotNull
+  @Override
+  public ObservableValue<Boolean> isDirtyProperty() {
+    return isDirty;
+  }
+
+  @Override
+  public void rebaseline() {
+    childrenToUpdate().forEach(DirtyProperty::rebaseline);
+  }
+
+  @Override
+  public void reset() {
+    childrenToUpdate().forEach(DirtyProperty::reset);
+  }
+
+  /**
+   * Returns the snapshot of the children to rebaseline or reset. These are the dirty children, or all children inside the {@link ModelBatch}.
+   *
+   * @return the children to update
+   */
+  private List<DirtyProperty> childrenToUpdate() {
+    return List.copyOf(ModelBatch.isActive() ? children.keySet() : dirtyChildren);
+  }
+
+  /**
+   * Updates the dirty children and the dirty state of the composite.
+   *
+   * @param property the child
+   * @param dirty    the dirty state of the child
+   */
+  private void onChildDirtyChanged(DirtyProperty property, boolean dirty) {
+    if (dirty) {
+      dirtyChildren.add(property);
+    } else {
+      dirtyChildren.remove(property);
+    }
+    isDirty.set(!dirtyChildren.isEmpty());
+  }
+
+  /**
+   * The child of the composite.
+   *
+   * @param name     the name of the child
+   * @param position the position of the child in the composite
+   * @param listener the dirty listener of the child, {@code null} if the child notifies the composite directly
+   */
+  private record Child(String name, int position, ChangeListener<Boolean> listener) {
+    /**
+     * Returns the key matching the child in other composites, the name or the position of the unnamed child.
+     *
+     * @return the key of the child
+     */
+    Object key() {
+      return name != null ? name : position;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A double property that tracks and manages its "dirty" state.
+ * It extends the SimpleDoubleProperty class and implements the DirtyValue interface.
+ * The values are compared by {@link Double#compare}, so {@code NaN} equals {@code NaN} and {@code 0.0} differs from {@code -0.0}.
+ * <p>
+ *   The original value is kept in a plain field, the dirty flag in the dirty tracker implementing the dirty state of all library dirty properties.
+ *   Their observable properties are created on the first request, so a property whose dirty state is only queried or tracked by {@link DirtyComposite}
+ *   costs two objects instead of a delegate, an original value property, a dirty property and a listener.
+ * </p>
+ */
+public class DirtyDoubleProperty extends SimpleDoubleProperty implements DirtyTracked, DirtyValue<Double> {
+
+  /** Stores the baseline value against which dirty state is compared. */
+  private double originalValue;
+  /** The observable original value, created on the first request. */
+  private DoubleProperty originalValueProperty;
+  /** The dirty state of the property. */
+  private final DirtyTracker<DirtyDoubleProperty> dirtyTracker = new DirtyTracker<>(this, DirtyDoubleProperty::isChanged);
+
+  /**
+   * Creates a new {@code DirtyDoubleProperty} with the given initial value.
+   *
+   * @param initialValue the initial (and baseline) value
+   */
+  public DirtyDoubleProperty(@NotNull Double initialValue) {
+    super(initialValue);
+    originalValue = initialValue;
+  }
+
+  @Override
+  public Double getOriginalValue() {
+    return originalValueProperty != null ? originalValueProperty.get() : originalValue;
+  }
+
+  /**
+   * Returns the observable original value. The property is created on the first request and follows the original value since then.
+   *
+   * @return the original value property
+   */
+  public ObservableDoubleValue originalValueProperty() {
+    if (originalValueProperty == null) {
+      originalValueProperty = new SimpleDoubleProperty(originalValue);
+    }
+    return originalValueProperty;
+  }
+
+  @Override
+  public boolean isDirty() {
+    return dirtyTracker.isDirty();
+  }
+
+  @NotNull
+  @Override
+  public ObservableValue<Boolean> isDirtyProperty() {
+    return dirtyTracker.isDirtyProperty();
+  }
+
+  @Override
+  public void rebaseline() {
+    setOriginalValue(get());
+    dirtyTracker.setDirty(false);
+  }
+
+  @Override
+  public void reset() {
+    set(originalValue);
+    dirtyTracker.setDirty(false);
+  }
+
+  /**
+   * Updates the dirty state whenever the value changes. The update is deferred to the end of the {@link ModelBatch} if any.
+   */
+  @Override
+  protected void invalidated() {
+    dirtyTracker.invalidated();
+  }
+
+  /**
+   * Compares the current value with the original value.
+   *
+   * @return {@code true} if the current value differs from the original value
+   */
+  private boolean isChanged() {
+    return Double.compare(originalValue, get()) != 0;
+  }
+
+  @Override
+  public DirtyTracker<?> dirtyTracker() {
+    return dirtyTracker;
+  }
+
+  /**
+   * Sets the original value and the original value property if it was requested.
+   *
+   * @param newOriginalValue the new original value
+   */
+  private void setOriginalValue(double newOriginalValue) {
+    originalValue = newOriginalValue;
+    if (originalValueProperty != null) {
+      originalValueProperty.set(newOriginalValue);
+    }
+  }
+}
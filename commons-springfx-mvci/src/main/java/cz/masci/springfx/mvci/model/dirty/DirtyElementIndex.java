@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import cz.masci.springfx.mvci.model.list.SparseList;
+import cz.masci.springfx.mvci.util.builder.ListChangeListenerBuilder;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import org.nield.dirtyfx.tracking.DirtyProperty;
+
+/**
+ * Index of the currently dirty elements of the observable list.
+ *
+ * <p>
+ *   The index keeps an insertion-ordered observable set of the dirty elements. The set is updated incrementally from the element dirty events
+ *   and from the list changes, so reading the dirty elements costs time proportional to the number of dirty elements, not to the list size.
+ *   The elements are compared by identity, so the distinct elements equal by {@code equals} are indexed separately
+ *   and an element present in the list multiple times is indexed once.
+ * </p>
+ * <p>
+ *   The number of dirty elements is updated once per list change, so bulk operations like {@code setAll}, {@code addAll} or {@code removeAll}
+ *   notify the count listeners at most once.
+ * </p>
+ * <p>
+ *   The placeholders of the {@link SparseList} are not indexed, only its held elements are visited.
+ * </p>
+ *
+ * @param <E> the type of elements in the list
+ */
+public class DirtyElementIndex<E extends DirtyProperty> {
+
+  /** The dirty elements in the order they became dirty, compared by identity. */
+  private final ObservableSet<E> dirtyElements = FXCollections.observableSet(new IdentityLinkedSet<>());
+  /** The unmodifiable view of the dirty elements. */
+  private final ObservableSet<E> unmodifiableDirtyElements = FXCollections.unmodifiableObservableSet(dirtyElements);
+  /** The number of dirty elements. */
+  private final ReadOnlyIntegerWrapper dirtyCount = new ReadOnlyIntegerWrapper();
+  /** The dirty listeners of the distinct elements in the list, compared by identity. */
+  private final Map<E, ElementListener> elementListeners = new IdentityHashMap<>();
+  /** The indexed list. */
+  private final ObservableList<E> list;
+  /** The indexed list holding only some of its elements, {@code null} if the list holds all elements. */
+  private final SparseList<E> sparseList;
+  /** The listener of the list changes. */
+  private final ListChangeListener<E> listChangeListener;
+
+  /**
+   * Creates a new index of the dirty elements of the list.
+   *
+   * @param list the list to index
+   */
+  public DirtyElementIndex(ObservableList<E> list) {
+    this.list = list;
+    this.sparseList = list instanceof SparseList<E> sparse ? sparse : null;
+    ListChangeListener<E> elementsListener = sparseList != null ? this::onSparseChanged : new ListChangeListenerBuilder<E>()
+        .onAdd(this::onAdd)
+        .onRemove(this::onRemove)
+        .build();
+    this.listChangeListener = change -> {
+      elementsListener.onChanged(change);
+      updateDirtyCount();
+    };
+
+    if (sparseList != null) {
+      sparseList.forEachHeld(0, list.size(), (element, position) -> onAdd(element));
+    } else {
+      list.forEach(this::onAdd);
+    }
+    updateDirtyCount();
+    list.addListener(listChangeListener);
+  }
+
+  /**
+   * Returns the unmodifiable observable set of the dirty elements in the order they became dirty.
+   *
+   * @return the dirty elements
+   */
+  public ObservableSet<E> getDirtyElements() {
+    return unmodifiableDirtyElements;
+  }
+
+  /**
+   * Returns the property holding the number of dirty elements.
+   *
+   * @return the number of dirty elements property
+   */
+  public ReadOnlyIntegerProperty dirtyCountProperty() {
+    return dirtyCount.getReadOnlyProperty();
+  }
+
+  /**
+   * Returns the number of dirty elements.
+   *
+   * @return the number of dirty elements
+   */
+  public int getDirtyCount() {
+    return dirtyElements.size();
+  }
+
+  /**
+   * Stops indexing the list and detaches all listeners.
+   */
+  public void dispose() {
+    list.removeListener(listChangeListener);
+    elementListeners.forEach(this::detach);
+    elementListeners.clear();
+    dirtyElements.clear();
+    updateDirtyCount();
+  }
+
+  /**
+   * Updates the number of dirty elements from the index.
+   */
+  private void updateDirtyCount() {
+    dirtyCount.set(dirtyElements.size());
+  }
+
+  /**
+   * Updates the index from the change of the {@link SparseList}, skipping the placeholders.
+   *
+   * @param change the list change
+   */
+  private void onSparseChanged(ListChangeListener.Change<? extends E> change) {
+    while (change.next()) {
+      if (change.wasAdded() || change.wasRemoved()) {
+        for (E element : change.getRemoved()) {
+          if (!sparseList.isPlaceholder(element)) {
+            onRemove(element);
+          }
+        }
+        sparseList.forEachHeld(change.getFrom(), change.getTo(), (element, position) -> onAdd(element));
+      }
+    }
+  }
+
+  /**
+   * Called when an element is added; attaches the dirty listener to the first occurrence and indexes the element if it is dirty.
+   *
+   * @param element the added element
+   */
+  private void onAdd(E element) {
+    var elementListener = elementListeners.get(element);
+    if (elementListener != null) {
+      elementListener.occurrences++;
+      return;
+    }
+    elementListener = new ElementListener(element);
+    elementListeners.put(element, elementListener);
+    if (!DirtyObserver.attach(element, elementListener)) {
+      element.isDirtyProperty().addListener(elementListener);
+      elementListener.listening = true;
+    }
+    if (element.isDirty()) {
+      dirtyElements.add(element);
+    }
+  }
+
+  /**
+   * Called when an element is removed; detaches the dirty listener from the last occurrence and removes the element from the index.
+   *
+   * @param element the removed element
+   */
+  private void onRemove(E element) {
+    var elementListener = elementListeners.get(element);
+    if (elementListener == null || --elementListener.occurrences > 0) {
+      return;
+    }
+    elementListeners.remove(element);
+    detach(element, elementListener);
+    dirtyElements.remove(element);
+  }
+
+  /**
+   * Detaches the dirty listener or the observer from the element.
+   *
+   * @param element         the element
+   * @param elementListener the dirty listener of the element
+   */
+  private void detach(E element, ElementListener elementListener) {
+    if (elementListener.listening) {
+      element.isDirtyProperty().removeListener(elementListener);
+    } else {
+      DirtyObserver.detach(element, elementListener);
+    }
+  }
+
+  /**
+   * The dirty listener of one distinct element counting its occurrences in the list. The library dirty properties notify it directly as the observer.
+   */
+  private class ElementListener implements ChangeListener<Boolean>, DirtyObserver {
+    /** The element. */
+    private final E element;
+    /** The number of occurrences of the element in the list. */
+    private int occurrences = 1;
+    /** Flag whether the listener is added to the dirty property of the element instead of the observer. */
+    private boolean listening;
+
+    /**
+     * Creates a new dirty listener of the element.
+     *
+     * @param element the element
+     */
+    ElementListener(E element) {
+      this.element = element;
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
+      dirtyChanged(element, Boolean.TRUE.equals(newValue));
+    }
+
+    @Override
+    public void dirtyChanged(DirtyProperty property, boolean dirty) {
+      if (dirty) {
+        dirtyElements.add(element);
+      } else {
+        dirtyElements.remove(element);
+      }
+      updateDirtyCount();
+    }
+  }
+}
@@ -19,138 +19,112 @@
 
 package cz.masci.springfx.mvci.model.dirty;
 
-import java.util.Objects;
-import javafx.beans.InvalidationListener;
-import javafx.beans.property.BooleanProperty;
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
 import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableValue;
-import javafx.beans.value.WeakChangeListener;
 import org.jetbrains.annotations.NotNull;
-import org.nield.dirtyfx.tracking.DirtyProperty;
 
 /**
  * An integer property that tracks and manages its "dirty" state.
- * It extends the IntegerProperty class and implements the DirtyProperty interface.
+ * It extends the SimpleIntegerProperty class and implements the DirtyValue interface.
+ * <p>
+ *   The original value is kept in a plain field, the dirty flag in the dirty tracker implementing the dirty state of all library dirty properties.
+ *   Their observable properties are created on the first request, so a property whose dirty state is only queried or tracked by {@link DirtyComposite}
+ *   costs two objects instead of a delegate, an original value property, a dirty property and a listener.
+ * </p>
  */
-public class DirtyIntegerProperty extends IntegerProperty implements DirtyProperty {
+public class DirtyIntegerProperty extends SimpleIntegerProperty implements DirtyTracked, DirtyValue<Integer> {
 
   /** Stores the baseline value against which dirty state is compared. */
-  private final IntegerProperty originalValue;
-  /** Tracks whether the current value differs from the original. */
-  private final BooleanProperty isDirty = new SimpleBooleanProperty(false);
-  /** The underlying integer property delegate. */
-  private final IntegerProperty delegate;
+  private int originalValue;
+  /** The observable original value, created on the first request. */
+  private IntegerProperty originalValueProperty;
+  /** The dirty state of the property. */
+  private final DirtyTracker<DirtyIntegerProperty> dirtyTracker = new DirtyTracker<>(this, DirtyIntegerProperty::isChanged);
 
-    /**
+  /**
    * Creates a new {@code DirtyIntegerProperty} with the given initial value.
    *
    * @param initialValue the initial (and baseline) value
    */
   public DirtyIntegerProperty(@NotNull Integer initialValue) {
-    originalValue = new SimpleIntegerProperty(initialValue);
-    delegate = new SimpleIntegerProperty(initialValue);
-    ChangeListener<Number> listener = (observable, oldValue, newValue) -> isDirty.set(!Objects.equals(getOriginalValue(), newValue));
-    addListener(new WeakChangeListener<>(listener));
+    super(initialValue);
+    originalValue = initialValue;
   }
 
+  @Override
   public Integer getOriginalValue() {
-    return originalValue.get();
+    return originalValueProperty != null ? originalValueProperty.get() : originalValue;
   }
 
+  /**
+   * Returns the observable original value. The property is created on the first request and follows the original value since then.
+   *
+   * @return the original value property
+   */
   public ObservableIntegerValue originalValueProperty() {
-    return originalValue;
-  }
-
-  @Override
-  public void bind(ObservableValue<? extends Number> observable) {
-    delegate.bind(observable);
-  }
-
-  @Override
-  public void unbind() {
-    delegate.unbind();
-  }
-
-  @Override
-  public boolean isBound() {
-    return delegate.isBound();
-  }
-
-  @Override
-  public Object getBean() {
-    return delegate.getBean();
-  }
-
-  @Override
-  public String getName() {
-    return delegate.getName();
-  }
-
-  @Override
-  public int get() {
-    return delegate.get();
-  }
-
-  @Override
-  public void set(int value) {
-    delegate.set(value);
+    if (originalValueProperty == null) {
+      originalValueProperty = new SimpleIntegerProperty(originalValue);
+    }
+    return originalValueProperty;
   }
 
   @Override
-  public Integer getValue() {
-    return delegate.getValue();
-  }
-
-  @Override
-  public void setValue(Number value) {
-    delegate.setValue(value);
-  }
-
-  @Override
-  public void addListener(ChangeListener<? super Number> listener) {
-    delegate.addListener(listener);
+  public boolean isDirty() {
+    return dirtyTracker.isDirty();
   }
 
+  @NotNull
   @Override
-  public void removeListener(ChangeListener<? super Number> listener) {
-    delegate.removeListener(listener);
+  public ObservableValue<Boolean> isDirtyProperty() {
+    return dirtyTracker.isDirtyProperty();
   }
 
   @Override
-  public void addListener(InvalidationListener listener) {
-    delegate.addListener(listener);
+  public void rebaseline() {
+    setOriginalValue(get());
+    dirtyTracker.setDirty(false);
   }
 
   @Override
-  public void removeListener(InvalidationListener listener) {
-    delegate.removeListener(listener);
+  public void reset() {
+    set(originalValue);
+    dirtyTracker.setDirty(false);
   }
 
+  /**
+   * Updates the dirty state whenever the value changes. The update is deferred to the end of the {@link ModelBatch} if any.
+   */
   @Override
-  public boolean isDirty() {
-    return isDirty.get();
+  protected void invalidated() {
+    dirtyTracker.invalidated();
   }
 
-  @NotNull
-  @Override
-  public ObservableValue<Boolean> isDirtyProperty() {
-    return isDirty;
+  /**
+   * Compares the current value with the original value.
+   *
+   * @return {@code true} if the current value differs from the original value
+   */
+  private boolean isChanged() {
+    return originalValue != get();
   }
 
   @Override
-  public void rebaseline() {
-    originalValue.set(get());
-    isDirty.set(false);
+  public DirtyTracker<?> dirtyTracker() {
+    return dirtyTracker;
   }
 
-  @Override
-  public void reset() {
-    set(originalValue.get());
-    isDirty.set(false);
+  /**
+   * Sets the original value and the original value property if it was requested.
+   *
+   * @param newOriginalValue the new original value
+   */
+  private void setOriginalValue(int newOriginalValue) {
+    originalValue = newOriginalValue;
+    if (originalValueProperty != null) {
+      originalValueProperty.set(newOriginalValue);
+    }
   }
-
 }
@@ -19,7 +19,10 @@
 
 package cz.masci.springfx.mvci.model.dirty;
 
-import cz.masci.springfx.mvci.util.builder.ListChangeListenerBuilder;
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import cz.masci.springfx.mvci.model.list.DirtyElements;
+import java.util.Collection;
+import java.util.List;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ListProperty;
@@ -32,85 +35,51 @@ import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.WeakListChangeListener;
+import javafx.collections.ObservableSet;
 import org.jetbrains.annotations.NotNull;
 import org.nield.dirtyfx.tracking.DirtyProperty;
 
 /**
  * Represents a list property that tracks its dirty state and the dirty state of its elements.
+ * The dirty elements are indexed incrementally by {@link DirtyElementIndex} from the element dirty events and the list changes,
+ * so the dirty state of the list is derived in constant time and rebaseline and reset cost time proportional to the number of dirty elements.
  *
  * @param <E> the type of elements in the list
  */
-public class DirtyListProperty<E extends DirtyProperty> extends ListProperty<E> implements DirtyProperty {
+public class DirtyListProperty<E extends DirtyProperty> extends ListProperty<E> implements DirtyProperty, DirtyElements<E> {
 
   /** Tracks whether any element in the list is dirty. */
   private final BooleanProperty isDirty = new SimpleBooleanProperty(false);
   /** The underlying list property delegate. */
   private final ListProperty<E> delegate = new SimpleListProperty<>(FXCollections.observableArrayList());
-  /** Listener on each element's dirty property to propagate dirty state up. */
-  private final ChangeListener<Boolean> dirtyChangeListener = (observable, oldValue, newValue) -> {
-    if (!newValue && isDirty.get()) {
-      revalidateIsDirty();
-    }
-    if (newValue) {
-      isDirty.set(true);
-    }
-  };
+  /** The index of the dirty elements. */
+  private final DirtyElementIndex<E> dirtyIndex;
 
   /**
-   * Creates a new {@code DirtyListProperty} and attaches a list change listener
-   * to track dirty state of added/removed elements.
+   * Creates a new {@code DirtyListProperty} and attaches the index tracking dirty state of added/removed elements.
    */
   public DirtyListProperty() {
-    ListChangeListenerBuilder<E> listChangeListenerBuilder = new ListChangeListenerBuilder<>();
-    listChangeListenerBuilder
-        .onAdd(this::onAdd)
-        .onUpdated(this::updateDirty)
-        .onRemove(this::onRemove);
-    addListener(new WeakListChangeListener<>(listChangeListenerBuilder.build()));
+    dirtyIndex = new DirtyElementIndex<>(this);
+    isDirty.bind(dirtyIndex.dirtyCountProperty().greaterThan(0));
   }
 
   /**
-   * Called when an element is added; attaches the dirty listener and checks initial dirty state.
+   * Returns the number of dirty elements in the list.
    *
-   * @param element the added element
+   * @return the number of dirty elements
    */
-  private void onAdd(E element) {
-    updateDirty(element);
-    element.isDirtyProperty().addListener(dirtyChangeListener);
+  public int getDirtyCount() {
+    return dirtyIndex.getDirtyCount();
   }
 
-  /**
-   * Called when an element is removed; detaches the dirty listener and revalidates dirty state.
-   *
-   * @param element the removed element
-   */
-  private void onRemove(E element) {
-    element.isDirtyProperty().removeListener(dirtyChangeListener);
-    if (element.isDirty()) {
-      revalidateIsDirty();
-    }
-  }
-
-  /**
-   * Sets the list dirty if the given element is dirty.
-   *
-   * @param element the element to check
-   */
-  private void updateDirty(E element) {
-    if (!isDirty()) {
-      isDirty.set(element.isDirty());
-    }
+  @Override
+  public ObservableSet<E> getDirtyElements() {
+    return dirtyIndex.getDirtyElements();
   }
 
-  /**
-   * Recalculates the dirty state by checking whether any element in the list is still dirty.
-   */
-  private void revalidateIsDirty() {
-    var stillDirty = get().stream().anyMatch(DirtyProperty::isDirty);
-    if (!stillDirty) {
-      isDirty.set(false);
-    }
+  @Override
+  public ReadOnlyIntegerProperty dirtyCountProperty() {
+    return dirtyIndex.dirtyCountProperty();
   }
 
   @Override
@@ -188,6 +157,42 @@ public class DirtyListProperty<E extends DirtyProperty> extends ListProperty<E>
     delegate.removeListener(listener);
   }
 
+  /**
+   * Replaces all elements of the list. The element listeners are registered in one pass, the list emits exactly one change
+   * and the dirty state is computed once, so it changes at most once.
+   *
+   * @param elements the new elements
+   * @return {@code true} if the list was changed
+   */
+  @Override
+  public boolean setAll(Collection<? extends E> elements) {
+    return delegate.setAll(elements);
+  }
+
+  /**
+   * Adds all elements to the list. The element listeners are registered in one pass, the list emits exactly one change
+   * and the dirty state is computed once, so it changes at most once.
+   *
+   * @param elements the elements to add
+   * @return {@code true} if the list was changed
+   */
+  @Override
+  public boolean addAll(Collection<? extends E> elements) {
+    return delegate.addAll(elements);
+  }
+
+  /**
+   * Removes all given elements from the list. The element listeners are unregistered in one pass, the list emits exactly one change
+   * and the dirty state is computed once, so it changes at most once.
+   *
+   * @param elements the elements to remove
+   * @return {@code true} if the list was changed
+   */
+  @Override
+  public boolean removeAll(Collection<?> elements) {
+    return delegate.removeAll(elements);
+  }
+
   @Override
   public boolean isDirty() {
     return isDirty.get();
@@ -201,13 +206,21 @@ public class DirtyListProperty<E extends DirtyProperty> extends ListProperty<E>
 
   @Override
   public void rebaseline() {
-    get().stream().filter(DirtyProperty::isDirty).forEach(DirtyProperty::rebaseline);
-    isDirty.set(false);
+    elementsToUpdate().forEach(DirtyProperty::rebaseline);
   }
 
   @Override
   public void reset() {
-    get().stream().filter(DirtyProperty::isDirty).forEach(DirtyProperty::reset);
-    isDirty.set(false);
+    elementsToUpdate().forEach(DirtyProperty::reset);
+  }
+
+  /**
+   * Returns the snapshot of the elements to rebaseline or reset. These are the dirty elements, or all elements inside the {@link ModelBatch}
+   * where the dirty state of the elements may not be recomputed yet.
+   *
+   * @return the elements to update
+   */
+  private List<E> elementsToUpdate() {
+    return List.copyOf(ModelBatch.isActive() ? get() : dirtyIndex.getDirtyElements());
   }
 }
@@ -19,137 +19,112 @@
 
 package cz.masci.springfx.mvci.model.dirty;
 
-import java.util.Objects;
-import javafx.beans.InvalidationListener;
-import javafx.beans.property.BooleanProperty;
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
 import javafx.beans.property.LongProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleLongProperty;
-import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableLongValue;
 import javafx.beans.value.ObservableValue;
-import javafx.beans.value.WeakChangeListener;
 import org.jetbrains.annotations.NotNull;
-import org.nield.dirtyfx.tracking.DirtyProperty;
 
 /**
  * A long property that tracks and manages its "dirty" state.
- * It extends the LongProperty class and implements the DirtyProperty interface.
+ * It extends the SimpleLongProperty class and implements the DirtyValue interface.
+ * <p>
+ *   The original value is kept in a plain field, the dirty flag in the dirty tracker implementing the dirty state of all library dirty properties.
+ *   Their observable properties are created on the first request, so a property whose dirty state is only queried or tracked by {@link DirtyComposite}
+ *   costs two objects instead of a delegate, an original value property, a dirty property and a listener.
+ * </p>
  */
-public class DirtyLongProperty extends LongProperty implements DirtyProperty {
+public class DirtyLongProperty extends SimpleLongProperty implements DirtyTracked, DirtyValue<Long> {
 
   /** Stores the baseline value against which dirty state is compared. */
-  private final LongProperty originalValue;
-  /** Tracks whether the current value differs from the original. */
-  private final BooleanProperty isDirty = new SimpleBooleanProperty(false);
-  /** The underlying long property delegate. */
-  private final LongProperty delegate;
+  private long originalValue;
+  /** The observable original value, created on the first request. */
+  private LongProperty originalValueProperty;
+  /** The dirty state of the property. */
+  private final DirtyTracker<DirtyLongProperty> dirtyTracker = new DirtyTracker<>(this, DirtyLongProperty::isChanged);
 
-    /**
+  /**
    * Creates a new {@code DirtyLongProperty} with the given initial value.
    *
    * @param initialValue the initial (and baseline) value
    */
   public DirtyLongProperty(@NotNull Long initialValue) {
-    originalValue = new SimpleLongProperty(initialValue);
-    delegate = new SimpleLongProperty(initialValue);
-    ChangeListener<Number> listener = (observable, oldValue, newValue) -> isDirty.set(!Objects.equals(getOriginalValue(), newValue));
-    addListener(new WeakChangeListener<>(listener));
-  }
-
-  public Long getOriginalValue() {
-    return originalValue.get();
-  }
-
-  public ObservableValue<Number> originalValueProperty() {
-    return originalValue;
-  }
-
-  @Override
-  public void bind(ObservableValue<? extends Number> observable) {
-    delegate.bind(observable);
-  }
-
-  @Override
-  public void unbind() {
-    delegate.unbind();
-  }
-
-  @Override
-  public boolean isBound() {
-    return delegate.isBound();
-  }
-
-  @Override
-  public Object getBean() {
-    return delegate.getBean();
-  }
-
-  @Override
-  public String getName() {
-    return delegate.getName();
-  }
-
-  @Override
-  public long get() {
-    return delegate.get();
-  }
-
-  @Override
-  public void set(long value) {
-    delegate.set(value);
+    super(initialValue);
+    originalValue = initialValue;
   }
 
   @Override
-  public Long getValue() {
-    return delegate.getValue();
+  public Long getOriginalValue() {
+    return originalValueProperty != null ? originalValueProperty.get() : originalValue;
   }
 
-  @Override
-  public void setValue(Number value) {
-    delegate.setValue(value);
+  /**
+   * Returns the observable original value. The property is created on the first request and follows the original value since then.
+   *
+   * @return the original value property
+   */
+  public ObservableLongValue originalValueProperty() {
+    if (originalValueProperty == null) {
+      originalValueProperty = new SimpleLongProperty(originalValue);
+    }
+    return originalValueProperty;
   }
 
   @Override
-  public void addListener(ChangeListener<? super Number> listener) {
-    delegate.addListener(listener);
+  public boolean isDirty() {
+    return dirtyTracker.isDirty();
   }
 
+  @NotNull
   @Override
-  public void removeListener(ChangeListener<? super Number> listener) {
-    delegate.removeListener(listener);
+  public ObservableValue<Boolean> isDirtyProperty() {
+    return dirtyTracker.isDirtyProperty();
   }
 
   @Override
-  public void addListener(InvalidationListener listener) {
-    delegate.addListener(listener);
+  public void rebaseline() {
+    setOriginalValue(get());
+    dirtyTracker.setDirty(false);
   }
 
   @Override
-  public void removeListener(InvalidationListener listener) {
-    delegate.removeListener(listener);
+  public void reset() {
+    set(originalValue);
+    dirtyTracker.setDirty(false);
   }
 
+  /**
+   * Updates the dirty state whenever the value changes. The update is deferred to the end of the {@link ModelBatch} if any.
+   */
   @Override
-  public boolean isDirty() {
-    return isDirty.get();
+  protected void invalidated() {
+    dirtyTracker.invalidated();
   }
 
-  @NotNull
-  @Override
-  public ObservableValue<Boolean> isDirtyProperty() {
-    return isDirty;
+  /**
+   * Compares the current value with the original value.
+   *
+   * @return {@code true} if the current value differs from the original value
+   */
+  private boolean isChanged() {
+    return originalValue != get();
   }
 
   @Override
-  public void rebaseline() {
-    originalValue.set(get());
-    isDirty.set(false);
+  public DirtyTracker<?> dirtyTracker() {
+    return dirtyTracker;
   }
 
-  @Override
-  public void reset() {
-    set(originalValue.get());
-    isDirty.set(false);
+  /**
+   * Sets the original value and the original value property if it was requested.
+   *
+   * @param newOriginalValue the new original value
+   */
+  private void setOriginalValue(long newOriginalValue) {
+    originalValue = newOriginalValue;
+    if (originalValueProperty != null) {
+      originalValueProperty.set(newOriginalValue);
+    }
   }
-
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An object property that tracks and manages its "dirty" state.
+ * It extends the SimpleObjectProperty class and implements the DirtyValue interface.
+ * <p>
+ *   The values are compared by the equivalence function, {@link Objects#equals} by default. The custom equivalence could be used
+ *   for values with a custom equality, e.g. {@code BigDecimal} compared by {@code compareTo}. The equivalence is called only with non-null values,
+ *   two {@code null} values are equal.
+ * </p>
+ * <p>
+ *   The original value is kept in a plain field, the dirty flag in the dirty tracker implementing the dirty state of all library dirty properties.
+ *   Their observable properties are created on the first request.
+ * </p>
+ * Usage example:
+ * <pre>{@code
+ * var price = new DirtyObjectProperty<>(BigDecimal.ONE, (original, value) -> original.compareTo(value) == 0);
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ */
+public class DirtyObjectProperty<T> extends SimpleObjectProperty<T> implements DirtyTracked, DirtyValue<T> {
+
+  /** The function deciding whether two non-null values are equal. */
+  private final BiPredicate<? super T, ? super T> equivalence;
+  /** Stores the baseline value against which dirty state is compared. */
+  private T originalValue;
+  /** The observable original value, created on the first request. */
+  private ObjectProperty<T> originalValueProperty;
+  /** The dirty state of the property. */
+  private final DirtyTracker<DirtyObjectProperty<T>> dirtyTracker = new DirtyTracker<>(this, DirtyObjectProperty::isChanged);
+
+  /**
+   * Creates a new {@code DirtyObjectProperty} with the given initial value comparing values by {@link Objects#equals}.
+   *
+   * @param initialValue the initial (and baseline) value
+   */
+  public DirtyObjectProperty(T initialValue) {
+    this(initialValue, Object::equals);
+  }
+
+  /**
+   * Creates a new {@code DirtyObjectProperty} with the given initial value comparing values by the given equivalence.
+   *
+   * @param initialValue the initial (and baseline) value
+   * @param equivalence  the function deciding whether two non-null values are equal
+   */
+  public DirtyObjectProperty(T initialValue, @NotNull BiPredicate<? super T, ? super T> equivalence) {
+    super(initialValue);
+    this.equivalence = requireNonNull(equivalence);
+    originalValue = initialValue;
+  }
+
+  @Override
+  public T getOriginalValue() {
+    return originalValueProperty != null ? originalValueProperty.get() : originalValue;
+  }
+
+  /**
+   * Returns the observable original value. The property is created on the first request and follows the original value since then.
+   *
+   * @return the original value property
+   */
+  public ObservableValue<T> originalValueProperty() {
+    if (originalValueProperty == null) {
+      originalValueProperty = new SimpleObjectProperty<>(originalValue);
+    }
+    return originalValueProperty;
+  }
+
+  @Override
+  public boolean isDirty() {
+    return dirtyTracker.isDirty();
+  }
+
+  @NotNull
+  @Override
+  public ObservableValue<Boolean> isDirtyProperty() {
+    return dirtyTracker.isDirtyProperty();
+  }
+
+  @Override
+  public void rebaseline() {
+    setOriginalValue(get());
+    dirtyTracker.setDirty(false);
+  }
+
+  @Override
+  public void reset() {
+    set(originalValue);
+    dirtyTracker.setDirty(false);
+  }
+
+  /**
+   * Updates the dirty state whenever the value changes. The update is deferred to the end of the {@link ModelBatch} if any.
+   */
+  @Override
+  protected void invalidated() {
+    dirtyTracker.invalidated();
+  }
+
+  /**
+   * Compares the current value with the original value by the equivalence.
+   *
+   * @return {@code true} if the current value differs from the original value
+   */
+  private boolean isChanged() {
+    T value = get();
+    if (originalValue == null || value == null) {
+      return originalValue != value;
+    }
+    return !equivalence.test(originalValue, value);
+  }
+
+  @Override
+  public DirtyTracker<?> dirtyTracker() {
+    return dirtyTracker;
+  }
+
+  /**
+   * Sets the original value and the original value property if it was requested.
+   *
+   * @param newOriginalValue the new original value
+   */
+  private void setOriginalValue(T newOriginalValue) {
+    originalValue = newOriginalValue;
+    if (originalValueProperty != null) {
+      originalValueProperty.set(newOriginalValue);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import org.nield.dirtyfx.tracking.DirtyProperty;
+
+/**
+ * Receiver of the dirty state changes of the library dirty properties notified directly by the property.
+ *
+ * <p>
+ *   The parent tracking the dirty children, like {@link DirtyComposite} or {@link DirtyElementIndex}, attaches itself by {@link #attach(DirtyProperty, DirtyObserver)},
+ *   so the child does not have to create its observable dirty property. Each property holds one observer, the parent falls back
+ *   to the listener of the {@link DirtyProperty#isDirtyProperty()} when the property is not a library property or already has an observer.
+ * </p>
+ */
+interface DirtyObserver {
+
+  /**
+   * Called when the dirty state of the property changed.
+   *
+   * @param property the property
+   * @param dirty    the new dirty state
+   */
+  void dirtyChanged(DirtyProperty property, boolean dirty);
+
+  /**
+   * Attaches the observer to the library dirty property.
+   *
+   * @param property the property to observe
+   * @param observer the observer to attach
+   * @return {@code true} if attached, {@code false} if the property is not a library property or already has an observer
+   */
+  static boolean attach(DirtyProperty property, DirtyObserver observer) {
+    return property instanceof DirtyTracked tracked && tracked.dirtyTracker().attach(observer);
+  }
+
+  /**
+   * Detaches the observer from the library dirty property if it is attached.
+   *
+   * @param property the observed property
+   * @param observer the observer to detach
+   * @return {@code true} if the observer was attached and is detached
+   */
+  static boolean detach(DirtyProperty property, DirtyObserver observer) {
+    return property instanceof DirtyTracked tracked && tracked.dirtyTracker().detach(observer);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+/**
+ * The library dirty property keeping its dirty state in the {@link DirtyTracker}, so the parent could attach its {@link DirtyObserver}.
+ */
+interface DirtyTracked {
+
+  /**
+   * Returns the tracker of the dirty state. It is an internal method of the library, the tracker could not be used outside its package.
+   *
+   * @return the dirty tracker
+   */
+  DirtyTracker<?> dirtyTracker();
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import java.util.function.Predicate;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ObservableValue;
+import org.nield.dirtyfx.tracking.DirtyProperty;
+
+/**
+ * The dirty state of the library dirty property shared by all its value types.
+ *
+ * <p>
+ *   The tracker keeps the dirty flag in a plain field and creates the observable dirty property on the first request. The parent tracking
+ *   the dirty children is notified directly by the attached {@link DirtyObserver}. The property compares its current and original value
+ *   by the predicate, which should not capture the property, so one predicate instance is shared by all properties of the type.
+ *   The tracker itself is the recomputation deferred by the {@link ModelBatch}, so the tracked property costs only the property and the tracker.
+ * </p>
+ *
+ * @param <P> the type of the tracked property
+ */
+final class DirtyTracker<P extends DirtyProperty> implements Runnable {
+
+  /** The tracked property. */
+  private final P property;
+  /** Tests whether the current value of the property differs from its original value. */
+  private final Predicate<? super P> changed;
+  /** Tracks whether the current value differs from the original. */
+  private boolean dirty;
+  /** The observable dirty state, created on the first request. */
+  private BooleanProperty isDirty;
+  /** The parent notified on the dirty state changes without the observable dirty property, {@code null} if none. */
+  private DirtyObserver observer;
+
+  /**
+   * Creates a new tracker of the clean property.
+   *
+   * @param property the tracked property
+   * @param changed  tests whether the current value of the property differs from its original value
+   */
+  DirtyTracker(P property, Predicate<? super P> changed) {
+    this.property = property;
+    this.changed = changed;
+  }
+
+  /**
+   * Returns the dirty state.
+   *
+   * @return {@code true} if the current value differs from the original
+   */
+  boolean isDirty() {
+    // reading the requested property validates it, so its invalidation listeners are notified on the next change
+    return isDirty != null ? isDirty.get() : dirty;
+  }
+
+  /**
+   * Returns the observable dirty state. The property is created on the first request and follows the dirty state since then.
+   *
+   * @return the dirty property
+   */
+  ObservableValue<Boolean> isDirtyProperty() {
+    if (isDirty == null) {
+      isDirty = new SimpleBooleanProperty(dirty);
+    }
+    return isDirty;
+  }
+
+  /**
+   * Updates the dirty state after the value changed. The update is deferred to the end of the {@link ModelBatch} if any.
+   */
+  void invalidated() {
+    ModelBatch.recompute(this);
+  }
+
+  /**
+   * Sets the dirty flag and the dirty property if it was requested, and notifies the observer if the dirty state changed.
+   *
+   * @param newDirty the new dirty state
+   */
+  void setDirty(boolean newDirty) {
+    boolean dirtyChanged = dirty != newDirty;
+    dirty = newDirty;
+    if (isDirty != null) {
+      isDirty.set(newDirty);
+    }
+    if (dirtyChanged && observer != null) {
+      observer.dirtyChanged(property, newDirty);
+    }
+  }
+
+  /**
+   * Attaches the observer notified on the dirty state changes.
+   *
+   * @param newObserver the observer to attach
+   * @return {@code true} if attached, {@code false} if another observer is attached
+   */
+  boolean attach(DirtyObserver newObserver) {
+    if (observer != null) {
+      return false;
+    }
+    observer = newObserver;
+    return true;
+  }
+
+  /**
+   * Detaches the observer if it is attached.
+   *
+   * @param attachedObserver the observer to detach
+   * @return {@code true} if the observer was attached
+   */
+  boolean detach(DirtyObserver attachedObserver) {
+    if (observer != attachedObserver) {
+      return false;
+    }
+    observer = null;
+    return true;
+  }
+
+  /**
+   * Compares the current value with the original value and updates the dirty state.
+   */
+  @Override
+  public void run() {
+    setDirty(changed.test(property));
+  }
+}
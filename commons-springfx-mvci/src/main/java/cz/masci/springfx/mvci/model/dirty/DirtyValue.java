@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import org.nield.dirtyfx.tracking.DirtyProperty;
+
+/**
+ * Dirty property providing its original and current value, used to capture the field changes for delta saves.
+ *
+ * @param <T> the type of the value
+ */
+public interface DirtyValue<T> extends DirtyProperty {
+  /**
+   * Returns the baseline value against which dirty state is compared.
+   *
+   * @return the original value
+   */
+  T getOriginalValue();
+
+  /**
+   * Returns the current value.
+   *
+   * @return the current value
+   */
+  T getValue();
+}
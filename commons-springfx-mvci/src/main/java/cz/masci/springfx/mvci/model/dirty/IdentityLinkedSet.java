@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Insertion-ordered set comparing its elements by identity, so the distinct elements equal by {@code equals}, e.g. the models
+ * with Lombok generated equals, are kept separately and an element is found even after its hash code changed.
+ *
+ * @param <E> the type of elements in the set
+ */
+class IdentityLinkedSet<E> extends AbstractSet<E> {
+
+  /** The elements by their identity keys in the insertion order. */
+  private final Map<Identity, E> elements = new LinkedHashMap<>();
+
+  @Override
+  public Iterator<E> iterator() {
+    return elements.values().iterator();
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return elements.containsKey(new Identity(o));
+  }
+
+  @Override
+  public boolean add(E e) {
+    return elements.putIfAbsent(new Identity(e), e) == null;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return elements.remove(new Identity(o)) != null;
+  }
+
+  @Override
+  public void clear() {
+    elements.clear();
+  }
+
+  /**
+   * The key comparing the element by identity.
+   *
+   * @param element the element
+   */
+  private record Identity(Object element) {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Identity identity && identity.element == element;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(element);
+    }
+  }
+}
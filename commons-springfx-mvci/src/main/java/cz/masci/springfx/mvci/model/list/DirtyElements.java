@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.model.list;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.collections.ObservableSet;
+
+/**
+ * Provides access to the currently dirty elements of the list.
+ *
+ * @param <E> The type of elements in the list
+ */
+public interface DirtyElements<E> {
+  /**
+   * Returns the unmodifiable observable set of the currently dirty elements in the order they became dirty.
+   *
+   * @return the observable set of dirty elements
+   */
+  ObservableSet<E> getDirtyElements();
+
+  /**
+   * Returns the property holding the number of dirty elements.
+   *
+   * @return the number of dirty elements property
+   */
+  ReadOnlyIntegerProperty dirtyCountProperty();
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list;
+
+/**
+ * Provides access to the elements of the list by their id. Mostly used to merge the saved entities or the server updates into the list.
+ *
+ * @param <I> The type of the element id identifier
+ * @param <E> The type of elements in the list
+ */
+public interface IdentifiedElements<I, E> {
+  /**
+   * Returns the element with the specified id.
+   *
+   * @param id the id of the element
+   * @return the element with the id, or {@code null} if there is no such element
+   */
+  E findById(I id);
+
+  /**
+   * Replaces the element with the same id by the specified element, or adds the element if there is no element with its id.
+   *
+   * @param element the element to insert or update
+   * @return the replaced element, or {@code null} if the element was added
+   */
+  E upsert(E element);
+
+  /**
+   * Removes the element with the specified id.
+   *
+   * @param id the id of the element
+   * @return the removed element, or {@code null} if there is no such element
+   */
+  E removeById(I id);
+}
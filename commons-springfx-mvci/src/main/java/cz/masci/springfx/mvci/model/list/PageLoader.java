@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list;
+
+import cz.masci.commons.springfx.data.Page;
+
+/**
+ * Loads one page of elements with the total count of elements, e.g. by {@code CrudService.page} mapping the items to the detail models.
+ * The loader is called off the JavaFX thread.
+ *
+ * @param <E> The type of the elements
+ */
+@FunctionalInterface
+public interface PageLoader<E> {
+  /**
+   * Loads the page of elements.
+   *
+   * @param pageIndex the index of the page starting with 0
+   * @param pageSize  the number of elements on the page
+   * @return the page of elements with the total count of elements
+   * @throws Exception if the page could not be loaded
+   */
+  Page<E> load(int pageIndex, int pageSize) throws Exception;
+}
@@ -19,6 +19,9 @@
 
 package cz.masci.springfx.mvci.model.list;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Ability to remove element from list. Mostly used to remove element in the list view in list-detail view pattern.
  *
@@ -31,4 +34,22 @@ public interface Removable<E> {
    * @param element the element to remove
    */
   void remove(E element);
+
+  /**
+   * Removes all specified elements from the list. The default implementation removes the elements one by one by {@link #remove(Object)}.
+   *
+   * @param elements the elements to remove
+   */
+  default void removeAll(Collection<E> elements) {
+    elements.forEach(this::remove);
+  }
+
+  /**
+   * Replaces the elements matching the specified elements, e.g. by id, by one list change. The specified elements without a matching element
+   * in the list are ignored.
+   *
+   * @param replacements the replacing elements
+   * @return the replaced elements
+   */
+  List<E> replaceAll(Collection<E> replacements);
 }
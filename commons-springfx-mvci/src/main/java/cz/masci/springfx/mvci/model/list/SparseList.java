@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.model.list;
+
+import java.util.function.ObjIntConsumer;
+import javafx.collections.ObservableList;
+
+/**
+ * Observable list holding only some of its elements, the other positions are represented by the placeholder, e.g. the pages not loaded yet.
+ * The indexes of the list visit only the held elements, so the placeholders neither cost time nor are indexed.
+ *
+ * @param <E> The type of elements in the list
+ */
+public interface SparseList<E> extends ObservableList<E> {
+  /**
+   * Returns {@code true} if the element is the placeholder of the element not held by the list.
+   *
+   * @param element the element
+   * @return {@code true} if the element is the placeholder
+   */
+  boolean isPlaceholder(E element);
+
+  /**
+   * Runs the action with the held elements in the range and their positions. Costs time proportional to the number of held elements in the range.
+   *
+   * @param from   the first position, inclusive
+   * @param to     the last position, exclusive
+   * @param action the action accepting the element and its position
+   */
+  void forEachHeld(int from, int to, ObjIntConsumer<? super E> action);
+}
@@ -19,29 +19,44 @@
 
 package cz.masci.springfx.mvci.model.list.impl;
 
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
 import cz.masci.springfx.mvci.model.detail.DetailModel;
+import cz.masci.springfx.mvci.model.dirty.DirtyElementIndex;
+import cz.masci.springfx.mvci.model.list.DirtyElements;
 import cz.masci.springfx.mvci.model.list.Elements;
+import cz.masci.springfx.mvci.model.list.IdentifiedElements;
 import cz.masci.springfx.mvci.model.list.ListModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.function.Consumer;
 import javafx.beans.Observable;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import javafx.util.Callback;
 import lombok.Setter;
 
 /**
- * BaseListModel is a generic implementation of the {@link ListModel} and {@link Elements} interfaces.
+ * BaseListModel is a generic implementation of the {@link ListModel}, {@link Elements}, {@link DirtyElements} and {@link IdentifiedElements} interfaces.
  * It provides basic functionality for managing a list of elements and interacting with them.
+ * The dirty elements are indexed incrementally, so reading them costs time proportional to the number of dirty elements.
+ * The elements are indexed by their id, so finding, replacing and removing an element by id costs constant time.
  *
  * @param <I> The type of the element id identifier.
  * @param <E> The type of the elements in the list extending {@link DetailModel<I>}.
  */
-public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>, Elements<E> {
+public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>, Elements<E>, DirtyElements<E>, IdentifiedElements<I, E> {
   /** The observable list of elements. */
   protected final ObservableList<E> elements;
+  /** The index of the dirty elements. */
+  protected final DirtyElementIndex<E> dirtyIndex;
+  /** The index of the elements by their id. */
+  protected final ElementIdIndex<I, E> idIndex;
   /** The property holding the currently selected element. */
   protected final ObjectProperty<E> selectedElement = new SimpleObjectProperty<>();
   /** Command executed when an element is selected. */
@@ -53,6 +68,9 @@ public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>,
   /** Command executed when an element is removed. */
   @Setter
   protected Consumer<E> onRemoveElement;
+  /** Command executed once with all elements removed by {@link #removeAll(Collection)}, {@code null} to execute {@link #onRemoveElement} for each element. */
+  @Setter
+  protected Consumer<List<E>> onRemoveElements;
   /** Command executed when the view should be focused. */
   @Setter
   protected Runnable onFocusView;
@@ -61,7 +79,9 @@ public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>,
    * Creates a new {@code BaseListModel} with a plain observable list.
    */
   public BaseListModel() {
-    elements = FXCollections.observableArrayList();
+    elements = new ElementList<>();
+    dirtyIndex = new DirtyElementIndex<>(elements);
+    idIndex = new ElementIdIndex<>(elements);
   }
 
   /**
@@ -70,7 +90,30 @@ public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>,
    * @param extractor callback that returns the observable values for each element to observe for changes
    */
   public BaseListModel(Callback<E, Observable[]> extractor) {
-    elements = FXCollections.observableArrayList(extractor);
+    elements = new ElementList<>(extractor);
+    dirtyIndex = new DirtyElementIndex<>(elements);
+    idIndex = new ElementIdIndex<>(elements);
+  }
+
+  /**
+   * Creates a new {@code BaseListModel} with the given observable list, e.g. a virtual list loading the elements on demand.
+   *
+   * @param elements the observable list of elements
+   */
+  protected BaseListModel(ObservableList<E> elements) {
+    this.elements = elements;
+    dirtyIndex = new DirtyElementIndex<>(elements);
+    idIndex = new ElementIdIndex<>(elements);
+  }
+
+  /**
+   * Runs the updates of the elements in the {@link ModelBatch}. The dirty and validation state of all updated elements
+   * is recomputed once when the batch commits.
+   *
+   * @param updates the updates of the elements
+   */
+  public void batch(Runnable updates) {
+    ModelBatch.run(updates);
   }
 
   @Override
@@ -78,6 +121,52 @@ public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>,
     return elements;
   }
 
+  @Override
+  public ObservableSet<E> getDirtyElements() {
+    return dirtyIndex.getDirtyElements();
+  }
+
+  @Override
+  public ReadOnlyIntegerProperty dirtyCountProperty() {
+    return dirtyIndex.dirtyCountProperty();
+  }
+
+  @Override
+  public E findById(I id) {
+    return idIndex.get(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   * The replaced element stays selected as the new element.
+   */
+  @Override
+  public E upsert(E element) {
+    var existing = idIndex.get(element.getId());
+    if (existing == null) {
+      elements.add(element);
+    } else if (existing != element) {
+      elements.set(idIndex.indexOf(existing), element);
+      if (selectedElement.get() == existing) {
+        selectedElement.set(element);
+      }
+    }
+    return existing;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The command set by {@link #setOnRemoveElement(Consumer)} is executed with the removed element.
+   */
+  @Override
+  public E removeById(I id) {
+    var existing = idIndex.get(id);
+    if (existing != null) {
+      remove(existing);
+    }
+    return existing;
+  }
+
   @Override
   public Property<E> selectedElementProperty() {
     return selectedElement;
@@ -86,8 +175,83 @@ public class BaseListModel<I, E extends DetailModel<I>> implements ListModel<E>,
   @Override
   public void remove(E element) {
     selectedElement.setValue(null);
-    if (elements.remove(element) && onRemoveElement != null) {
-      onRemoveElement.accept(element);
+    var index = idIndex.indexOf(element);
+    if (index >= 0) {
+      elements.remove(index);
+      if (onRemoveElement != null) {
+        onRemoveElement.accept(element);
+      }
+    }
+  }
+
+  /**
+   * Removes all specified elements from the list by one list change. The elements are looked up in a hash set, so the removal costs one pass
+   * over the list. The command set by {@link #setOnRemoveElements(Consumer)} is executed once with the removed elements,
+   * or if not set, the command set by {@link #setOnRemoveElement(Consumer)} is executed for each removed element.
+   *
+   * @param elementsToRemove the elements to remove
+   */
+  @Override
+  public void removeAll(Collection<E> elementsToRemove) {
+    var lookup = new HashSet<>(elementsToRemove);
+    if (lookup.contains(selectedElement.get())) {
+      selectedElement.setValue(null);
+    }
+    var removed = elements.stream().filter(lookup::contains).toList();
+    if (removed.isEmpty()) {
+      return;
+    }
+    elements.removeAll(lookup);
+    fireRemoved(removed);
+  }
+
+  /**
+   * Replaces the elements with the same id by the specified elements. The elements without an element with the same id
+   * in the list are ignored. The replaced selected element stays selected as the new element.
+   * Each replaced element is set at its position found by the id index, so only the replaced positions are changed, all by one list change.
+   *
+   * @param replacements the replacing elements
+   * @return the replaced elements
+   */
+  @Override
+  public List<E> replaceAll(Collection<E> replacements) {
+    var replaced = new ArrayList<E>();
+    var replacedIds = new HashSet<I>();
+    Runnable replacing = () -> {
+      for (E replacement : replacements) {
+        var existing = idIndex.get(replacement.getId());
+        if (existing == null || existing == replacement || !replacedIds.add(replacement.getId())) {
+          continue;
+        }
+        var index = idIndex.indexOf(existing);
+        if (index >= 0) {
+          elements.set(index, replacement);
+          replaced.add(existing);
+        }
+      }
+    };
+    if (elements instanceof BatchList batchList) {
+      batchList.batch(replacing);
+    } else {
+      replacing.run();
+    }
+    var selected = selectedElement.get();
+    if (selected != null && replaced.stream().anyMatch(element -> element == selected)) {
+      selectedElement.set(idIndex.get(selected.getId()));
+    }
+    return replaced;
+  }
+
+  /**
+   * Executes the removal commands with the removed elements.
+   *
+   * @param removed the removed elements
+   */
+  protected void fireRemoved(List<E> removed) {
+    if (onRemoveElements != null) {
+      onRemoveElements.accept(removed);
+    } else if (onRemoveElement != null) {
+      removed.forEach(onRemoveElement);
     }
   }
 
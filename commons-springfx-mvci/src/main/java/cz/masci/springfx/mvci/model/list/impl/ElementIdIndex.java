@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import cz.masci.commons.springfx.data.Identifiable;
+import cz.masci.springfx.mvci.model.list.SparseList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Index of the elements of the observable list by their id.
+ *
+ * <p>
+ *   The index is kept in sync with the list changes and with the id changes of the elements, e.g. when a transient element gets its id on save,
+ *   so finding an element by id costs constant time.
+ * </p>
+ * <p>
+ *   The index also keeps the positions of the elements in the list. Replacing an element or appending elements to the end of the list keeps
+ *   the positions valid. Other structural changes shift the positions behind the changed position only, which are then recomputed once
+ *   on the next {@link #indexOf(Identifiable)} looking up the shifted element. The lookup after inserting or removing at position {@code p}
+ *   costs time proportional to {@code size - p}, so removing near the end of the list stays cheap, while the lookups alternating
+ *   with removals at the front of the list cost linear time each.
+ * </p>
+ * <p>
+ *   The placeholders of the {@link SparseList} are not indexed, only its held elements are visited.
+ * </p>
+ *
+ * @param <I> the type of the element id identifier
+ * @param <E> the type of elements in the list
+ */
+public class ElementIdIndex<I, E extends Identifiable<I>> {
+
+  /** The elements by their id. */
+  private final Map<I, E> elementsById = new HashMap<>();
+  /** The id listeners of the distinct elements in the list, compared by identity, so the equal elements are indexed separately. */
+  private final Map<E, IdListener> idListeners = new IdentityHashMap<>();
+  /** The positions of the elements in the list, compared by identity. */
+  private final Map<E, Integer> positions = new IdentityHashMap<>();
+  /** The indexed list. */
+  private final ObservableList<E> list;
+  /** The indexed list holding only some of its elements, {@code null} if the list holds all elements. */
+  private final SparseList<E> sparseList;
+  /** The listener of the list changes. */
+  private final ListChangeListener<E> listChangeListener = this::onChanged;
+  /** The number of leading positions not shifted by a structural change since they were computed. */
+  private int validPositions;
+
+  /**
+   * Creates a new index of the elements of the list by their id.
+   *
+   * @param list the list to index
+   */
+  public ElementIdIndex(ObservableList<E> list) {
+    this.list = list;
+    this.sparseList = list instanceof SparseList<E> sparse ? sparse : null;
+    forEachElement(0, list.size(), (element, position) -> onAdd(element));
+    updatePositions(0, list.size());
+    list.addListener(listChangeListener);
+  }
+
+  /**
+   * Returns the element with the specified id.
+   *
+   * @param id the id of the element
+   * @return the element with the id, or {@code null} if there is no such element
+   */
+  public E get(I id) {
+    return id != null ? elementsById.get(id) : null;
+  }
+
+  /**
+   * Returns {@code true} if the element is in the list. Unlike {@link #indexOf(Identifiable)}, never recomputes the positions.
+   *
+   * @param element the element
+   * @return {@code true} if the element is in the list
+   */
+  public boolean contains(E element) {
+    return idListeners.containsKey(element);
+  }
+
+  /**
+   * Returns the position of the element in the list.
+   *
+   * @param element the element
+   * @return the position of the element, or {@code -1} if the element is not in the list
+   */
+  public int indexOf(E element) {
+    if (!idListeners.containsKey(element)) {
+      return -1;
+    }
+    Integer position = positions.get(element);
+    if (position == null || position >= validPositions || list.get(position) != element) {
+      if (position != null && position < validPositions) {
+        // the element is present multiple times and the recorded occurrence was replaced
+        validPositions = 0;
+      }
+      updatePositions(validPositions, list.size());
+      position = positions.get(element);
+    }
+    return position;
+  }
+
+  /**
+   * Stops indexing the list and detaches all listeners.
+   */
+  public void dispose() {
+    list.removeListener(listChangeListener);
+    idListeners.forEach((element, idListener) -> element.idProperty().removeListener(idListener));
+    idListeners.clear();
+    elementsById.clear();
+    positions.clear();
+    validPositions = 0;
+  }
+
+  /**
+   * Updates the index from the list change. The positions of the changed elements are updated, the positions behind them are invalidated
+   * if the change shifted them.
+   *
+   * @param change the list change
+   */
+  private void onChanged(ListChangeListener.Change<? extends E> change) {
+    while (change.next()) {
+      if (change.wasPermutated()) {
+        validPositions = Math.min(validPositions, change.getFrom());
+      } else if (change.wasAdded() || change.wasRemoved()) {
+        change.getRemoved().forEach(this::onRemove);
+        forEachElement(change.getFrom(), change.getTo(), (element, position) -> onAdd(element));
+        if (change.getAddedSize() != change.getRemovedSize()) {
+          validPositions = Math.min(validPositions, change.getFrom());
+        }
+        updatePositions(change.getFrom(), change.getTo());
+      }
+    }
+  }
+
+  /**
+   * Updates the positions of the elements in the range of the list if the range follows the valid positions.
+   *
+   * @param from the first position, inclusive
+   * @param to   the last position, exclusive
+   */
+  private void updatePositions(int from, int to) {
+    if (from > validPositions) {
+      return;
+    }
+    forEachElement(from, to, positions::put);
+    validPositions = Math.max(validPositions, to);
+  }
+
+  /**
+   * Runs the action with the elements in the range of the list and their positions. Only the held elements of the {@link SparseList} are visited.
+   *
+   * @param from   the first position, inclusive
+   * @param to     the last position, exclusive
+   * @param action the action accepting the element and its position
+   */
+  private void forEachElement(int from, int to, ObjIntConsumer<E> action) {
+    if (sparseList != null) {
+      sparseList.forEachHeld(from, to, action);
+      return;
+    }
+    for (int i = from; i < to; i++) {
+      action.accept(list.get(i), i);
+    }
+  }
+
+  /**
+   * Called when an element is added; attaches the id listener to the first occurrence and indexes the element by its id.
+   *
+   * @param element the added element
+   */
+  private void onAdd(E element) {
+    var idListener = idListeners.get(element);
+    if (idListener != null) {
+      idListener.occurrences++;
+      return;
+    }
+    idListener = new IdListener(element);
+    idListeners.put(element, idListener);
+    element.idProperty().addListener(idListener);
+    if (element.getId() != null) {
+      elementsById.put(element.getId(), element);
+    }
+  }
+
+  /**
+   * Called when an element is removed; detaches the id listener from the last occurrence and removes the element from the index.
+   *
+   * @param element the removed element
+   */
+  private void onRemove(E element) {
+    if (sparseList != null && sparseList.isPlaceholder(element)) {
+      return;
+    }
+    var idListener = idListeners.get(element);
+    if (idListener == null || --idListener.occurrences > 0) {
+      return;
+    }
+    idListeners.remove(element);
+    positions.remove(element);
+    element.idProperty().removeListener(idListener);
+    removeId(element.getId(), element);
+  }
+
+  /**
+   * Removes the element from the index by id if the id is mapped to this element, not only to an equal one.
+   *
+   * @param id      the id of the element
+   * @param element the element
+   */
+  private void removeId(I id, E element) {
+    if (id != null && elementsById.get(id) == element) {
+      elementsById.remove(id);
+    }
+  }
+
+  /**
+   * The id listener of one distinct element counting its occurrences in the list.
+   */
+  private class IdListener implements ChangeListener<I> {
+    /** The element. */
+    private final E element;
+    /** The number of occurrences of the element in the list. */
+    private int occurrences = 1;
+
+    /**
+     * Creates a new id listener of the element.
+     *
+     * @param element the element
+     */
+    IdListener(E element) {
+      this.element = element;
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends I> observable, I oldValue, I newValue) {
+      removeId(oldValue, element);
+      if (newValue != null) {
+        elementsById.put(newValue, element);
+      }
+    }
+  }
+}
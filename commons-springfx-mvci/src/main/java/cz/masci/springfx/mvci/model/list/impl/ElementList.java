@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.util.Callback;
+
+/**
+ * Observable array list of the elements owned by the list models, firing the changes of a batch as one list change.
+ *
+ * <p>
+ *   The optional extractor reports the updates of the elements like the list created by {@code FXCollections.observableArrayList(extractor)}.
+ *   Removing or retaining the elements by a collection and clearing the list cost one pass over the list.
+ * </p>
+ *
+ * @param <E> the type of elements in the list
+ */
+class ElementList<E> extends ModifiableObservableListBase<E> implements BatchList {
+
+  /** The elements. */
+  private final List<E> elements = new ArrayList<>();
+  /** The extractor of the observables reporting the updates of the element, {@code null} if the updates are not reported. */
+  private final Callback<E, Observable[]> extractor;
+  /** The observers of the elements reporting their updates, by the element. */
+  private final Map<E, ElementObserver> observers = new IdentityHashMap<>();
+
+  /**
+   * Creates a new empty list not reporting the updates of the elements.
+   */
+  ElementList() {
+    this(null);
+  }
+
+  /**
+   * Creates a new empty list reporting the updates of the elements by the extractor.
+   *
+   * @param extractor the extractor of the observables reporting the updates of the element, could be {@code null}
+   */
+  ElementList(Callback<E, Observable[]> extractor) {
+    this.extractor = extractor;
+  }
+
+  @Override
+  public void batch(Runnable changes) {
+    beginChange();
+    try {
+      changes.run();
+    } finally {
+      endChange();
+    }
+  }
+
+  @Override
+  public E get(int index) {
+    return elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  @Override
+  protected void doAdd(int index, E element) {
+    elements.add(index, element);
+    observe(element);
+  }
+
+  @Override
+  protected E doSet(int index, E element) {
+    var replaced = elements.set(index, element);
+    unobserve(replaced);
+    observe(element);
+    return replaced;
+  }
+
+  @Override
+  protected E doRemove(int index) {
+    var removed = elements.remove(index);
+    unobserve(removed);
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    if (!elements.isEmpty()) {
+      removeRange(0, elements.size());
+    }
+  }
+
+  @Override
+  public void remove(int from, int to) {
+    removeRange(from, to);
+  }
+
+  @Override
+  protected void removeRange(int from, int to) {
+    var range = elements.subList(from, to);
+    var removed = new ArrayList<>(range);
+    range.clear();
+    removed.forEach(this::unobserve);
+    batch(() -> nextRemove(from, removed));
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> elementsToRemove) {
+    return removeMatching(elementsToRemove, true);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> elementsToRetain) {
+    return removeMatching(elementsToRetain, false);
+  }
+
+  /**
+   * Removes the elements contained or not contained in the collection by one pass over the list and one list change.
+   *
+   * @param lookup    the collection of the elements
+   * @param contained {@code true} to remove the contained elements, {@code false} to remove the other elements
+   * @return {@code true} if any element was removed
+   */
+  private boolean removeMatching(Collection<?> lookup, boolean contained) {
+    int size = elements.size();
+    int kept = 0;
+    beginChange();
+    try {
+      for (int i = 0; i < size; i++) {
+        var element = elements.get(i);
+        if (lookup.contains(element) == contained) {
+          unobserve(element);
+          nextRemove(kept, element);
+        } else {
+          elements.set(kept++, element);
+        }
+      }
+      elements.subList(kept, size).clear();
+    } finally {
+      endChange();
+    }
+    return kept < size;
+  }
+
+  /**
+   * Starts observing the updates of the element if the list has the extractor.
+   *
+   * @param element the added element
+   */
+  private void observe(E element) {
+    if (extractor != null) {
+      observers.computeIfAbsent(element, ElementObserver::new).count++;
+    }
+  }
+
+  /**
+   * Stops observing the updates of the element if no other occurrence of the element is in the list.
+   *
+   * @param element the removed element
+   */
+  private void unobserve(E element) {
+    var observer = extractor != null ? observers.get(element) : null;
+    if (observer != null && --observer.count == 0) {
+      observers.remove(element);
+      observer.dispose();
+    }
+  }
+
+  /**
+   * The observer of the observables extracted from the element, reporting the updates of all occurrences of the element.
+   */
+  private class ElementObserver {
+    /** The observables extracted from the element. */
+    private final Observable[] observables;
+    /** Reports the update of the element. */
+    private final InvalidationListener listener;
+    /** The number of occurrences of the element in the list. */
+    private int count;
+
+    /**
+     * Creates a new observer of the element.
+     *
+     * @param element the observed element
+     */
+    ElementObserver(E element) {
+      this.observables = extractor.call(element);
+      this.listener = observable -> batch(() -> {
+        for (int i = 0; i < elements.size(); i++) {
+          if (elements.get(i) == element) {
+            nextUpdate(i);
+          }
+        }
+      });
+      for (var observable : observables) {
+        observable.addListener(listener);
+      }
+    }
+
+    /**
+     * Stops observing the observables of the element.
+     */
+    void dispose() {
+      for (var observable : observables) {
+        observable.removeListener(listener);
+      }
+    }
+  }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import cz.masci.springfx.mvci.util.ConcurrentUtils;
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import lombok.Setter;
+
+/**
+ * Filtered and sorted view of the observable list maintained incrementally.
+ *
+ * <p>
+ *   When the predicate or the comparator changes, the view is recomputed from the snapshot of the source list in parallel off the JavaFX thread
+ *   and set by one change. The predicate and the comparator should therefore only read the elements.
+ *   The source changes, including the element updates reported by the extractor of the source list, are applied incrementally in the JavaFX thread:
+ *   only the affected elements are tested, removed from the view or inserted at their sorted position.
+ * </p>
+ * <p>
+ *   While the recomputation is running, the view keeps the previous elements. The source changes and the new predicates or comparators
+ *   made meanwhile only mark the view stale, it is recomputed once when the running recomputation finishes, so a burst of edits costs one more pass.
+ *   If the predicate or the comparator fails, the failure is reported by the command set by {@link #setOnComputeFailed(Consumer)},
+ *   or to the uncaught exception handler of the JavaFX thread, and the view keeps the previous elements.
+ * </p>
+ *
+ * @param <E> the type of elements in the list
+ */
+public class ElementsView<E> {
+
+  /** The source list. */
+  private final ObservableList<E> source;
+  /** The filtered and sorted elements. */
+  private final ObservableList<E> view = FXCollections.observableArrayList();
+  /** The unmodifiable view of the filtered and sorted elements. */
+  private final ObservableList<E> unmodifiableView = FXCollections.unmodifiableObservableList(view);
+  /** The elements present in the view. */
+  private final Set<E> visible = new HashSet<>();
+  /** The executor recomputing the view. */
+  private final Executor computeExecutor;
+  /** The executor applying the recomputed view in the JavaFX thread. */
+  private final Executor fxExecutor;
+  /** Flag whether the view is being recomputed. */
+  private final ReadOnlyBooleanWrapper computing = new ReadOnlyBooleanWrapper();
+  /** The listener of the source changes. */
+  private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+  /** The predicate of the elements in the view, {@code null} for all elements. */
+  private Predicate<? super E> predicate;
+  /** The comparator of the elements in the view, {@code null} for the source order. */
+  private Comparator<? super E> comparator;
+  /** The version of the recomputation, incremented on each recomputation so the stale results are ignored. */
+  private long version;
+  /** Flag whether the view has to be recomputed again when the running recomputation finishes. */
+  private boolean stale;
+  /** Command executed when the recomputation failed. */
+  @Setter
+  private Consumer<Throwable> onComputeFailed;
+
+  /**
+   * Creates a new view of the source list with all elements in the source order.
+   *
+   * @param source          the source list
+   * @param computeExecutor the executor recomputing the view
+   * @param fxExecutor      the executor applying the recomputed view in the JavaFX thread
+   */
+  public ElementsView(ObservableList<E> source, Executor computeExecutor, Executor fxExecutor) {
+    this.source = Objects.requireNonNull(source);
+    this.computeExecutor = Objects.requireNonNull(computeExecutor);
+    this.fxExecutor = Objects.requireNonNull(fxExecutor);
+    view.setAll(source);
+    visible.addAll(source);
+    source.addListener(sourceListener);
+  }
+
+  /**
+   * Creates a new view of the source list recomputed by the default background executor, e.g. of the elements of {@link BaseListModel}.
+   * The view reads all elements of the source list, so it should not be created for the virtual list of {@link PagedListModel},
+   * its {@link cz.masci.springfx.mvci.model.list.PageLoader} should filter and sort the elements instead.
+   *
+   * @param source the source list
+   * @param <E>    the type of elements in the list
+   * @return the new view of the source list
+   */
+  public static <E> ElementsView<E> of(ObservableList<E> source) {
+    return new ElementsView<>(source, BackgroundExecutors.currentDefault(), ConcurrentUtils::runInFXThread);
+  }
+
+  /**
+   * Returns the unmodifiable filtered and sorted elements.
+   *
+   * @return the filtered and sorted elements
+   */
+  public ObservableList<E> getElements() {
+    return unmodifiableView;
+  }
+
+  /**
+   * Returns the property which is {@code true} while the view is being recomputed.
+   *
+   * @return the computing property
+   */
+  public ReadOnlyBooleanProperty computingProperty() {
+    return computing.getReadOnlyProperty();
+  }
+
+  /**
+   * Returns the predicate of the elements in the view.
+   *
+   * @return the predicate, or {@code null} for all elements
+   */
+  public Predicate<? super E> getPredicate() {
+    return predicate;
+  }
+
+  /**
+   * Sets the predicate of the elements in the view and recomputes the view.
+   *
+   * @param predicate the predicate, or {@code null} for all elements
+   */
+  public void setPredicate(Predicate<? super E> predicate) {
+    this.predicate = predicate;
+    recompute();
+  }
+
+  /**
+   * Returns the comparator of the elements in the view.
+   *
+   * @return the comparator, or {@code null} for the source order
+   */
+  public Comparator<? super E> getComparator() {
+    return comparator;
+  }
+
+  /**
+   * Sets the comparator of the elements in the view and recomputes the view.
+   *
+   * @param comparator the comparator, or {@code null} for the source order
+   */
+  public void setComparator(Comparator<? super E> comparator) {
+    this.comparator = comparator;
+    recompute();
+  }
+
+  /**
+   * Recomputes the view from the snapshot of the source list off the JavaFX thread.
+   * If the view is being recomputed, it is recomputed again once the running recomputation finishes.
+   */
+  public void recompute() {
+    if (computing.get()) {
+      stale = true;
+      return;
+    }
+    long recomputedVersion = ++version;
+    var snapshot = List.copyOf(source);
+    var recomputedPredicate = predicate;
+    var recomputedComparator = comparator;
+    computing.set(true);
+    try {
+      computeExecutor.execute(() -> {
+        List<E> result;
+        try {
+          Stream<E> elements = snapshot.parallelStream();
+          if (recomputedPredicate != null) {
+            elements = elements.filter(recomputedPredicate);
+          }
+          if (recomputedComparator != null) {
+            elements = elements.sorted(recomputedComparator);
+          }
+          result = elements.toList();
+        } catch (RuntimeException | Error e) {
+          fxExecutor.execute(() -> fail(recomputedVersion, e));
+          return;
+        }
+        fxExecutor.execute(() -> apply(recomputedVersion, result));
+      });
+    } catch (RuntimeException e) {
+      computing.set(false);
+      throw e;
+    }
+  }
+
+  /**
+   * Stops updating the view from the source list.
+   */
+  public void dispose() {
+    source.removeListener(sourceListener);
+    version++;
+    stale = false;
+    computing.set(false);
+  }
+
+  /**
+   * Sets the recomputed view if it was not superseded by a newer recomputation. If the view became stale meanwhile, it is recomputed instead.
+   *
+   * @param recomputedVersion the version of the recomputation
+   * @param result            the recomputed view
+   */
+  private void apply(long recomputedVersion, List<E> result) {
+    if (recomputedVersion != version) {
+      return;
+    }
+    computing.set(false);
+    if (stale) {
+      stale = false;
+      recompute();
+      return;
+    }
+    visible.clear();
+    visible.addAll(result);
+    view.setAll(result);
+  }
+
+  /**
+   * Finishes the failed recomputation and reports the failure. The view keeps the previous elements and is recomputed if it became stale meanwhile.
+   *
+   * @param recomputedVersion the version of the recomputation
+   * @param failure           the failure of the predicate or the comparator
+   */
+  private void fail(long recomputedVersion, Throwable failure) {
+    if (recomputedVersion != version) {
+      return;
+    }
+    computing.set(false);
+    boolean recomputeStale = stale;
+    stale = false;
+    if (onComputeFailed != null) {
+      onComputeFailed.accept(failure);
+    } else {
+      Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), failure);
+    }
+    if (recomputeStale) {
+      recompute();
+    }
+  }
+
+  /**
+   * Applies the source change incrementally, or marks the view stale if it is being recomputed.
+   *
+   * @param change the source change
+   */
+  private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+    if (computing.get()) {
+      stale = true;
+      return;
+    }
+    while (change.next()) {
+      if (change.wasPermutated()) {
+        if (comparator == null) {
+          recompute();
+          return;
+        }
+      } else if (change.wasUpdated()) {
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+          update(source.get(i), i);
+        }
+      } else {
+        change.getRemoved().forEach(this::hide);
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+          show(source.get(i), i);
+        }
+      }
+    }
+  }
+
+  /**
+   * Re-tests the updated element and moves it to its sorted position if it stays in the view.
+   *
+   * @param element     the updated element
+   * @param sourceIndex the index of the element in the source list
+   */
+  private void update(E element, int sourceIndex) {
+    boolean wasVisible = visible.contains(element);
+    if (wasVisible && (!test(element) || comparator != null)) {
+      hide(element);
+    }
+    if (!visible.contains(element)) {
+      show(element, sourceIndex);
+    }
+  }
+
+  /**
+   * Inserts the element at its position in the view if it passes the predicate.
+   *
+   * @param element     the element
+   * @param sourceIndex the index of the element in the source list
+   */
+  private void show(E element, int sourceIndex) {
+    if (test(element) && visible.add(element)) {
+      view.add(insertPosition(element, sourceIndex), element);
+    }
+  }
+
+  /**
+   * Removes the element from the view.
+   *
+   * @param element the element
+   */
+  private void hide(E element) {
+    if (visible.remove(element)) {
+      view.remove(element);
+    }
+  }
+
+  /**
+   * Tests the element by the predicate.
+   *
+   * @param element the element
+   * @return {@code true} if the element belongs to the view
+   */
+  private boolean test(E element) {
+    return predicate == null || predicate.test(element);
+  }
+
+  /**
+   * Returns the position of the element in the view. The sorted position is found by binary search,
+   * the source order position follows the nearest preceding visible element of the source list.
+   *
+   * @param element     the element
+   * @param sourceIndex the index of the element in the source list
+   * @return the position of the element in the view
+   */
+  private int insertPosition(E element, int sourceIndex) {
+    if (comparator != null) {
+      int position = Collections.binarySearch(view, element, comparator);
+      return position >= 0 ? position : -position - 1;
+    }
+    if (sourceIndex >= source.size() - 1) {
+      return view.size();
+    }
+    for (int i = sourceIndex - 1; i >= 0; i--) {
+      var preceding = source.get(i);
+      if (visible.contains(preceding)) {
+        return view.indexOf(preceding) + 1;
+      }
+    }
+    return 0;
+  }
+}
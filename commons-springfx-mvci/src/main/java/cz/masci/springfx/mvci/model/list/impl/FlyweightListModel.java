@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import cz.masci.springfx.mvci.model.detail.DetailModel;
+import cz.masci.springfx.mvci.model.dirty.DirtyElementIndex;
+import cz.masci.springfx.mvci.model.list.DirtyElements;
+import cz.masci.springfx.mvci.model.list.Elements;
+import cz.masci.springfx.mvci.model.list.ListModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import lombok.Setter;
+
+/**
+ * FlyweightListModel is an implementation of the {@link ListModel} and {@link Elements} interfaces for read-mostly lists holding
+ * lightweight immutable rows, e.g. Java records, instead of full {@link DetailModel detail models}.
+ * <p>
+ *   The detail model with its dirty properties and validator is materialized only for the selected row or when requested by {@link #getDetail(Object)}.
+ *   The not dirty detail is released when the row is deselected. The dirty details are kept until their edits are folded back into the rows
+ *   by {@link #fold(DetailModel)} or discarded by {@link #discard(DetailModel)}. The dirty details are provided by {@link DirtyElements}.
+ *   The detail of the row removed from the elements is dropped, also when it is dirty. The row replaced in the same change, e.g. by {@code setAll}, keeps its detail.
+ * </p>
+ * Usage example:
+ * <pre>{@code
+ * var listModel = new FlyweightListModel<Long, BookRow, BookDetailModel>(BookDetailModel::of, BookDetailModel::toRow);
+ * listModel.getElements().setAll(rows);
+ * listModel.selectedElementProperty().setValue(rows.get(0));
+ * listModel.getSelectedDetail().setTitle("New title");
+ * listModel.foldAll();
+ * }</pre>
+ *
+ * @param <I> The type of the element id identifier.
+ * @param <R> The type of the immutable rows in the list.
+ * @param <E> The type of the detail models materialized from the rows extending {@link DetailModel<I>}.
+ */
+public class FlyweightListModel<I, R, E extends DetailModel<I>> implements ListModel<R>, Elements<R>, DirtyElements<E> {
+  /** The observable list of rows. */
+  protected final ObservableList<R> elements = new ElementList<>();
+  /** The property holding the currently selected row. */
+  protected final ObjectProperty<R> selectedElement = new SimpleObjectProperty<>();
+  /** The property holding the detail of the currently selected row. */
+  private final ReadOnlyObjectWrapper<E> selectedDetail = new ReadOnlyObjectWrapper<>();
+  /** The materialized details by their rows. */
+  private final Map<R, E> details = new IdentityHashMap<>();
+  /** The rows by their materialized details. */
+  private final Map<E, R> rows = new IdentityHashMap<>();
+  /** The observable list of the materialized details. */
+  private final ObservableList<E> materialized = FXCollections.observableArrayList();
+  /** The index of the dirty details. */
+  private final DirtyElementIndex<E> dirtyIndex = new DirtyElementIndex<>(materialized);
+  /** Creates the detail model from the row. */
+  private final Function<R, E> detailFactory;
+  /** Creates the row from the edited detail model. */
+  private final Function<E, R> rowFactory;
+  /** Command executed when an element is selected. */
+  @Setter
+  protected Consumer<R> onSelectElement;
+  /** Command executed when the elements property is updated. */
+  @Setter
+  protected Runnable onUpdateElementsProperty;
+  /** Command executed when an element is removed. */
+  @Setter
+  protected Consumer<R> onRemoveElement;
+  /** Command executed when the view should be focused. */
+  @Setter
+  protected Runnable onFocusView;
+
+  /**
+   * Creates a new {@code FlyweightListModel} materializing the detail of the selected row.
+   *
+   * @param detailFactory creates the detail model from the row
+   * @param rowFactory    creates the row from the edited detail model
+   */
+  public FlyweightListModel(Function<R, E> detailFactory, Function<E, R> rowFactory) {
+    this.detailFactory = requireNonNull(detailFactory);
+    this.rowFactory = requireNonNull(rowFactory);
+    selectedElement.addListener((observable, oldRow, newRow) -> {
+      selectedDetail.set(newRow != null ? getDetail(newRow) : null);
+      if (oldRow != null) {
+        release(oldRow);
+      }
+    });
+    elements.addListener(this::onElementsChanged);
+  }
+
+  /**
+   * Runs the updates of the details in the {@link ModelBatch}. The dirty and validation state of all updated details
+   * is recomputed once when the batch commits.
+   *
+   * @param updates the updates of the details
+   */
+  public void batch(Runnable updates) {
+    ModelBatch.run(updates);
+  }
+
+  @Override
+  public ObservableList<R> getElements() {
+    return elements;
+  }
+
+  @Override
+  public ObservableSet<E> getDirtyElements() {
+    return dirtyIndex.getDirtyElements();
+  }
+
+  @Override
+  public ReadOnlyIntegerProperty dirtyCountProperty() {
+    return dirtyIndex.dirtyCountProperty();
+  }
+
+  @Override
+  public Property<R> selectedElementProperty() {
+    return selectedElement;
+  }
+
+  /**
+   * Returns the property holding the detail of the currently selected row.
+   *
+   * @return the selected detail property
+   */
+  public ReadOnlyObjectProperty<E> selectedDetailProperty() {
+    return selectedDetail.getReadOnlyProperty();
+  }
+
+  /**
+   * Returns the detail of the currently selected row.
+   *
+   * @return the selected detail, or {@code null} if no row is selected
+   */
+  public E getSelectedDetail() {
+    return selectedDetail.get();
+  }
+
+  /**
+   * Returns the detail of the row, materializes it if not materialized yet.
+   * The detail is kept until the row is deselected, or while it is dirty.
+   *
+   * @param row the row
+   * @return the detail of the row
+   */
+  public E getDetail(R row) {
+    requireNonNull(row);
+    var detail = details.get(row);
+    if (detail == null) {
+      detail = detailFactory.apply(row);
+      details.put(row, detail);
+      rows.put(detail, row);
+      materialized.add(detail);
+    }
+    return detail;
+  }
+
+  /**
+   * Returns the number of the materialized details.
+   *
+   * @return the number of the materialized details
+   */
+  public int getMaterializedCount() {
+    return materialized.size();
+  }
+
+  /**
+   * Folds the edits of the detail back into its row. The row is replaced by the row created from the detail,
+   * the detail is rebaselined and released if its row is not selected.
+   *
+   * @param detail the detail to fold
+   */
+  public void fold(E detail) {
+    var row = rows.get(detail);
+    if (row == null) {
+      return;
+    }
+    var newRow = rowFactory.apply(detail);
+    detail.rebaseline();
+    details.remove(row);
+    details.put(newRow, detail);
+    rows.put(detail, newRow);
+    var index = indexOf(row);
+    if (index >= 0) {
+      elements.set(index, newRow);
+    }
+    if (selectedElement.get() == row) {
+      selectedElement.set(newRow);
+    } else {
+      release(newRow);
+    }
+  }
+
+  /**
+   * Folds the edits of all dirty details back into their rows. The rows are replaced in one pass over the elements by one list change.
+   */
+  public void foldAll() {
+    var dirtyDetails = List.copyOf(dirtyIndex.getDirtyElements());
+    Map<R, R> newRows = new IdentityHashMap<>();
+    for (E detail : dirtyDetails) {
+      var row = rows.get(detail);
+      var newRow = rowFactory.apply(detail);
+      detail.rebaseline();
+      details.remove(row);
+      details.put(newRow, detail);
+      rows.put(detail, newRow);
+      newRows.put(row, newRow);
+    }
+    batchElements(() -> {
+      for (int i = 0, replaced = 0; i < elements.size() && replaced < newRows.size(); i++) {
+        var newRow = newRows.get(elements.get(i));
+        if (newRow != null) {
+          elements.set(i, newRow);
+          replaced++;
+        }
+      }
+    });
+    newRows.forEach((row, newRow) -> {
+      if (selectedElement.get() == row) {
+        selectedElement.set(newRow);
+      } else {
+        release(newRow);
+      }
+    });
+  }
+
+  /**
+   * Discards the edits of the detail. The detail is reset and released if its row is not selected.
+   *
+   * @param detail the detail to discard
+   */
+  public void discard(E detail) {
+    var row = rows.get(detail);
+    if (row == null) {
+      return;
+    }
+    detail.reset();
+    if (selectedElement.get() != row) {
+      release(row);
+    }
+  }
+
+  @Override
+  public void remove(R element) {
+    selectedElement.setValue(null);
+    var index = indexOf(element);
+    if (index >= 0) {
+      elements.remove(index);
+      if (onRemoveElement != null) {
+        onRemoveElement.accept(element);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * The rows are matched by {@link Object#equals(Object)}, e.g. the records compared by their id, in one pass over the elements.
+   * The details of the replaced rows are dropped, the replaced selected row stays selected as the new row.
+   */
+  @Override
+  public List<R> replaceAll(Collection<R> replacements) {
+    Map<R, R> replacementsByRow = new HashMap<>();
+    replacements.forEach(replacement -> replacementsByRow.putIfAbsent(replacement, replacement));
+    var selected = selectedElement.get();
+    var replaced = new ArrayList<R>();
+    batchElements(() -> {
+      for (int i = 0; i < elements.size(); i++) {
+        var row = elements.get(i);
+        var replacement = replacementsByRow.get(row);
+        if (replacement != null && replacement != row) {
+          elements.set(i, replacement);
+          replaced.add(row);
+        }
+      }
+    });
+    if (selected != null && replaced.stream().anyMatch(row -> row == selected)) {
+      selectedElement.set(replacementsByRow.get(selected));
+    }
+    return replaced;
+  }
+
+  @Override
+  public void update() {
+    if (onUpdateElementsProperty != null) {
+      onUpdateElementsProperty.run();
+    }
+  }
+
+  @Override
+  public void select(R item) {
+    if (onSelectElement != null) {
+      onSelectElement.accept(item);
+    }
+  }
+
+  @Override
+  public void focus() {
+    if (onFocusView != null) {
+      onFocusView.run();
+    }
+  }
+
+  /**
+   * Releases the detail of the row if it is not dirty.
+   *
+   * @param row the row
+   */
+  private void release(R row) {
+    var detail = details.get(row);
+    if (detail != null && !detail.isDirty()) {
+      drop(row);
+    }
+  }
+
+  /**
+   * Drops the detail of the row.
+   *
+   * @param row the row
+   */
+  private void drop(R row) {
+    var detail = details.remove(row);
+    if (detail != null) {
+      rows.remove(detail);
+      materialized.remove(detail);
+    }
+  }
+
+  /**
+   * Drops the details of the rows removed from the elements and not added back by the same change. The selection of the removed row is cleared.
+   *
+   * @param change the change of the elements
+   */
+  private void onElementsChanged(Change<? extends R> change) {
+    if (details.isEmpty()) {
+      return;
+    }
+    Set<R> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    while (change.next()) {
+      if (change.wasRemoved()) {
+        change.getRemoved().stream().filter(details::containsKey).forEach(removed::add);
+      }
+    }
+    if (removed.isEmpty()) {
+      return;
+    }
+    change.reset();
+    while (change.next()) {
+      if (change.wasAdded()) {
+        change.getAddedSubList().forEach(removed::remove);
+      }
+    }
+    removed.forEach(row -> {
+      if (selectedElement.get() == row) {
+        selectedElement.set(null);
+      }
+      drop(row);
+    });
+  }
+
+  /**
+   * Runs the changes of the rows and fires them as one list change.
+   *
+   * @param changes the changes of the rows
+   */
+  private void batchElements(Runnable changes) {
+    ((BatchList) elements).batch(changes);
+  }
+
+  /**
+   * Returns the index of the row in the list compared by identity, so the equal rows are distinguished.
+   *
+   * @param row the row
+   * @return the index of the row or {@code -1} if the row is not in the list
+   */
+  private int indexOf(R row) {
+    for (int i = 0; i < elements.size(); i++) {
+      if (elements.get(i) == row) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
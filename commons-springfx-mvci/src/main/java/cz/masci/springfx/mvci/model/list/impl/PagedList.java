@@ -0,0 +1,660 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import cz.masci.commons.springfx.data.Page;
+import cz.masci.springfx.mvci.model.list.PageLoader;
+import cz.masci.springfx.mvci.model.list.SparseList;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Virtual observable list of the size of the total count of elements, loading the pages of elements on demand.
+ *
+ * <p>
+ *   Reading an element of a page not loaded yet returns the placeholder and requests the page from the loader in the background.
+ *   The loaded page replaces the placeholders by one change and the neighbor pages are prefetched, as many as fit in the limit of the loaded pages
+ *   together with the read page. The least recently used pages above the limit are evicted back to the placeholders, except the pages
+ *   with pinned elements, e.g. dirty or selected.
+ *   Reading the elements by the listeners of this list does not request the pages. The indexes of the list visit only the loaded elements
+ *   by {@link #forEachHeld(int, int, ObjIntConsumer)}, so they neither load all pages nor visit the placeholders.
+ * </p>
+ * <p>
+ *   The elements matching the hidden predicate, e.g. the removed elements not deleted by the loader yet, are left out of the loaded pages,
+ *   so the loaded page could be shorter than the page size. The hidden elements are counted per loaded page only, the evicted page
+ *   is represented by the placeholders of the full page again and the hidden elements are left out when the page is loaded next time.
+ * </p>
+ * <p>
+ *   The elements could be appended after the paged elements, e.g. the new elements not saved yet. The appended elements are never evicted,
+ *   they stay at the end of the list until they are removed or dropped by {@link #retainAdded(Predicate)}.
+ * </p>
+ *
+ * @param <E> the type of elements in the list
+ */
+class PagedList<E> extends ObservableListBase<E> implements SparseList<E>, BatchList {
+
+  /** The loader of the pages. */
+  private final PageLoader<E> loader;
+  /** The element returned for the elements not loaded yet. */
+  private final E placeholder;
+  /** The number of elements on the page. */
+  private final int pageSize;
+  /** The maximal number of loaded pages kept. */
+  private final int maxPages;
+  /** The executor loading the pages. */
+  private final Executor loadExecutor;
+  /** The executor applying the loaded pages in the JavaFX thread. */
+  private final Executor fxExecutor;
+  /** The loaded pages by their index in the least recently used order. */
+  private final Map<Integer, List<E>> pages = new LinkedHashMap<>(16, 0.75f, true);
+  /** The indexes of the pages being loaded. */
+  private final Set<Integer> pendingPages = new HashSet<>();
+  /** The number of the hidden elements of the loaded pages by the page index. */
+  private final TreeMap<Integer, Integer> hiddenCounts = new TreeMap<>();
+  /** The elements appended after the paged elements. */
+  private final List<E> added = new ArrayList<>();
+  /** The total count of elements. */
+  private final ReadOnlyLongWrapper totalCount = new ReadOnlyLongWrapper();
+  /** Tests whether the element pins its page, so the page is not evicted. */
+  private Predicate<E> pinned = element -> false;
+  /** Tests whether the element is hidden, so it is left out of the loaded pages. */
+  private Predicate<E> hidden = element -> false;
+  /** Command executed when the page could not be loaded. */
+  private Consumer<Throwable> onLoadFailed;
+  /** The number of the paged elements reported by the loader, including the hidden elements. */
+  private int pagedTotal;
+  /** The number of the paged elements shown by the list. */
+  private int pagedSize;
+  /** The generation of the pages, incremented on refresh so the stale pages are ignored. */
+  private int generation;
+  /** Flag whether reading an element requests its page. */
+  private boolean loadOnGet = true;
+
+  /**
+   * Creates a new empty paged list. The first page is requested by {@link #refresh()}.
+   *
+   * @param loader       the loader of the pages
+   * @param placeholder  the element returned for the elements not loaded yet
+   * @param pageSize     the number of elements on the page
+   * @param maxPages     the maximal number of loaded pages kept
+   * @param loadExecutor the executor loading the pages
+   * @param fxExecutor   the executor applying the loaded pages in the JavaFX thread
+   */
+  PagedList(PageLoader<E> loader, E placeholder, int pageSize, int maxPages, Executor loadExecutor, Executor fxExecutor) {
+    if (pageSize < 1 || maxPages < 1) {
+      throw new IllegalArgumentException("Page size and max pages must be positive");
+    }
+    this.loader = Objects.requireNonNull(loader);
+    this.placeholder = Objects.requireNonNull(placeholder);
+    this.pageSize = pageSize;
+    this.maxPages = maxPages;
+    this.loadExecutor = Objects.requireNonNull(loadExecutor);
+    this.fxExecutor = Objects.requireNonNull(fxExecutor);
+  }
+
+  @Override
+  public E get(int index) {
+    Objects.checkIndex(index, size());
+    if (index >= pagedSize) {
+      return added.get(index - pagedSize);
+    }
+    long position = locate(index);
+    int pageIndex = (int) (position >> 32);
+    int offset = (int) position;
+    var page = pages.get(pageIndex);
+    if (page == null && loadOnGet) {
+      requestPage(pageIndex, true);
+      page = pages.get(pageIndex);
+    }
+    return page != null && offset < page.size() ? page.get(offset) : placeholder;
+  }
+
+  /**
+   * Replaces the element of the loaded page or the appended element.
+   *
+   * @param index   the index of the element
+   * @param element the new element
+   * @return the replaced element
+   * @throws UnsupportedOperationException if the page of the element is not loaded
+   */
+  @Override
+  public E set(int index, E element) {
+    Objects.checkIndex(index, size());
+    E replaced;
+    if (index >= pagedSize) {
+      replaced = added.set(index - pagedSize, element);
+    } else {
+      long position = locate(index);
+      var page = pages.get((int) (position >> 32));
+      if (page == null) {
+        throw new UnsupportedOperationException("Only elements of the loaded pages could be replaced");
+      }
+      replaced = page.set((int) position, element);
+    }
+    fire(() -> nextSet(index, replaced));
+    return replaced;
+  }
+
+  /**
+   * Appends the element after the paged elements.
+   *
+   * @param index   the index of the element, must be the size of the list
+   * @param element the element to append
+   * @throws UnsupportedOperationException if the index is not the size of the list
+   */
+  @Override
+  public void add(int index, E element) {
+    if (index != size()) {
+      throw new UnsupportedOperationException("Elements could be only appended to the paged list");
+    }
+    added.add(element);
+    fire(() -> nextAdd(index, index + 1));
+  }
+
+  /**
+   * Removes the appended element.
+   *
+   * @param index the index of the element
+   * @return the removed element
+   * @throws UnsupportedOperationException if the element is a paged element
+   */
+  @Override
+  public E remove(int index) {
+    Objects.checkIndex(index, size());
+    if (index < pagedSize) {
+      throw new UnsupportedOperationException("Only appended elements could be removed from the paged list");
+    }
+    var removed = added.remove(index - pagedSize);
+    fire(() -> nextRemove(index, removed));
+    return removed;
+  }
+
+  @Override
+  public int size() {
+    return pagedSize + added.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   * The changes do not request the pages, so only the elements of the loaded pages and the appended elements could be replaced.
+   */
+  @Override
+  public void batch(Runnable changes) {
+    fire(changes);
+  }
+
+  @Override
+  public boolean isPlaceholder(E element) {
+    return element == placeholder;
+  }
+
+  /**
+   * {@inheritDoc}
+   * Visits the loaded pages and the appended elements without requesting the pages, so it costs time proportional to the number of loaded elements.
+   */
+  @Override
+  public void forEachHeld(int from, int to, ObjIntConsumer<? super E> action) {
+    for (var entry : pages.entrySet()) {
+      int pageFrom = pageStart(entry.getKey());
+      var page = entry.getValue();
+      for (int i = Math.max(from, pageFrom); i < Math.min(to, pageFrom + page.size()); i++) {
+        action.accept(page.get(i - pageFrom), i);
+      }
+    }
+    for (int i = Math.max(from, pagedSize); i < Math.min(to, size()); i++) {
+      action.accept(added.get(i - pagedSize), i);
+    }
+  }
+
+  /**
+   * Returns {@code true} if the element is appended after the paged elements.
+   *
+   * @param element the element
+   * @return {@code true} if the element is appended
+   */
+  boolean isAdded(E element) {
+    return added.stream().anyMatch(addedElement -> addedElement == element);
+  }
+
+  /**
+   * Removes the appended elements not matching the predicate by one change, e.g. the saved elements loaded by the pages after refresh.
+   *
+   * @param kept the predicate testing whether the appended element is kept
+   * @return the removed elements
+   */
+  List<E> retainAdded(Predicate<E> kept) {
+    var removed = added.stream().filter(kept.negate()).toList();
+    if (removed.isEmpty()) {
+      return removed;
+    }
+    var previous = new ArrayList<>(added);
+    added.removeIf(kept.negate());
+    fire(() -> {
+      int removedCount = 0;
+      for (int i = 0; i < previous.size(); i++) {
+        if (!kept.test(previous.get(i))) {
+          nextRemove(pagedSize + i - removedCount++, previous.get(i));
+        }
+      }
+    });
+    return removed;
+  }
+
+  /**
+   * Sets the predicate testing whether the element pins its page, so the page is not evicted.
+   *
+   * @param pinned the predicate
+   */
+  void setPinned(Predicate<E> pinned) {
+    this.pinned = Objects.requireNonNull(pinned);
+  }
+
+  /**
+   * Sets the predicate testing whether the element is hidden, so it is left out of the loaded pages.
+   *
+   * @param hidden the predicate
+   */
+  void setHidden(Predicate<E> hidden) {
+    this.hidden = Objects.requireNonNull(hidden);
+  }
+
+  /**
+   * Removes the elements of the loaded pages matching the hidden predicate from the list by one change, e.g. after the predicate
+   * started to match the removed elements. The pages being loaded leave out the hidden elements when they are applied.
+   *
+   * @return the removed elements
+   */
+  List<E> hide() {
+    var removed = new ArrayList<E>();
+    var hiddenPages = new TreeMap<Integer, List<E>>();
+    pages.forEach((pageIndex, page) -> {
+      if (page.stream().anyMatch(hidden)) {
+        hiddenPages.put(pageIndex, page);
+      }
+    });
+    if (hiddenPages.isEmpty()) {
+      return removed;
+    }
+    fire(() -> hiddenPages.forEach((pageIndex, page) -> {
+      int pageFrom = pageStart(pageIndex);
+      for (var iterator = page.listIterator(); iterator.hasNext(); ) {
+        int offset = iterator.nextIndex();
+        var element = iterator.next();
+        if (hidden.test(element)) {
+          iterator.remove();
+          hiddenCounts.merge(pageIndex, 1, Integer::sum);
+          pagedSize--;
+          removed.add(element);
+          nextRemove(pageFrom + offset, element);
+        }
+      }
+    }));
+    return removed;
+  }
+
+  /**
+   * Sets the command executed when the page could not be loaded.
+   *
+   * @param onLoadFailed the command accepting the failure
+   */
+  void setOnLoadFailed(Consumer<Throwable> onLoadFailed) {
+    this.onLoadFailed = onLoadFailed;
+  }
+
+  /**
+   * Returns the property holding the total count of elements reported by the last loaded page.
+   *
+   * @return the total count property
+   */
+  ReadOnlyLongProperty totalCountProperty() {
+    return totalCount.getReadOnlyProperty();
+  }
+
+  /**
+   * Returns the number of the loaded pages.
+   *
+   * @return the number of the loaded pages
+   */
+  int getLoadedPageCount() {
+    return pages.size();
+  }
+
+  /**
+   * Evicts the pages without pinned elements, ignores the pages being loaded and requests the first page to update the total count.
+   */
+  void refresh() {
+    generation++;
+    pendingPages.clear();
+    evict(0);
+    requestPage(0, false);
+  }
+
+  /**
+   * Runs the reading of the list without requesting the pages not loaded yet.
+   *
+   * @param reading the reading of the list
+   * @param <T>     the type of the result
+   * @return the result of the reading
+   */
+  <T> T withoutLoading(Supplier<T> reading) {
+    boolean previousLoadOnGet = loadOnGet;
+    loadOnGet = false;
+    try {
+      return reading.get();
+    } finally {
+      loadOnGet = previousLoadOnGet;
+    }
+  }
+
+  /**
+   * Requests loading of the page if not loaded or being loaded yet.
+   *
+   * @param pageIndex the index of the page
+   * @param prefetch  flag whether the neighbor pages are requested when this page is loaded
+   */
+  private void requestPage(int pageIndex, boolean prefetch) {
+    if (pages.containsKey(pageIndex) || !pendingPages.add(pageIndex)) {
+      return;
+    }
+    int pageGeneration = generation;
+    loadExecutor.execute(() -> {
+      try {
+        var page = loader.load(pageIndex, pageSize);
+        fxExecutor.execute(() -> onLoaded(pageGeneration, pageIndex, page, prefetch));
+      } catch (Exception e) {
+        fxExecutor.execute(() -> onFailed(pageGeneration, pageIndex, e));
+      }
+    });
+  }
+
+  /**
+   * Applies the loaded page. Updates the size to the total count, replaces the placeholders of the page, evicts the least recently used pages
+   * and prefetches the neighbor pages. The next page is prefetched if the limit keeps at least two pages, the previous page if it keeps three.
+   *
+   * @param pageGeneration the generation of the request
+   * @param pageIndex      the index of the page
+   * @param page           the loaded page
+   * @param prefetch       flag whether the neighbor pages are requested
+   */
+  private void onLoaded(int pageGeneration, int pageIndex, Page<E> page, boolean prefetch) {
+    if (pageGeneration != generation) {
+      return;
+    }
+    pendingPages.remove(pageIndex);
+    resize(page.totalCount());
+    if ((long) pageIndex * pageSize >= pagedTotal || pages.containsKey(pageIndex)) {
+      return;
+    }
+    var loaded = page.items().subList(0, Math.min(page.items().size(), slots(pageIndex)));
+    var items = new ArrayList<E>(loaded.size());
+    loaded.stream().filter(hidden.negate()).forEach(items::add);
+    int hiddenCount = loaded.size() - items.size();
+    int from = pageStart(pageIndex);
+    pages.put(pageIndex, items);
+    if (hiddenCount > 0) {
+      hiddenCounts.put(pageIndex, hiddenCount);
+      pagedSize -= hiddenCount;
+    }
+    if (!loaded.isEmpty()) {
+      fire(() -> nextReplace(from, from + items.size(), Collections.nCopies(loaded.size(), placeholder)));
+    }
+    evict(maxPages);
+    if (prefetch && maxPages > 1 && (long) (pageIndex + 1) * pageSize < pagedTotal) {
+      requestPage(pageIndex + 1, false);
+    }
+    if (prefetch && maxPages > 2 && pageIndex > 0) {
+      requestPage(pageIndex - 1, false);
+    }
+  }
+
+  /**
+   * Forgets the failed request, so the page is requested again on next read, and reports the failure.
+   *
+   * @param pageGeneration the generation of the request
+   * @param pageIndex      the index of the page
+   * @param failure        the failure
+   */
+  private void onFailed(int pageGeneration, int pageIndex, Throwable failure) {
+    if (pageGeneration != generation) {
+      return;
+    }
+    pendingPages.remove(pageIndex);
+    if (onLoadFailed != null) {
+      onLoadFailed.accept(failure);
+    }
+  }
+
+  /**
+   * Updates the number of the paged elements to the total count. The pages beyond the new count are dropped and the last page is trimmed.
+   * The shrinking is fired with the removed elements read lazily, so only the loaded elements are held and the placeholders are not copied.
+   *
+   * @param total the total count of elements
+   */
+  private void resize(long total) {
+    totalCount.set(total);
+    int newTotal = (int) Math.min(total, Integer.MAX_VALUE);
+    int oldSize = pagedSize;
+    if (newTotal > pagedTotal) {
+      pagedSize += newTotal - pagedTotal;
+      pagedTotal = newTotal;
+      fire(() -> nextAdd(oldSize, pagedSize));
+    } else if (newTotal < pagedTotal) {
+      // the removed elements are the tail of the paged elements, the loaded ones are read before the pages are trimmed
+      var removedHeld = new HashMap<Integer, E>();
+      forEachHeld(Math.max(0, newTotal - hiddenCounts.values().stream().mapToInt(Integer::intValue).sum()), oldSize, (element, index) -> removedHeld.put(index, element));
+      pages.keySet().removeIf(pageIndex -> (long) pageIndex * pageSize >= newTotal);
+      hiddenCounts.keySet().removeIf(pageIndex -> !pages.containsKey(pageIndex));
+      pagedTotal = newTotal;
+      int lastPageIndex = newTotal / pageSize;
+      var lastPage = pages.get(lastPageIndex);
+      if (lastPage != null) {
+        int hiddenCount = Math.min(hiddenCounts.getOrDefault(lastPageIndex, 0), slots(lastPageIndex));
+        hiddenCounts.put(lastPageIndex, hiddenCount);
+        if (lastPage.size() > slots(lastPageIndex) - hiddenCount) {
+          lastPage.subList(slots(lastPageIndex) - hiddenCount, lastPage.size()).clear();
+        }
+      }
+      hiddenCounts.values().removeIf(hiddenCount -> hiddenCount == 0);
+      pagedSize = pagedTotal - hiddenCounts.values().stream().mapToInt(Integer::intValue).sum();
+      int newSize = pagedSize;
+      var held = new HashMap<Integer, E>();
+      removedHeld.forEach((index, element) -> {
+        if (index >= newSize) {
+          held.put(index - newSize, element);
+        }
+      });
+      var removed = new AbstractList<E>() {
+        @Override
+        public E get(int index) {
+          return held.getOrDefault(index, placeholder);
+        }
+
+        @Override
+        public int size() {
+          return oldSize - newSize;
+        }
+      };
+      withoutLoading(() -> {
+        fireChange(new RemovedChange(newSize, removed));
+        return null;
+      });
+    }
+  }
+
+  /**
+   * Evicts the least recently used pages without pinned elements above the limit, replacing their elements by the placeholders.
+   *
+   * @param limit the maximal number of loaded pages kept
+   */
+  private void evict(int limit) {
+    var evicted = new ArrayList<Integer>();
+    int remaining = pages.size();
+    for (var entry : pages.entrySet()) {
+      if (remaining <= limit) {
+        break;
+      }
+      if (entry.getValue().stream().noneMatch(pinned)) {
+        evicted.add(entry.getKey());
+        remaining--;
+      }
+    }
+    evicted.forEach(pageIndex -> {
+      var page = pages.remove(pageIndex);
+      var hiddenCount = hiddenCounts.remove(pageIndex);
+      int from = pageStart(pageIndex);
+      if (hiddenCount != null) {
+        pagedSize += hiddenCount;
+        fire(() -> nextReplace(from, from + page.size() + hiddenCount, page));
+      } else if (!page.isEmpty()) {
+        fire(() -> nextReplace(from, from + page.size(), page));
+      }
+    });
+  }
+
+  /**
+   * Returns the number of the paged elements of the page including the hidden elements.
+   *
+   * @param pageIndex the index of the page
+   * @return the number of the paged elements of the page
+   */
+  private int slots(int pageIndex) {
+    return (int) Math.min(pageSize, pagedTotal - (long) pageIndex * pageSize);
+  }
+
+  /**
+   * Returns the index of the first element of the page in the list, the hidden elements of the preceding pages are not counted.
+   *
+   * @param pageIndex the index of the page
+   * @return the index of the first element of the page
+   */
+  private int pageStart(int pageIndex) {
+    return pageIndex * pageSize - hiddenCounts.headMap(pageIndex).values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  /**
+   * Locates the paged element in the pages. The pages with hidden elements are shorter, the other pages have the page size.
+   *
+   * @param index the index of the paged element in the list
+   * @return the index of the page in the upper half and the offset in the page in the lower half
+   */
+  private long locate(int index) {
+    int shift = 0;
+    for (var entry : hiddenCounts.entrySet()) {
+      int pageFrom = entry.getKey() * pageSize - shift;
+      if (index < pageFrom) {
+        break;
+      }
+      if (index < pageFrom + slots(entry.getKey()) - entry.getValue()) {
+        return ((long) entry.getKey() << 32) | (index - pageFrom);
+      }
+      shift += entry.getValue();
+    }
+    int position = index + shift;
+    return ((long) (position / pageSize) << 32) | (position % pageSize);
+  }
+
+  /**
+   * Change removing the consecutive elements, fired without copying the removed elements.
+   */
+  private class RemovedChange extends ListChangeListener.Change<E> {
+    /** The index of the first removed element. */
+    private final int from;
+    /** The removed elements. */
+    private final List<E> removed;
+    /** Flag whether the change is the current one. */
+    private boolean current;
+
+    RemovedChange(int from, List<E> removed) {
+      super(PagedList.this);
+      this.from = from;
+      this.removed = removed;
+    }
+
+    @Override
+    public boolean next() {
+      if (current) {
+        return false;
+      }
+      current = true;
+      return true;
+    }
+
+    @Override
+    public void reset() {
+      current = false;
+    }
+
+    @Override
+    public int getFrom() {
+      return from;
+    }
+
+    @Override
+    public int getTo() {
+      return from;
+    }
+
+    @Override
+    public List<E> getRemoved() {
+      return removed;
+    }
+
+    @Override
+    protected int[] getPermutation() {
+      return new int[0];
+    }
+  }
+
+  /**
+   * Fires the change to the listeners. The listeners reading the list do not request the pages.
+   *
+   * @param change the change to fire
+   */
+  private void fire(Runnable change) {
+    withoutLoading(() -> {
+      beginChange();
+      try {
+        change.run();
+      } finally {
+        endChange();
+      }
+      return null;
+    });
+  }
+}
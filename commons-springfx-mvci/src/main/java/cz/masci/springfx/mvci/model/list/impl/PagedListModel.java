@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import cz.masci.springfx.mvci.model.detail.DetailModel;
+import cz.masci.springfx.mvci.model.list.PageLoader;
+import cz.masci.springfx.mvci.util.ConcurrentUtils;
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import javafx.beans.property.ReadOnlyLongProperty;
+
+/**
+ * PagedListModel is a {@link BaseListModel} with a virtual list of elements loaded by pages on demand, e.g. for tables browsing millions of records.
+ *
+ * <p>
+ *   The list has the size of the total count of elements. The elements of the pages not loaded yet are represented by the placeholder,
+ *   reading them requests the page from the {@link PageLoader} in the background and the neighbor pages are prefetched.
+ *   At most {@code maxPages} least recently used pages are kept, the pages with dirty or selected elements are never evicted.
+ *   The placeholders are not indexed, so the indexes of the model cost time proportional to the loaded elements.
+ * </p>
+ * <p>
+ *   Only the elements of the loaded pages could be found by id or replaced by {@link #upsert(DetailModel)} and {@link #replaceAll(Collection)}.
+ *   The elements added to the list, e.g. by {@code OperableManagerController.add}, are appended after the paged elements. They stay there
+ *   until they are removed, or until {@link #refresh()} if they are neither dirty nor transient, so the saved elements are shown in their pages.
+ *   The removed paged elements are hidden: they are removed from the loaded pages at once and left out of the pages loaded later,
+ *   so they are not shown again even if a page is loaded before the removal command deletes them. The ids of the removed elements
+ *   are kept for the lifetime of the model, so the ids of the deleted records must not be reused.
+ *   The paged elements could not be filtered and sorted in the memory, the {@link PageLoader} should filter and sort them instead.
+ * </p>
+ * Usage example:
+ * <pre>{@code
+ * var listModel = new PagedListModel<Long, BookDetailModel>((pageIndex, pageSize) -> {
+ *   var page = crudService.page(pageIndex, pageSize);
+ *   return new Page<>(page.items().stream().map(BookDetailModel::of).toList(), page.totalCount());
+ * }, new BookDetailModel(), 100, 10);
+ * listModel.refresh();
+ * }</pre>
+ *
+ * @param <I> The type of the element id identifier.
+ * @param <E> The type of the elements in the list extending {@link DetailModel<I>}.
+ */
+public class PagedListModel<I, E extends DetailModel<I>> extends BaseListModel<I, E> {
+  /** The virtual list of elements. */
+  private final PagedList<E> pagedList;
+  /** The ids of the removed paged elements hidden from the pages. */
+  private final Set<I> removedIds = new HashSet<>();
+
+  /**
+   * Creates a new {@code PagedListModel} loading the pages by the default background executor.
+   *
+   * @param loader      the loader of the pages
+   * @param placeholder the element representing the elements not loaded yet
+   * @param pageSize    the number of elements on the page
+   * @param maxPages    the maximal number of loaded pages kept
+   */
+  public PagedListModel(PageLoader<E> loader, E placeholder, int pageSize, int maxPages) {
+    this(loader, placeholder, pageSize, maxPages, BackgroundExecutors.currentDefault(), ConcurrentUtils::runInFXThread);
+  }
+
+  /**
+   * Creates a new {@code PagedListModel}.
+   *
+   * @param loader       the loader of the pages
+   * @param placeholder  the element representing the elements not loaded yet
+   * @param pageSize     the number of elements on the page
+   * @param maxPages     the maximal number of loaded pages kept
+   * @param loadExecutor the executor loading the pages
+   * @param fxExecutor   the executor applying the loaded pages in the JavaFX thread
+   */
+  public PagedListModel(PageLoader<E> loader, E placeholder, int pageSize, int maxPages, Executor loadExecutor, Executor fxExecutor) {
+    this(new PagedList<>(loader, placeholder, pageSize, maxPages, loadExecutor, fxExecutor));
+  }
+
+  /**
+   * Creates a new {@code PagedListModel} with the virtual list pinning the pages with dirty or selected elements.
+   *
+   * @param pagedList the virtual list of elements
+   */
+  private PagedListModel(PagedList<E> pagedList) {
+    super(pagedList);
+    this.pagedList = pagedList;
+    pagedList.setPinned(element -> element.isDirty() || element == selectedElement.get());
+    pagedList.setHidden(element -> element.getId() != null && removedIds.contains(element.getId()));
+  }
+
+  /**
+   * Reloads the list. The added elements neither dirty nor transient are removed, the pages without dirty or selected elements are evicted
+   * and the first page is requested to update the total count.
+   */
+  public void refresh() {
+    var selected = selectedElement.get();
+    var dropped = pagedList.retainAdded(element -> element.isDirty() || element.isTransient());
+    if (dropped.stream().anyMatch(element -> element == selected)) {
+      selectedElement.setValue(null);
+    }
+    pagedList.refresh();
+  }
+
+  /**
+   * Returns the property holding the total count of elements.
+   *
+   * @return the total count property
+   */
+  public ReadOnlyLongProperty totalCountProperty() {
+    return pagedList.totalCountProperty();
+  }
+
+  /**
+   * Returns the number of the loaded pages.
+   *
+   * @return the number of the loaded pages
+   */
+  public int getLoadedPageCount() {
+    return pagedList.getLoadedPageCount();
+  }
+
+  /**
+   * Sets the command executed when a page could not be loaded. The page is requested again when its elements are read.
+   *
+   * @param onLoadFailed the command accepting the failure
+   */
+  public void setOnLoadFailed(Consumer<Throwable> onLoadFailed) {
+    pagedList.setOnLoadFailed(onLoadFailed);
+  }
+
+  /**
+   * {@inheritDoc}
+   * Only the element of the loaded pages is replaced, the element not found is not added.
+   */
+  @Override
+  public E upsert(E element) {
+    if (findById(element.getId()) == null) {
+      return null;
+    }
+    return pagedList.withoutLoading(() -> super.upsert(element));
+  }
+
+  /**
+   * Removes the added element or hides the element of the loaded pages and runs the command set by {@link #setOnRemoveElement(Consumer)}.
+   *
+   * @param element the element to remove
+   */
+  @Override
+  public void remove(E element) {
+    if (pagedList.isAdded(element)) {
+      pagedList.withoutLoading(() -> {
+        super.remove(element);
+        return null;
+      });
+      return;
+    }
+    selectedElement.setValue(null);
+    if (idIndex.contains(element)) {
+      removedIds.add(element.getId());
+      pagedList.hide();
+      if (onRemoveElement != null) {
+        onRemoveElement.accept(element);
+      }
+    }
+  }
+
+  /**
+   * Removes the added elements and hides the elements of the loaded pages, each by one list change, and runs the removal commands with them.
+   *
+   * @param elementsToRemove the elements to remove
+   */
+  @Override
+  public void removeAll(Collection<E> elementsToRemove) {
+    var selected = selectedElement.get();
+    if (selected != null && elementsToRemove.contains(selected)) {
+      selectedElement.setValue(null);
+    }
+    var removed = elementsToRemove.stream().filter(idIndex::contains).toList();
+    if (removed.isEmpty()) {
+      return;
+    }
+    Set<E> removedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+    removedElements.addAll(removed);
+    var removedPaged = removed.stream().filter(element -> !pagedList.isAdded(element)).toList();
+    pagedList.retainAdded(element -> !removedElements.contains(element));
+    if (!removedPaged.isEmpty()) {
+      removedPaged.forEach(element -> removedIds.add(element.getId()));
+      pagedList.hide();
+    }
+    fireRemoved(removed);
+  }
+}
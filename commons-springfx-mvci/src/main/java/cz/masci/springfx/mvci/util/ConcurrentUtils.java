@@ -19,7 +19,7 @@
 
 package cz.masci.springfx.mvci.util;
 
-import javafx.application.Platform;
+import cz.masci.springfx.mvci.util.concurrent.FxDispatcher;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -30,10 +30,11 @@ public class ConcurrentUtils {
 
   /**
    * Runs the given GUI-related code in the JavaFX Application Thread.
+   * The code is posted to the default {@link FxDispatcher} which coalesces posted runnables and drains them once per pulse.
    *
    * @param guiStuff the runnable representing the GUI-related code to be executed
    */
   public static void runInFXThread(Runnable guiStuff) {
-    Platform.runLater(guiStuff);
+    FxDispatcher.getDefault().dispatch(guiStuff);
   }
 }
@@ -19,8 +19,28 @@
 
 package cz.masci.springfx.mvci.util.builder;
 
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import cz.masci.springfx.mvci.util.concurrent.PriorityTaskScheduler;
+import cz.masci.springfx.mvci.util.concurrent.ResiliencePolicy;
+import cz.masci.springfx.mvci.util.concurrent.TaskPriority;
+import cz.masci.springfx.mvci.util.concurrent.TaskScope;
+import cz.masci.springfx.mvci.util.metrics.MetricsRecorder.TaskOutcome;
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javafx.concurrent.Task;
 import org.apache.commons.lang3.function.FailableFunction;
 
@@ -57,13 +77,137 @@ import org.apache.commons.lang3.function.FailableFunction;
  *
  * {@code postGuiCall} is called when {@link Task} succeeded, cancelled or failed after appropriate onXXX method is called.
  *
+ * <p>
+ *   <b>Executor</b>
+ * </p>
+ *
+ * The task is started on the executor set by {@link #executor(Executor)}. If no executor is set and the priority is set by {@link #priority(TaskPriority)},
+ * the task is submitted to the default {@link PriorityTaskScheduler}. Otherwise the library-wide default executor {@link BackgroundExecutors#getDefaultExecutor()} is used.
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .task(() -> "Hello")
+ *      .executor(BackgroundExecutors.virtualThreads())
+ *      .start();
+ * }</pre>
+ *
+ * <p>
+ *   <b>Publishing task</b>
+ * </p>
+ *
+ * The publishing task body emits partial results through {@link ChunkPublisher}. The chunks are delivered in batches to the {@code onChunk} consumer
+ * in the JavaFX thread at most once per the chunk interval. Progress and message updates are coalesced the same way.
+ * All chunks are delivered before the completion handlers are called.
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .publishingTask(publisher -> {
+ *        for (int page = 0; page < pages && !publisher.isCancelled(); page++) {
+ *          publisher.publishAll(loadPage(page));
+ *          publisher.updateProgress(page + 1, pages);
+ *        }
+ *        return null;
+ *      }, list::addAll)
+ *      .chunkInterval(Duration.ofMillis(100))
+ *      .start();
+ * }</pre>
+ *
+ * <p>
+ *   <b>Fan-out task</b>
+ * </p>
+ *
+ * The fan-out task body forks independent subtasks in the {@link TaskScope} and joins them. The subtasks run in parallel, the first failure
+ * or the elapsed deadline cancels the remaining subtasks and fails the task. Cancelling the task cancels all subtasks.
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .fanOut(scope -> {
+ *        var characters = scope.fork(interactor::loadCharacters);
+ *        var books = scope.fork(interactor::loadBooks);
+ *        scope.join();
+ *        return new Detail(characters.get(), books.get());
+ *      })
+ *      .deadline(Duration.ofSeconds(5))
+ *      .onSucceeded(this::showDetail)
+ *      .start();
+ * }</pre>
+ *
+ * <p>
+ *   <b>Resilience</b>
+ * </p>
+ *
+ * The task body may be retried with an exponential backoff, duplicated by hedged attempts after a latency threshold and limited
+ * by a per-attempt timeout according to the {@link ResiliencePolicy}. The first successful attempt wins.
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .task(() -> crudService.save(item))
+ *      .resilience(ResiliencePolicy.builder().maxAttempts(3).hedgeAfter(Duration.ofMillis(500)).build())
+ *      .onSucceeded(this::saved)
+ *      .start();
+ * }</pre>
+ *
+ * <p>
+ *   <b>CompletableFuture bridge</b>
+ * </p>
+ *
+ * {@link #toCompletableFuture()} starts the task and returns the future completed in the background thread when the task completes, so the
+ * dependent stages do not run in the JavaFX thread. Cancelling the future cancels the task. {@link #fromStage(Supplier)} creates the task
+ * waiting for the pipeline, so the pipeline result reaches the JavaFX thread once through the task handlers.
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .fromStage(() -> characters.toCompletableFuture().thenCombine(books.toCompletableFuture(), Detail::new))
+ *      .onSucceeded(this::showDetail)
+ *      .start();
+ * }</pre>
+ *
+ * <p>
+ *   <b>Metrics</b>
+ * </p>
+ *
+ * The wait, run and delivery time of each completed task is recorded by {@link SpringFxMetrics#getRecorder()} tagged by the task name
+ * set by {@link #name(String)} or by the key.
+ *
+ * <p>
+ *   <b>Keyed task</b>
+ * </p>
+ *
+ * The task started with a key joins the task with the same key already in flight instead of starting a duplicate. The joined caller
+ * receives the {@code onSucceeded}, {@code onFailed}, {@code onCancelled} and {@code postGuiCall} callbacks of the running task,
+ * {@code onScheduled} and {@code onRunning} are not called for it. The key is released before the completion callbacks are called,
+ * so a task started from a callback runs again. Tasks sharing a key must have the same result type.
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .task(interactor::loadCharacters)
+ *      .key("lotr-load")
+ *      .onSucceeded(viewModel.getElements()::setAll)
+ *      .start();
+ * }</pre>
+ *
  * @param <T>  the type of the background task result
  */
 public class BackgroundTaskBuilder<T> {
+  /** The default minimal time between two chunk deliveries of the publishing task. */
+  public static final Duration DEFAULT_CHUNK_INTERVAL = Duration.ofMillis(16);
+  /** The keyed tasks in flight. */
+  private static final Map<Object, InFlight<?>> IN_FLIGHT = new ConcurrentHashMap<>();
+
   /** The callable task to execute in the background. */
   private Callable<T> callableTask;
   /** The functional task (with access to the Task itself) to execute in the background. */
   private FailableFunction<Task<T>, T, ? extends Exception> functionalTask;
+  /** The publishing task emitting chunks of partial results. */
+  private PublishingTask<T, ?> publishingTask;
+  /** The fan-out task forking subtasks in the task scope. */
+  private FailableFunction<TaskScope, T, ? extends Exception> fanOutTask;
+  /** The deadline of the fan-out task, {@code null} means no deadline. */
+  private Duration deadline;
+  /** The resilience policy of the task body, {@code null} means a single attempt. */
+  private ResiliencePolicy resiliencePolicy;
+  /** Minimal time between two chunk deliveries of the publishing task. */
+  private Duration chunkInterval = DEFAULT_CHUNK_INTERVAL;
   /** Runnable executed on the JavaFX thread after the task finishes (success, cancel, or failure). */
   private Runnable postGuiCall;
   /** Handler invoked when the task is cancelled. */
@@ -76,6 +220,18 @@ public class BackgroundTaskBuilder<T> {
   private Consumer<Task<T>> onScheduled;
   /** Handler invoked with the result value when the task succeeds. */
   private Consumer<T> onSucceeded;
+  /** The executor the task is started on, {@code null} means the default executor. */
+  private Executor executor;
+  /** The priority of the task on the default priority scheduler, {@code null} means no priority. */
+  private TaskPriority priority;
+  /** The name of the task used in metrics, {@code null} means the key or unnamed. */
+  private String name;
+  /** The future completed with the task, {@code null} unless started by {@link #toCompletableFuture()}. */
+  private CompletableFuture<T> future;
+  /** The key of the task for deduplication, {@code null} means no deduplication. */
+  private Object key;
+  /** The condition whether the task result is stale and must not reach the completion handlers, {@code null} means never. */
+  private BooleanSupplier discardIf;
 
   /**
    * Creates a new {@code BackgroundTaskBuilder} with the given callable task.
@@ -95,6 +251,21 @@ public class BackgroundTaskBuilder<T> {
     this.functionalTask = functionalTask;
   }
 
+  /**
+   * Creates a new {@code BackgroundTaskBuilder} without a task body. The body is set by the factory method.
+   */
+  private BackgroundTaskBuilder() {
+  }
+
+  /**
+   * Creates a new {@code BackgroundTaskBuilder} with the given publishing task.
+   *
+   * @param publishingTask the publishing task emitting chunks of partial results
+   */
+  private BackgroundTaskBuilder(PublishingTask<T, ?> publishingTask) {
+    this.publishingTask = publishingTask;
+  }
+
   /**
    * Creates a new builder for the given callable task.
    *
@@ -118,13 +289,204 @@ public class BackgroundTaskBuilder<T> {
   }
 
   /**
-   * Builds the {@link Task} and starts it on a new daemon thread.
+   * Creates a new builder for the task waiting for the completion stage. The stage is created in the background thread.
+   * Cancelling the task cancels the stage.
+   *
+   * @param stage the supplier of the completion stage
+   * @param <T>   the result type of the task
+   * @return a new {@code BackgroundTaskBuilder}
+   */
+  public static <T> BackgroundTaskBuilder<T> fromStage(Supplier<? extends CompletionStage<T>> stage) {
+    return new BackgroundTaskBuilder<>(() -> awaitStage(stage.get()));
+  }
+
+  /**
+   * Waits for the completion stage.
+   *
+   * @param stage the completion stage
+   * @param <T>   the result type of the stage
+   * @return the result of the stage
+   * @throws Exception the failure of the stage or {@link InterruptedException} when the task is cancelled
+   */
+  private static <T> T awaitStage(CompletionStage<T> stage) throws Exception {
+    var stageFuture = stage.toCompletableFuture();
+    try {
+      return stageFuture.get();
+    } catch (InterruptedException e) {
+      stageFuture.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception exception) {
+        throw exception;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Creates a new builder for the given fan-out task. The task body forks subtasks in the {@link TaskScope} and joins them.
+   *
+   * @param fanOutTask the function receiving the {@link TaskScope} and returning the combined result
+   * @param <T>        the result type of the task
+   * @return a new {@code BackgroundTaskBuilder}
+   */
+  public static <T> BackgroundTaskBuilder<T> fanOut(FailableFunction<TaskScope, T, ? extends Exception> fanOutTask) {
+    BackgroundTaskBuilder<T> builder = new BackgroundTaskBuilder<>();
+    builder.fanOutTask = fanOutTask;
+
+    return builder;
+  }
+
+  /**
+   * Creates a new builder for the given publishing task. The task body emits chunks of partial results through the {@link ChunkPublisher}.
+   * The chunks are delivered in batches to the {@code onChunk} consumer in the JavaFX thread.
+   *
+   * @param publishingTask the function receiving the {@link ChunkPublisher} and returning the final result
+   * @param onChunk        consumer receiving batches of published chunks in the JavaFX thread
+   * @param <T>            the result type of the task
+   * @param <C>            the type of the published chunk
+   * @return a new {@code BackgroundTaskBuilder}
+   */
+  public static <T, C> BackgroundTaskBuilder<T> publishingTask(FailableFunction<ChunkPublisher<C>, T, ? extends Exception> publishingTask,
+                                                               Consumer<List<C>> onChunk) {
+    return new BackgroundTaskBuilder<>(new PublishingTask<>(publishingTask, onChunk));
+  }
+
+  /**
+   * Builds the {@link Task} and starts it on the set executor, on the default priority scheduler or on the default executor {@link BackgroundExecutors#getDefaultExecutor()}.
+   * If the key is set and a task with the same key is in flight, this builder joins the running task instead.
    */
   public void start() {
-    Task<T> task = build();
+    startTask();
+  }
+
+  /**
+   * Builds the {@link Task} and starts it the same way as {@link #start()}.
+   *
+   * @return the started task or {@code null} if this builder joined the task in flight
+   */
+  Task<T> startTask() {
+    BackgroundTask task = buildTask();
+
+    if (key != null && joinInFlight(task)) {
+      return null;
+    }
+
+    task.submittedNanos = System.nanoTime();
+    try {
+      getExecutor().execute(task);
+    } catch (RuntimeException e) {
+      task.reject(e);
+      throw e;
+    }
+    return task;
+  }
+
+  /**
+   * Starts the task the same way as {@link #start()} and returns the future completed with the task result.
+   * The future is completed in the background thread, cancelling the future cancels the task.
+   *
+   * @return the future completed with the task
+   */
+  public CompletableFuture<T> toCompletableFuture() {
+    future = new CompletableFuture<>();
+    var task = startTask();
+    if (task != null) {
+      future.whenComplete((result, exception) -> {
+        if (future.isCancelled()) {
+          task.cancel();
+        }
+      });
+    }
+
+    return future;
+  }
+
+  /**
+   * Completes the future of {@link #toCompletableFuture()} by the completed task. Runs in the background thread.
+   *
+   * @param task the completed task
+   */
+  private void completeFuture(Future<T> task) {
+    if (future == null) {
+      return;
+    }
+    switch (task.state()) {
+      case SUCCESS -> future.complete(task.resultNow());
+      case FAILED -> future.completeExceptionally(task.exceptionNow());
+      case CANCELLED -> future.cancel(false);
+      default -> throw new IllegalStateException("Task is not completed");
+    }
+  }
 
-    Thread thread = new Thread(task);
-    thread.start();
+  /**
+   * Completes the future of the joined builder by the completed task. Runs in the JavaFX thread, the future is completed
+   * in the common pool, so the dependent stages do not run in the JavaFX thread.
+   *
+   * @param task the completed task
+   */
+  private void completeJoinedFuture(Task<T> task) {
+    if (future == null) {
+      return;
+    }
+    var state = task.getState();
+    var value = task.getValue();
+    var exception = task.getException();
+    ForkJoinPool.commonPool().execute(() -> {
+      switch (state) {
+        case SUCCEEDED -> future.complete(value);
+        case FAILED -> future.completeExceptionally(exception);
+        default -> future.cancel(false);
+      }
+    });
+  }
+
+  /**
+   * Returns {@code true} if a task started with the given key is in flight.
+   *
+   * @param key the task key
+   * @return {@code true} if a task with the key is in flight
+   */
+  public static boolean isInFlight(Object key) {
+    return IN_FLIGHT.containsKey(key);
+  }
+
+  /**
+   * Registers the task under the key or joins the task with the same key in flight.
+   *
+   * @param task the task to register
+   * @return {@code true} if this builder joined the task in flight and the task must not be started
+   */
+  @SuppressWarnings("unchecked")
+  private boolean joinInFlight(BackgroundTask task) {
+    var inFlight = new InFlight<T>(key);
+    task.inFlight = inFlight;
+    while (true) {
+      var existing = (InFlight<T>) IN_FLIGHT.putIfAbsent(key, inFlight);
+      if (existing == null) {
+        return false;
+      }
+      if (existing.join(this)) {
+        return true;
+      }
+      // the existing task completed but has not released the key yet
+      IN_FLIGHT.remove(key, existing);
+    }
+  }
+
+  /**
+   * Returns the executor set on this builder, the default priority scheduler if the priority is set or the default executor.
+   *
+   * @return the executor the task is started on
+   */
+  private Executor getExecutor() {
+    if (executor != null) {
+      return executor;
+    }
+    if (priority != null) {
+      return PriorityTaskScheduler.getDefault().executor(priority);
+    }
+    return BackgroundExecutors.getDefaultExecutor();
   }
 
   /**
@@ -133,19 +495,16 @@ public class BackgroundTaskBuilder<T> {
    * @return a fully configured {@link Task} ready to be executed
    */
   public Task<T> build() {
-    Task<T> task = new Task<>() {
-      @Override
-      protected T call() throws Exception {
-        if (callableTask != null) {
-          return callableTask.call();
-        }
-        if (functionalTask != null) {
-          return functionalTask.apply(this);
-        }
-        return null;
-      }
+    return buildTask();
+  }
 
-    };
+  /**
+   * Builds the configured {@link BackgroundTask}.
+   *
+   * @return a fully configured task
+   */
+  private BackgroundTask buildTask() {
+    BackgroundTask task = new BackgroundTask();
 
     setOnCancelled(task);
     setOnFailed(task);
@@ -157,37 +516,73 @@ public class BackgroundTaskBuilder<T> {
   }
 
   /**
-   * Registers the onCancelled handler on the task, followed by the postGuiCall if set.
+   * Registers the onCancelled handler on the task, preceded by discarding of undelivered chunks and release of the key. The joined builders are notified after.
    *
    * @param task the task to configure
    */
-  private void setOnCancelled(Task<T> task) {
+  private void setOnCancelled(BackgroundTask task) {
     task.setOnCancelled(evt -> {
-      if (onCancelled != null) {
-        onCancelled.accept(task);
-      }
-      if (postGuiCall != null) {
-        postGuiCall.run();
+      if (!task.complete(TaskOutcome.CANCELLED)) {
+        return;
       }
+      task.discardPublisher();
+      var joined = task.completeInFlight();
+      handleCancelled(task);
+      joined.forEach(builder -> builder.completeJoinedFuture(task));
+      joined.forEach(builder -> builder.handleCancelled(task));
     });
   }
 
   /**
-   * Registers the onFailed handler on the task, followed by the postGuiCall if set.
+   * Calls the onCancelled handler unless the result is discarded, followed by the postGuiCall if set.
+   *
+   * @param task the cancelled task
+   */
+  private void handleCancelled(Task<T> task) {
+    if (onCancelled != null && !isDiscarded()) {
+      onCancelled.accept(task);
+    }
+    if (postGuiCall != null) {
+      postGuiCall.run();
+    }
+  }
+
+  /**
+   * Registers the onFailed handler on the task, preceded by delivery of remaining chunks and release of the key. The joined builders are notified after.
    *
    * @param task the task to configure
    */
-  private void setOnFailed(Task<T> task) {
+  private void setOnFailed(BackgroundTask task) {
     task.setOnFailed(evt -> {
-      if (onFailed != null) {
-        onFailed.accept(task);
+      // the interrupted body of the cancelled task may fail before the cancellation is reported
+      if (task.isCancelled() || !task.complete(TaskOutcome.FAILED)) {
+        return;
       }
-      if (postGuiCall != null) {
-        postGuiCall.run();
+      task.closePublisher();
+      var joined = task.completeInFlight();
+      // the caller of the rejected task received the rejection from start
+      if (!task.isRejected()) {
+        handleFailed(task);
       }
+      joined.forEach(builder -> builder.completeJoinedFuture(task));
+      joined.forEach(builder -> builder.handleFailed(task));
     });
   }
 
+  /**
+   * Calls the onFailed handler unless the result is discarded, followed by the postGuiCall if set.
+   *
+   * @param task the failed task
+   */
+  private void handleFailed(Task<T> task) {
+    if (onFailed != null && !isDiscarded()) {
+      onFailed.accept(task);
+    }
+    if (postGuiCall != null) {
+      postGuiCall.run();
+    }
+  }
+
   /**
    * Registers the onRunning handler on the task.
    *
@@ -215,21 +610,37 @@ public class BackgroundTaskBuilder<T> {
   }
 
   /**
-   * Registers the onSucceeded handler on the task, followed by the postGuiCall if set.
+   * Registers the onSucceeded handler on the task, preceded by delivery of remaining chunks and release of the key. The joined builders are notified after.
    *
    * @param task the task to configure
    */
-  private void setOnSucceeded(Task<T> task) {
+  private void setOnSucceeded(BackgroundTask task) {
     task.setOnSucceeded(evt -> {
-      if (onSucceeded != null) {
-        onSucceeded.accept(task.getValue());
-      }
-      if (postGuiCall != null) {
-        postGuiCall.run();
+      if (!task.complete(TaskOutcome.SUCCEEDED)) {
+        return;
       }
+      task.closePublisher();
+      var joined = task.completeInFlight();
+      handleSucceeded(task);
+      joined.forEach(builder -> builder.completeJoinedFuture(task));
+      joined.forEach(builder -> builder.handleSucceeded(task));
     });
   }
 
+  /**
+   * Calls the onSucceeded handler unless the result is discarded, followed by the postGuiCall if set.
+   *
+   * @param task the succeeded task
+   */
+  private void handleSucceeded(Task<T> task) {
+    if (onSucceeded != null && !isDiscarded()) {
+      onSucceeded.accept(task.getValue());
+    }
+    if (postGuiCall != null) {
+      postGuiCall.run();
+    }
+  }
+
   /**
    * Sets the runnable to execute on the JavaFX thread after the task finishes.
    *
@@ -301,4 +712,358 @@ public class BackgroundTaskBuilder<T> {
 
     return this;
   }
+
+  /**
+   * Sets the executor the task is started on. If not set, the default executor {@link BackgroundExecutors#getDefaultExecutor()} is used.
+   *
+   * @param executor the executor to start the task on
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> executor(Executor executor) {
+    this.executor = executor;
+
+    return this;
+  }
+
+  /**
+   * Sets the minimal time between two chunk deliveries of the publishing task. Default is {@link #DEFAULT_CHUNK_INTERVAL}.
+   *
+   * @param chunkInterval the minimal time between two chunk deliveries
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> chunkInterval(Duration chunkInterval) {
+    this.chunkInterval = chunkInterval;
+
+    return this;
+  }
+
+  /**
+   * Sets the priority of the task. The task is submitted to the default {@link PriorityTaskScheduler} unless the executor is set.
+   *
+   * @param priority the priority of the task
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> priority(TaskPriority priority) {
+    this.priority = priority;
+
+    return this;
+  }
+
+  /**
+   * Sets the deadline of the fan-out task. Subtasks not completed within the deadline are cancelled and the task fails
+   * with {@link java.util.concurrent.TimeoutException}.
+   *
+   * @param deadline the time to complete all subtasks measured from the task start
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> deadline(Duration deadline) {
+    this.deadline = deadline;
+
+    return this;
+  }
+
+  /**
+   * Sets the resilience policy of the task body with retries, hedged attempts and per-attempt timeouts.
+   * The first successful attempt wins and the other attempts are cancelled. Not supported for the publishing task.
+   *
+   * @param resiliencePolicy the resilience policy
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> resilience(ResiliencePolicy resiliencePolicy) {
+    if (publishingTask != null) {
+      throw new IllegalStateException("Resilience policy is not supported for the publishing task");
+    }
+    this.resiliencePolicy = resiliencePolicy;
+
+    return this;
+  }
+
+  /**
+   * Sets the name of the task used to tag the task metrics. If no name is set, the key is used.
+   *
+   * @param name the task name
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> name(String name) {
+    this.name = name;
+
+    return this;
+  }
+
+  /**
+   * Returns the name of the task used in metrics. It is the name, the key or {@code unnamed}.
+   *
+   * @return the task name used in metrics
+   */
+  private String getMetricsName() {
+    if (name != null) {
+      return name;
+    }
+    return key != null ? key.toString() : "unnamed";
+  }
+
+  /**
+   * Sets the key of the task. If a task with the same key is in flight when {@link #start()} is called, this builder joins it
+   * instead of starting a duplicate.
+   *
+   * @param key the task key
+   * @return this builder
+   */
+  public BackgroundTaskBuilder<T> key(Object key) {
+    this.key = key;
+
+    return this;
+  }
+
+  /**
+   * Sets the condition whether the task result is stale. The stale result does not reach the onSucceeded, onFailed
+   * and onCancelled handlers, the postGuiCall is still called.
+   *
+   * @param discardIf the condition evaluated in the JavaFX thread when the task completes
+   * @return this builder
+   */
+  BackgroundTaskBuilder<T> discardIf(BooleanSupplier discardIf) {
+    this.discardIf = discardIf;
+
+    return this;
+  }
+
+  /**
+   * Returns {@code true} if the result of the task is stale and must not reach the completion handlers.
+   *
+   * @return {@code true} if the result is discarded
+   */
+  private boolean isDiscarded() {
+    return discardIf != null && discardIf.getAsBoolean();
+  }
+
+  /**
+   * The {@link Task} running the configured background task body.
+   */
+  private class BackgroundTask extends Task<T> implements ChunkPublisher.ProgressApplier {
+    /** The chunk publisher of the publishing task, {@code null} for other tasks. */
+    private ChunkPublisher<?> publisher;
+    /** The registration of the keyed task, {@code null} for tasks without a key. */
+    private InFlight<T> inFlight;
+    /** Flag whether the completion handlers were called. */
+    private boolean completed;
+    /** The rejection of the task by the executor, {@code null} unless rejected. */
+    private volatile RuntimeException rejection;
+    /** The {@link System#nanoTime()} of the submission to the executor. */
+    private volatile long submittedNanos;
+    /** The {@link System#nanoTime()} of the task body start. */
+    private volatile long startedNanos;
+    /** The {@link System#nanoTime()} of the task body end. */
+    private volatile long finishedNanos;
+
+    @Override
+    protected T call() throws Exception {
+      if (rejection != null) {
+        throw rejection;
+      }
+      startedNanos = System.nanoTime();
+      try {
+        if (publishingTask != null) {
+          return callPublishing(publishingTask);
+        }
+        return resiliencePolicy != null ? resiliencePolicy.call(this::callBody) : callBody();
+      } finally {
+        finishedNanos = System.nanoTime();
+      }
+    }
+
+    /**
+     * Runs the task body once.
+     *
+     * @return the result of the task body
+     * @throws Exception when the task body fails
+     */
+    private T callBody() throws Exception {
+      if (callableTask != null) {
+        return callableTask.call();
+      }
+      if (functionalTask != null) {
+        return functionalTask.apply(this);
+      }
+      if (fanOutTask != null) {
+        try (var scope = new TaskScope(deadline)) {
+          return fanOutTask.apply(scope);
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Creates the chunk publisher and runs the publishing task body.
+     *
+     * @param publishing the publishing task
+     * @param <C>        the type of the published chunk
+     * @return the result of the publishing task body
+     * @throws Exception when the publishing task body fails
+     */
+    private <C> T callPublishing(PublishingTask<T, C> publishing) throws Exception {
+      var chunkPublisher = new ChunkPublisher<>(this, publishing.onChunk(), this, chunkInterval);
+      publisher = chunkPublisher;
+
+      return publishing.body().apply(chunkPublisher);
+    }
+
+    @Override
+    protected void done() {
+      super.done();
+      completeFuture(this);
+    }
+
+    /**
+     * Marks the task completed, so the completion handlers are called only for the first completion, and records the task metrics.
+     * Runs in the JavaFX thread.
+     *
+     * @param outcome the outcome of the task
+     * @return {@code true} on the first completion
+     */
+    boolean complete(TaskOutcome outcome) {
+      if (completed) {
+        return false;
+      }
+      completed = true;
+      if (SpringFxMetrics.isEnabled()) {
+        recordMetrics(outcome);
+      }
+      return true;
+    }
+
+    /**
+     * Records the wait, run and delivery time of the completed task.
+     *
+     * @param outcome the outcome of the task
+     */
+    private void recordMetrics(TaskOutcome outcome) {
+      long now = System.nanoTime();
+      long started = startedNanos != 0 ? startedNanos : now;
+      long finished = finishedNanos != 0 ? finishedNanos : now;
+      long submitted = submittedNanos != 0 ? submittedNanos : started;
+      SpringFxMetrics.getRecorder().taskCompleted(getMetricsName(), outcome, Duration.ofNanos(started - submitted),
+                                                  Duration.ofNanos(finished - started), Duration.ofNanos(now - finished));
+    }
+
+    /**
+     * Delivers the remaining chunks of the publishing task. Runs in the JavaFX thread before the completion handlers.
+     */
+    void closePublisher() {
+      if (publisher != null) {
+        publisher.close();
+      }
+    }
+
+    /**
+     * Discards the undelivered chunks of the cancelled publishing task. Runs in the JavaFX thread before the completion handlers.
+     */
+    void discardPublisher() {
+      if (publisher != null) {
+        publisher.discard();
+      }
+    }
+
+    /**
+     * Fails the task rejected by the executor in the calling thread, so the builders joined before the rejection receive
+     * the onFailed callback with the rejection. The key is released immediately. The handlers of this builder are not called,
+     * the rejection is rethrown to its caller.
+     *
+     * @param e the rejection of the executor
+     */
+    void reject(RuntimeException e) {
+      completeInFlight();
+      rejection = e;
+      setOnScheduled(null);
+      setOnRunning(null);
+      run();
+    }
+
+    /**
+     * Returns {@code true} if the task was rejected by the executor.
+     *
+     * @return {@code true} if the task was rejected
+     */
+    boolean isRejected() {
+      return rejection != null;
+    }
+
+    /**
+     * Releases the key of the task and returns the joined builders. Runs in the JavaFX thread before the completion handlers.
+     *
+     * @return the joined builders to notify
+     */
+    List<BackgroundTaskBuilder<T>> completeInFlight() {
+      return inFlight != null ? inFlight.complete() : List.of();
+    }
+
+    @Override
+    public void updateProgress(double workDone, double max) {
+      super.updateProgress(workDone, max);
+    }
+
+    @Override
+    public void updateMessage(String message) {
+      super.updateMessage(message);
+    }
+  }
+
+  /**
+   * The publishing task body with the chunk consumer.
+   *
+   * @param body    the function receiving the {@link ChunkPublisher} and returning the final result
+   * @param onChunk consumer receiving batches of published chunks in the JavaFX thread
+   * @param <T>     the result type of the task
+   * @param <C>     the type of the published chunk
+   */
+  private record PublishingTask<T, C>(FailableFunction<ChunkPublisher<C>, T, ? extends Exception> body, Consumer<List<C>> onChunk) {
+  }
+
+  /**
+   * The registration of the keyed task in flight with the joined builders.
+   *
+   * @param <T> the result type of the task
+   */
+  private static class InFlight<T> {
+    /** The task key. */
+    private final Object key;
+    /** The builders joined the task. */
+    private final List<BackgroundTaskBuilder<T>> joined = new ArrayList<>();
+    /** Flag whether the task completed. */
+    private boolean completed;
+
+    /**
+     * Creates a new registration of the keyed task.
+     *
+     * @param key the task key
+     */
+    InFlight(Object key) {
+      this.key = key;
+    }
+
+    /**
+     * Joins the builder to the task.
+     *
+     * @param builder the builder to notify on completion
+     * @return {@code true} if joined, {@code false} if the task already completed
+     */
+    synchronized boolean join(BackgroundTaskBuilder<T> builder) {
+      if (completed) {
+        return false;
+      }
+      joined.add(builder);
+      return true;
+    }
+
+    /**
+     * Marks the task completed, releases the key and returns the joined builders.
+     *
+     * @return the joined builders to notify
+     */
+    synchronized List<BackgroundTaskBuilder<T>> complete() {
+      completed = true;
+      IN_FLIGHT.remove(key, this);
+      return List.copyOf(joined);
+    }
+  }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.builder;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import cz.masci.springfx.mvci.util.concurrent.FxDispatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javafx.concurrent.Task;
+
+/**
+ * Publisher of partial results used by the publishing task body of {@link BackgroundTaskBuilder#publishingTask}.
+ *
+ * <p>
+ *   Published chunks are collected from the background thread and delivered in batches to the {@code onChunk} consumer in the JavaFX Application Thread.
+ *   The batches are delivered at most once per the chunk interval. Progress and message updates are coalesced the same way, so any number of updates costs
+ *   at most one JavaFX update per interval.
+ * </p>
+ * <p>
+ *   All published chunks are delivered before the completion handlers of the task are called. Chunks not delivered before the task
+ *   was cancelled are discarded.
+ * </p>
+ *
+ * @param <C> the type of the published chunk
+ */
+public class ChunkPublisher<C> {
+
+  /** Published chunks waiting for the delivery. */
+  private final Queue<C> chunks = new ConcurrentLinkedQueue<>();
+  /** Flag whether the flush is scheduled. */
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  /** The latest progress not applied to the task yet. */
+  private final AtomicReference<Progress> progress = new AtomicReference<>();
+  /** The latest message not applied to the task yet. */
+  private final AtomicReference<Message> message = new AtomicReference<>();
+  /** The task publishing the chunks. */
+  private final Task<?> task;
+  /** The consumer receiving delivered chunks in the JavaFX Application Thread. */
+  private final Consumer<List<C>> onChunk;
+  /** The applier of the coalesced progress and message to the task in the JavaFX Application Thread. */
+  private final ProgressApplier progressApplier;
+  /** Minimal time between two deliveries in nanoseconds. */
+  private final long intervalNanos;
+  /** The {@link System#nanoTime()} of the last delivery. */
+  private volatile long lastFlushNanos;
+  /** Flag whether the task finished and no more chunks are delivered. */
+  private volatile boolean closed;
+
+  /**
+   * Creates a new publisher.
+   *
+   * @param task            the task publishing the chunks
+   * @param onChunk         the consumer receiving delivered chunks
+   * @param progressApplier the applier of the coalesced progress and message to the task
+   * @param interval        the minimal time between two deliveries
+   */
+  ChunkPublisher(Task<?> task, Consumer<List<C>> onChunk, ProgressApplier progressApplier, Duration interval) {
+    this.task = task;
+    this.onChunk = onChunk;
+    this.progressApplier = progressApplier;
+    this.intervalNanos = interval.toNanos();
+    this.lastFlushNanos = System.nanoTime() - intervalNanos;
+  }
+
+  /**
+   * Publishes one chunk.
+   *
+   * @param chunk the chunk to deliver
+   */
+  public void publish(C chunk) {
+    requireNonNull(chunk);
+
+    chunks.offer(chunk);
+    scheduleFlush();
+  }
+
+  /**
+   * Publishes all chunks from the collection.
+   *
+   * @param newChunks the chunks to deliver
+   */
+  public void publishAll(Collection<? extends C> newChunks) {
+    chunks.addAll(newChunks);
+    scheduleFlush();
+  }
+
+  /**
+   * Updates the progress of the task. Only the latest progress is applied.
+   *
+   * @param workDone the amount of work done
+   * @param max      the total amount of work
+   */
+  public void updateProgress(double workDone, double max) {
+    progress.set(new Progress(workDone, max));
+    scheduleFlush();
+  }
+
+  /**
+   * Updates the message of the task. Only the latest message is applied.
+   *
+   * @param newMessage the new message
+   */
+  public void updateMessage(String newMessage) {
+    message.set(new Message(newMessage));
+    scheduleFlush();
+  }
+
+  /**
+   * Returns {@code true} if the task was cancelled and the body should stop publishing.
+   *
+   * @return {@code true} if the task is cancelled
+   */
+  public boolean isCancelled() {
+    return task.isCancelled();
+  }
+
+  /**
+   * Delivers the remaining chunks and stops further deliveries. Runs in the JavaFX Application Thread.
+   */
+  void close() {
+    flush();
+    closed = true;
+  }
+
+  /**
+   * Discards the chunks not delivered yet and stops further deliveries. Runs in the JavaFX Application Thread.
+   */
+  void discard() {
+    closed = true;
+    chunks.clear();
+    progress.set(null);
+    message.set(null);
+  }
+
+  /**
+   * Schedules the flush if not scheduled yet. The flush is run immediately when the interval from the last flush elapsed, otherwise it is delayed.
+   */
+  private void scheduleFlush() {
+    if (closed || !flushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    long delay = lastFlushNanos + intervalNanos - System.nanoTime();
+    if (delay <= 0) {
+      FxDispatcher.getDefault().dispatch(this::flush);
+    } else {
+      BackgroundExecutors.scheduler().schedule(() -> FxDispatcher.getDefault().dispatch(this::flush), delay, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Delivers collected chunks and applies the latest progress and message. Runs in the JavaFX Application Thread.
+   */
+  private void flush() {
+    flushScheduled.set(false);
+    if (closed) {
+      return;
+    }
+    if (task.isCancelled()) {
+      discard();
+      return;
+    }
+    lastFlushNanos = System.nanoTime();
+
+    var latestProgress = progress.getAndSet(null);
+    if (latestProgress != null) {
+      progressApplier.updateProgress(latestProgress.workDone(), latestProgress.max());
+    }
+    var latestMessage = message.getAndSet(null);
+    if (latestMessage != null) {
+      progressApplier.updateMessage(latestMessage.text());
+    }
+
+    List<C> batch = new ArrayList<>();
+    C chunk;
+    while ((chunk = chunks.poll()) != null) {
+      batch.add(chunk);
+    }
+    if (!batch.isEmpty()) {
+      onChunk.accept(batch);
+    }
+  }
+
+  /**
+   * Applies the coalesced progress and message to the task.
+   */
+  interface ProgressApplier {
+    /**
+     * Updates the progress of the task.
+     *
+     * @param workDone the amount of work done
+     * @param max      the total amount of work
+     */
+    void updateProgress(double workDone, double max);
+
+    /**
+     * Updates the message of the task.
+     *
+     * @param message the new message
+     */
+    void updateMessage(String message);
+  }
+
+  /**
+   * Progress update.
+   *
+   * @param workDone the amount of work done
+   * @param max      the total amount of work
+   */
+  private record Progress(double workDone, double max) {
+  }
+
+  /**
+   * Message update wrapping nullable message.
+   *
+   * @param text the message text
+   */
+  private record Message(String text) {
+  }
+}
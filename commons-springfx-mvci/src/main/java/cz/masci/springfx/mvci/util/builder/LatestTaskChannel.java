@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.builder;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.concurrent.Task;
+
+/**
+ * Channel running only the latest submitted background task (switch map).
+ *
+ * <p>
+ *   The submissions are debounced, the task is started after the debounce time elapsed without a newer submission. A newer submission
+ *   cancels the task in flight. The result of a superseded task never reaches its {@code onSucceeded}, {@code onFailed} or {@code onCancelled}
+ *   handlers, only its {@code postGuiCall} is called. So only the newest result ever reaches the JavaFX thread.
+ * </p>
+ * <p>
+ *   The task is started outside the lock of the channel, so a blocking executor does not block the threads submitting or cancelling
+ *   the tasks. The failure to start a debounced task is logged, the failure to start the task without debounce is thrown to the caller.
+ * </p>
+ *
+ * <pre>{@code
+ *   LatestTaskChannel<List<Item>> searchChannel = new LatestTaskChannel<>(Duration.ofMillis(200));
+ *
+ *   searchField.textProperty().addListener((observable, oldValue, newValue) ->
+ *       searchChannel.submit(BackgroundTaskBuilder
+ *           .task(() -> interactor.search(newValue))
+ *           .onSucceeded(viewModel.getElements()::setAll)));
+ * }</pre>
+ *
+ * @param <T> the type of the background task result
+ */
+public class LatestTaskChannel<T> {
+
+  /** The default debounce time. */
+  public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+  /** The logger of the failures to start the debounced tasks. */
+  private static final Logger LOGGER = System.getLogger(LatestTaskChannel.class.getName());
+
+  /** The time without a newer submission before the task is started. */
+  private final Duration debounce;
+  /** The generation of the latest submission. */
+  private volatile long generation;
+  /** The debounced start of the latest submission, {@code null} if none. */
+  private ScheduledFuture<?> pending;
+  /** The task in flight, {@code null} if none. */
+  private Task<T> inFlight;
+
+  /**
+   * Creates a new channel with the {@link #DEFAULT_DEBOUNCE default debounce} time.
+   */
+  public LatestTaskChannel() {
+    this(DEFAULT_DEBOUNCE);
+  }
+
+  /**
+   * Creates a new channel.
+   *
+   * @param debounce the time without a newer submission before the task is started, zero starts the task immediately
+   */
+  public LatestTaskChannel(Duration debounce) {
+    requireNonNull(debounce);
+    if (debounce.isNegative()) {
+      throw new IllegalArgumentException("Debounce must not be negative: " + debounce);
+    }
+    this.debounce = debounce;
+  }
+
+  /**
+   * Submits the task. The pending submission is dropped and the task in flight is cancelled.
+   *
+   * @param builder the configured builder of the task
+   */
+  public void submit(BackgroundTaskBuilder<T> builder) {
+    long submitted;
+    synchronized (this) {
+      submitted = supersede();
+      builder.discardIf(() -> generation != submitted);
+
+      if (!debounce.isZero()) {
+        pending = BackgroundExecutors.scheduler().schedule(() -> launchDebounced(submitted, builder), debounce.toNanos(), TimeUnit.NANOSECONDS);
+        return;
+      }
+    }
+    launch(submitted, builder);
+  }
+
+  /**
+   * Drops the pending submission and cancels the task in flight.
+   */
+  public synchronized void cancel() {
+    supersede();
+  }
+
+  /**
+   * Returns {@code true} if a submission is pending or a task is in flight.
+   *
+   * @return {@code true} if the channel is busy
+   */
+  public synchronized boolean isBusy() {
+    return pending != null || (inFlight != null && !inFlight.isDone());
+  }
+
+  /**
+   * Starts the debounced task and logs the failure to start it, so it is not lost in the scheduled future.
+   *
+   * @param submitted the generation of the submission
+   * @param builder   the configured builder of the task
+   */
+  private void launchDebounced(long submitted, BackgroundTaskBuilder<T> builder) {
+    try {
+      launch(submitted, builder);
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.ERROR, "Unable to start the debounced task", e);
+    }
+  }
+
+  /**
+   * Starts the submitted task outside the lock if it is still the latest submission. The task superseded while starting is cancelled.
+   *
+   * @param submitted the generation of the submission
+   * @param builder   the configured builder of the task
+   */
+  private void launch(long submitted, BackgroundTaskBuilder<T> builder) {
+    if (generation != submitted) {
+      return;
+    }
+    Task<T> task = null;
+    try {
+      task = builder.startTask();
+    } finally {
+      synchronized (this) {
+        if (generation == submitted) {
+          pending = null;
+          inFlight = task;
+        } else if (task != null) {
+          task.cancel();
+        }
+      }
+    }
+  }
+
+  /**
+   * Starts a new generation, drops the pending submission and cancels the task in flight.
+   *
+   * @return the new generation
+   */
+  private long supersede() {
+    long next = ++generation;
+    if (pending != null) {
+      pending.cancel(false);
+      pending = null;
+    }
+    if (inFlight != null) {
+      inFlight.cancel();
+      inFlight = null;
+    }
+    return next;
+  }
+}
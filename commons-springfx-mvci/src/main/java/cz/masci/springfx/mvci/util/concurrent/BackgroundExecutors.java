@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class providing executors for background tasks and holding the library-wide default executor.
+ *
+ * <p>
+ *   The default executor is used by {@link cz.masci.springfx.mvci.util.builder.BackgroundTaskBuilder#start()} whenever no executor is set on the builder.
+ *   Initially it starts a new daemon platform thread per task. It could be replaced globally:
+ * </p>
+ *
+ * <pre>{@code
+ *   ExecutorService executor = BackgroundExecutors.virtualThreads();
+ *   BackgroundExecutors.setDefaultExecutor(executor);
+ *   ...
+ *   BackgroundExecutors.resetDefaultExecutor();
+ *   executor.shutdown();
+ * }</pre>
+ * <p>
+ *   The built-in default executor is owned by this class and shut down when it is replaced, the running tasks are completed.
+ *   The executor supplied by {@link #setDefaultExecutor(Executor)} is owned by the caller, it is not shut down when it is replaced.
+ *   The components started with the default executor and living longer than it, e.g. the models, should use {@link #currentDefault()}.
+ * </p>
+ */
+@UtilityClass
+public class BackgroundExecutors {
+
+  /** Name prefix of all threads created by executors from this class. */
+  public static final String THREAD_NAME_PREFIX = "springfx-task-";
+  /** Keep alive time of idle platform pool threads in seconds. */
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  /** The executor used by background tasks without explicitly set executor. */
+  private static volatile Executor defaultExecutor;
+  /** The built-in default executor created by this class, {@code null} if the default executor is supplied by the caller. */
+  private static ExecutorService builtInExecutor;
+
+  static {
+    resetDefaultExecutor();
+  }
+
+  /**
+   * Returns the library-wide default executor.
+   *
+   * @return the default executor
+   */
+  public static Executor getDefaultExecutor() {
+    return defaultExecutor;
+  }
+
+  /**
+   * Returns the executor delegating every task to the library-wide default executor at the time the task is executed.
+   * Unlike {@link #getDefaultExecutor()}, it could be kept after the default executor is replaced.
+   *
+   * @return the executor following the default executor
+   */
+  public static Executor currentDefault() {
+    return command -> defaultExecutor.execute(command);
+  }
+
+  /**
+   * Sets the library-wide default executor. The built-in default executor is shut down, the executor supplied before is not,
+   * the caller owns it and shuts it down when it is no longer used.
+   *
+   * @param executor the executor used for background tasks without explicitly set executor
+   */
+  public static void setDefaultExecutor(Executor executor) {
+    requireNonNull(executor);
+
+    replaceDefault(executor, null);
+  }
+
+  /**
+   * Restores the library-wide default executor to a new built-in executor starting a new daemon platform thread for every task.
+   * The replaced built-in default executor is shut down, the replaced executor supplied by the caller is not.
+   */
+  public static void resetDefaultExecutor() {
+    var executor = Executors.newThreadPerTaskExecutor(daemonThreadFactory(THREAD_NAME_PREFIX));
+    replaceDefault(executor, executor);
+  }
+
+  /**
+   * Replaces the library-wide default executor and shuts the replaced built-in executor down.
+   *
+   * @param executor        the new default executor
+   * @param builtInExecutor the new default executor if it is created by this class, {@code null} otherwise
+   */
+  private static synchronized void replaceDefault(Executor executor, ExecutorService builtInExecutor) {
+    var replaced = BackgroundExecutors.builtInExecutor;
+    BackgroundExecutors.builtInExecutor = builtInExecutor;
+    defaultExecutor = executor;
+    if (replaced != null && replaced != executor) {
+      replaced.shutdown();
+    }
+  }
+
+  /**
+   * Creates an executor starting a new daemon platform thread for every task.
+   *
+   * @return the thread per task executor
+   */
+  public static Executor threadPerTask() {
+    ThreadFactory threadFactory = daemonThreadFactory(THREAD_NAME_PREFIX);
+    return command -> threadFactory.newThread(command).start();
+  }
+
+  /**
+   * Creates a bounded pool of daemon platform threads. Threads are started on demand up to the pool size and stopped when idle.
+   * Tasks exceeding the pool size are queued. When the queue is full the task is rejected with {@link java.util.concurrent.RejectedExecutionException}.
+   *
+   * @param poolSize      the maximum number of threads
+   * @param queueCapacity the maximum number of waiting tasks, {@link Integer#MAX_VALUE} for unbounded queue
+   * @return the platform thread pool
+   */
+  public static ExecutorService platformPool(int poolSize, int queueCapacity) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("Pool size has to be positive: " + poolSize);
+    }
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException("Queue capacity has to be positive: " + queueCapacity);
+    }
+    BlockingQueue<Runnable> queue = queueCapacity == Integer.MAX_VALUE ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+    var executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, daemonThreadFactory(THREAD_NAME_PREFIX + "pool-"));
+    executor.allowCoreThreadTimeOut(true);
+
+    return executor;
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread for every task.
+   *
+   * @return the virtual thread per task executor
+   */
+  public static ExecutorService virtualThreads() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                    .name(THREAD_NAME_PREFIX + "virtual-", 0)
+                                                    .factory());
+  }
+
+  /**
+   * Returns the shared scheduler used for delayed actions of background tasks (throttling, debouncing, timeouts).
+   * Scheduled actions should be short, they must not block the scheduler thread.
+   *
+   * @return the shared scheduler
+   */
+  public static ScheduledExecutorService scheduler() {
+    return SchedulerHolder.SCHEDULER;
+  }
+
+  /**
+   * Creates a thread factory producing numbered daemon platform threads.
+   *
+   * @param prefix the thread name prefix
+   * @return the daemon thread factory
+   */
+  static ThreadFactory daemonThreadFactory(String prefix) {
+    AtomicLong counter = new AtomicLong();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Lazy holder of the shared scheduler.
+   */
+  private static class SchedulerHolder {
+    /** The shared scheduler with one daemon thread. */
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    /**
+     * Creates the scheduler removing cancelled actions from its queue.
+     *
+     * @return the scheduler
+     */
+    private static ScheduledExecutorService createScheduler() {
+      var scheduler = new ScheduledThreadPoolExecutor(1, daemonThreadFactory(THREAD_NAME_PREFIX + "scheduler-"));
+      scheduler.setRemoveOnCancelPolicy(true);
+
+      return scheduler;
+    }
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Dispatcher collecting runnables posted from any thread and running them in the JavaFX Application Thread.
+ *
+ * <p>
+ *   Runnables are collected in a lock-free queue. Only one {@link Platform#runLater(Runnable)} is scheduled for any number of posted runnables.
+ *   The queue is drained until the per-pulse time budget is exhausted. Remaining runnables are drained in the following pulses,
+ *   so the JavaFX Application Thread is never blocked longer than the time budget (plus the duration of the last runnable).
+ * </p>
+ * <p>
+ *   The dispatcher reports the current queue depth and the drain latency, i.e. how long the oldest runnable of a drain waited in the queue.
+ * </p>
+ *
+ * <pre>{@code
+ *   FxDispatcher.getDefault().dispatch(() -> label.setText("Hello"));
+ * }</pre>
+ */
+public class FxDispatcher implements Executor {
+
+  /** The default time budget of one drain. */
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(8);
+
+  /** The library-wide dispatcher used by {@link cz.masci.springfx.mvci.util.ConcurrentUtils#runInFXThread(Runnable)}. */
+  private static final FxDispatcher DEFAULT = new FxDispatcher();
+
+  /** Queue of posted runnables waiting for the drain. */
+  private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+  /** Number of runnables in the queue. */
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  /** Flag whether a drain is scheduled or running. */
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  /** Number of runnables run by this dispatcher. */
+  private final AtomicLong dispatchedCount = new AtomicLong();
+  /** Time budget of one drain in nanoseconds. */
+  private volatile long timeBudgetNanos;
+  /** Queue wait of the oldest runnable of the last drain in nanoseconds. */
+  private volatile long lastDrainLatencyNanos;
+  /** Maximal queue wait of the oldest runnable of a drain in nanoseconds. */
+  private volatile long maxDrainLatencyNanos;
+  /** Timer draining the rest of the queue once per pulse. Accessed in the JavaFX Application Thread only. */
+  private AnimationTimer pulseTimer;
+  /** Flag whether the pulse timer is running. Accessed in the JavaFX Application Thread only. */
+  private boolean pulseTimerRunning;
+
+  /**
+   * Creates a new dispatcher with the {@link #DEFAULT_TIME_BUDGET}.
+   */
+  public FxDispatcher() {
+    this(DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * Creates a new dispatcher with the given time budget.
+   *
+   * @param timeBudget the time budget of one drain
+   */
+  public FxDispatcher(Duration timeBudget) {
+    setTimeBudget(timeBudget);
+  }
+
+  /**
+   * Returns the library-wide dispatcher.
+   *
+   * @return the default dispatcher
+   */
+  public static FxDispatcher getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Posts the runnable to be run in the JavaFX Application Thread. Could be called from any thread.
+   *
+   * @param runnable the runnable to run
+   */
+  public void dispatch(Runnable runnable) {
+    requireNonNull(runnable);
+
+    queue.offer(new Entry(runnable, System.nanoTime()));
+    queueDepth.incrementAndGet();
+    if (drainScheduled.compareAndSet(false, true)) {
+      Platform.runLater(this::drain);
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    dispatch(command);
+  }
+
+  /**
+   * Returns the time budget of one drain.
+   *
+   * @return the time budget
+   */
+  public Duration getTimeBudget() {
+    return Duration.ofNanos(timeBudgetNanos);
+  }
+
+  /**
+   * Sets the time budget of one drain. At least one runnable is run in each drain regardless the budget.
+   *
+   * @param timeBudget the time budget
+   */
+  public void setTimeBudget(Duration timeBudget) {
+    requireNonNull(timeBudget);
+    if (timeBudget.isNegative()) {
+      throw new IllegalArgumentException("Time budget cannot be negative: " + timeBudget);
+    }
+
+    timeBudgetNanos = timeBudget.toNanos();
+  }
+
+  /**
+   * Returns the number of runnables waiting in the queue.
+   *
+   * @return the queue depth
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  /**
+   * Returns the number of runnables run by this dispatcher.
+   *
+   * @return the dispatched count
+   */
+  public long getDispatchedCount() {
+    return dispatchedCount.get();
+  }
+
+  /**
+   * Returns how long the oldest runnable of the last drain waited in the queue.
+   *
+   * @return the last drain latency
+   */
+  public Duration getLastDrainLatency() {
+    return Duration.ofNanos(lastDrainLatencyNanos);
+  }
+
+  /**
+   * Returns the maximal time the oldest runnable of a drain waited in the queue.
+   *
+   * @return the maximal drain latency
+   */
+  public Duration getMaxDrainLatency() {
+    return Duration.ofNanos(maxDrainLatencyNanos);
+  }
+
+  /**
+   * Resets the drain latency statistics and the dispatched count.
+   */
+  public void resetStatistics() {
+    lastDrainLatencyNanos = 0;
+    maxDrainLatencyNanos = 0;
+    dispatchedCount.set(0);
+  }
+
+  /**
+   * Runs queued runnables until the queue is empty or the time budget is exhausted. Runs in the JavaFX Application Thread.
+   */
+  private void drain() {
+    long start = System.nanoTime();
+    long latency = 0;
+    int runnables = 0;
+    Entry entry = queue.poll();
+    if (entry != null) {
+      latency = start - entry.enqueuedNanos();
+      recordLatency(latency);
+    }
+    while (entry != null) {
+      queueDepth.decrementAndGet();
+      run(entry.runnable());
+      runnables++;
+      if (System.nanoTime() - start >= timeBudgetNanos) {
+        break;
+      }
+      entry = queue.poll();
+    }
+    if (runnables > 0 && SpringFxMetrics.isEnabled()) {
+      SpringFxMetrics.getRecorder().fxDrained(runnables, Duration.ofNanos(latency), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    if (queue.isEmpty()) {
+      drainScheduled.set(false);
+      // a runnable could be posted after the last poll but before the flag was reset
+      if (queue.isEmpty() || !drainScheduled.compareAndSet(false, true)) {
+        stopPulseTimer();
+        return;
+      }
+    }
+    startPulseTimer();
+  }
+
+  /**
+   * Runs the runnable and reports its failure to the uncaught exception handler so the remaining runnables are run.
+   *
+   * @param runnable the runnable to run
+   */
+  private void run(Runnable runnable) {
+    dispatchedCount.incrementAndGet();
+    try {
+      runnable.run();
+    } catch (Throwable throwable) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+    }
+  }
+
+  /**
+   * Records the drain latency.
+   *
+   * @param latencyNanos the queue wait of the oldest runnable of the drain in nanoseconds
+   */
+  private void recordLatency(long latencyNanos) {
+    lastDrainLatencyNanos = latencyNanos;
+    if (latencyNanos > maxDrainLatencyNanos) {
+      maxDrainLatencyNanos = latencyNanos;
+    }
+  }
+
+  /**
+   * Starts the timer draining the rest of the queue in the next pulses.
+   */
+  private void startPulseTimer() {
+    if (pulseTimer == null) {
+      pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+          drain();
+        }
+      };
+    }
+    if (!pulseTimerRunning) {
+      pulseTimer.start();
+      pulseTimerRunning = true;
+    }
+  }
+
+  /**
+   * Stops the timer draining the queue in pulses.
+   */
+  private void stopPulseTimer() {
+    if (pulseTimerRunning) {
+      pulseTimer.stop();
+      pulseTimerRunning = false;
+    }
+  }
+
+  /**
+   * Queued runnable with its enqueue time.
+   *
+   * @param runnable      the runnable to run
+   * @param enqueuedNanos the {@link System#nanoTime()} when the runnable was posted
+   */
+  private record Entry(Runnable runnable, long enqueuedNanos) {
+  }
+}
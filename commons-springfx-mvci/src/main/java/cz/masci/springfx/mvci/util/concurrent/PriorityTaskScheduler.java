@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Scheduler of background tasks with priority classes and bounded queues.
+ *
+ * <p>
+ *   Each {@link TaskPriority} has its own bounded queue. A fixed pool of daemon platform threads takes the tasks with the highest priority first.
+ *   {@link TaskPriority#BULK} tasks run on at most {@code poolSize - 1} threads when the pool has more threads, so one thread is always left
+ *   for interactive and normal tasks.
+ * </p>
+ * <p>
+ *   When the queue of the priority is full, the submission is handled by the {@link OverflowPolicy}:
+ * </p>
+ * <dl>
+ *   <dt>BLOCK
+ *   <dd>- the submitting thread waits for a free slot. Do not use it for submissions from the JavaFX thread.
+ *   <dt>REJECT
+ *   <dd>- the submission fails with {@link RejectedExecutionException}.
+ *   <dt>DROP_OLDEST
+ *   <dd>- the oldest waiting task of the same priority is dropped. The dropped {@link Future} (e.g. JavaFX {@code Task}) is cancelled.
+ * </dl>
+ *
+ * <pre>{@code
+ *   BackgroundTaskBuilder
+ *      .task(interactor::loadCharacters)
+ *      .priority(TaskPriority.INTERACTIVE)
+ *      .start();
+ * }</pre>
+ */
+public class PriorityTaskScheduler {
+
+  /** Default capacity of each priority queue. */
+  public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+  /** The factory of the built-in default scheduler creating one thread per available processor. */
+  private static final Supplier<PriorityTaskScheduler> BUILT_IN_FACTORY =
+      () -> new PriorityTaskScheduler(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, OverflowPolicy.REJECT);
+
+  /** The library-wide default scheduler, created on first use. */
+  private static volatile PriorityTaskScheduler defaultScheduler;
+  /** The factory of the library-wide default scheduler. */
+  private static volatile Supplier<PriorityTaskScheduler> defaultFactory = BUILT_IN_FACTORY;
+
+  /** The waiting tasks per priority. */
+  private final Map<TaskPriority, ArrayDeque<Runnable>> queues = new EnumMap<>(TaskPriority.class);
+  /** The lock guarding the queues. */
+  private final ReentrantLock lock = new ReentrantLock();
+  /** Signalled when a task may be taken by a worker. */
+  private final Condition taskAvailable = lock.newCondition();
+  /** Signalled when a queue slot is freed. */
+  private final Condition slotAvailable = lock.newCondition();
+  /** The capacity of each priority queue. */
+  private final int queueCapacity;
+  /** The policy applied when the queue is full. */
+  private final OverflowPolicy overflowPolicy;
+  /** The maximal number of workers running bulk tasks at once. */
+  private final int bulkLimit;
+  /** The number of workers running bulk tasks. */
+  private int runningBulk;
+  /** Flag whether the scheduler is shut down. */
+  private boolean shutdown;
+
+  /**
+   * Creates a new scheduler and starts its workers.
+   *
+   * @param poolSize       the number of worker threads
+   * @param queueCapacity  the capacity of each priority queue
+   * @param overflowPolicy the policy applied when the queue is full
+   */
+  public PriorityTaskScheduler(int poolSize, int queueCapacity, OverflowPolicy overflowPolicy) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("Pool size has to be positive: " + poolSize);
+    }
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException("Queue capacity has to be positive: " + queueCapacity);
+    }
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = requireNonNull(overflowPolicy);
+    this.bulkLimit = poolSize > 1 ? poolSize - 1 : 1;
+    for (TaskPriority priority : TaskPriority.values()) {
+      queues.put(priority, new ArrayDeque<>());
+    }
+
+    ThreadFactory threadFactory = BackgroundExecutors.daemonThreadFactory(BackgroundExecutors.THREAD_NAME_PREFIX + "priority-");
+    for (int i = 0; i < poolSize; i++) {
+      threadFactory.newThread(this::work).start();
+    }
+  }
+
+  /**
+   * Returns the library-wide default scheduler. It is created on first use by the factory set by {@link #setDefaultFactory(Supplier)},
+   * or with one thread per available processor, {@link #DEFAULT_QUEUE_CAPACITY} and {@link OverflowPolicy#REJECT}.
+   *
+   * @return the default scheduler
+   */
+  public static PriorityTaskScheduler getDefault() {
+    var scheduler = defaultScheduler;
+    if (scheduler == null) {
+      synchronized (PriorityTaskScheduler.class) {
+        scheduler = defaultScheduler;
+        if (scheduler == null) {
+          scheduler = defaultFactory.get();
+          defaultScheduler = scheduler;
+        }
+      }
+    }
+    return scheduler;
+  }
+
+  /**
+   * Sets the library-wide default scheduler. The replaced default scheduler is shut down.
+   *
+   * @param scheduler the scheduler used by background tasks with a priority
+   */
+  public static void setDefault(PriorityTaskScheduler scheduler) {
+    requireNonNull(scheduler);
+
+    replaceDefault(scheduler);
+  }
+
+  /**
+   * Sets the factory of the library-wide default scheduler. The scheduler is created on first use, so no worker threads are started
+   * until a task with a priority is started. The current default scheduler is shut down.
+   *
+   * @param factory the factory of the default scheduler
+   */
+  public static synchronized void setDefaultFactory(Supplier<PriorityTaskScheduler> factory) {
+    requireNonNull(factory);
+
+    defaultFactory = factory;
+    replaceDefault(null);
+  }
+
+  /**
+   * Restores the built-in default scheduler factory and shuts the current default scheduler down, a new one is created on next use.
+   */
+  public static synchronized void resetDefault() {
+    defaultFactory = BUILT_IN_FACTORY;
+    replaceDefault(null);
+  }
+
+  /**
+   * Replaces the library-wide default scheduler and shuts the replaced one down.
+   *
+   * @param scheduler the new default scheduler, {@code null} to create it on next use
+   */
+  private static synchronized void replaceDefault(PriorityTaskScheduler scheduler) {
+    var replaced = defaultScheduler;
+    defaultScheduler = scheduler;
+    if (replaced != null && replaced != scheduler) {
+      replaced.shutdown();
+    }
+  }
+
+  /**
+   * Returns the executor submitting tasks with the priority to this scheduler.
+   *
+   * @param priority the priority of the submitted tasks
+   * @return the executor
+   */
+  public Executor executor(TaskPriority priority) {
+    requireNonNull(priority);
+    return task -> submit(priority, task);
+  }
+
+  /**
+   * Submits the task with the priority. The full queue is handled by the overflow policy.
+   *
+   * @param priority the priority of the task
+   * @param task     the task to run
+   * @throws RejectedExecutionException if the scheduler is shut down, the queue is full with {@link OverflowPolicy#REJECT}
+   *                                    or the thread is interrupted while waiting with {@link OverflowPolicy#BLOCK}
+   */
+  public void submit(TaskPriority priority, Runnable task) {
+    requireNonNull(priority);
+    requireNonNull(task);
+
+    Runnable dropped = null;
+    lock.lock();
+    try {
+      var queue = queues.get(priority);
+      while (!shutdown && queue.size() >= queueCapacity && dropped == null) {
+        switch (overflowPolicy) {
+          case BLOCK -> awaitSlot(priority);
+          case REJECT -> throw new RejectedExecutionException("Queue of " + priority + " tasks is full");
+          case DROP_OLDEST -> dropped = queue.poll();
+        }
+      }
+      if (shutdown) {
+        throw new RejectedExecutionException("Scheduler is shut down");
+      }
+      queue.offer(task);
+      taskAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+
+    if (dropped instanceof Future<?> future) {
+      future.cancel(false);
+    }
+  }
+
+  /**
+   * Returns the number of waiting tasks with the priority.
+   *
+   * @param priority the priority
+   * @return the number of waiting tasks
+   */
+  public int getQueueSize(TaskPriority priority) {
+    lock.lock();
+    try {
+      return queues.get(priority).size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Shuts the scheduler down. New submissions are rejected, waiting tasks are still run.
+   */
+  public void shutdown() {
+    lock.lock();
+    try {
+      shutdown = true;
+      taskAvailable.signalAll();
+      slotAvailable.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits for a free slot in the queue. Must be called with the lock held.
+   *
+   * @param priority the priority of the queue
+   */
+  private void awaitSlot(TaskPriority priority) {
+    try {
+      slotAvailable.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for the queue of " + priority + " tasks", e);
+    }
+  }
+
+  /**
+   * The worker loop taking the tasks with the highest priority.
+   */
+  private void work() {
+    while (true) {
+      TaskPriority priority;
+      Runnable task;
+      lock.lock();
+      try {
+        while ((priority = nextPriority()) == null) {
+          if (shutdown) {
+            return;
+          }
+          taskAvailable.awaitUninterruptibly();
+        }
+        task = queues.get(priority).poll();
+        if (priority == TaskPriority.BULK) {
+          runningBulk++;
+        }
+        slotAvailable.signalAll();
+      } finally {
+        lock.unlock();
+      }
+
+      try {
+        task.run();
+      } catch (Throwable e) {
+        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+      } finally {
+        if (priority == TaskPriority.BULK) {
+          finishBulk();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the highest priority with a waiting task which may be run now. Must be called with the lock held.
+   *
+   * @return the priority or {@code null} if no task may be run
+   */
+  private TaskPriority nextPriority() {
+    for (TaskPriority priority : TaskPriority.values()) {
+      if (!queues.get(priority).isEmpty() && (priority != TaskPriority.BULK || runningBulk < bulkLimit)) {
+        return priority;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Releases the bulk slot of the finished bulk task.
+   */
+  private void finishBulk() {
+    lock.lock();
+    try {
+      runningBulk--;
+      taskAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Policy applied when the queue of the priority is full.
+   */
+  public enum OverflowPolicy {
+    /** The submitting thread waits for a free slot. */
+    BLOCK,
+    /** The submission fails with {@link RejectedExecutionException}. */
+    REJECT,
+    /** The oldest waiting task of the same priority is dropped and cancelled. */
+    DROP_OLDEST
+  }
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Resilience policy of the background call with retries, hedged attempts and per-attempt timeouts.
+ *
+ * <dl>
+ *   <dt>maxAttempts
+ *   <dd>- the maximal number of attempts including retries and hedged attempts. Default is 1, no retries.
+ *   <dt>initialBackoff, backoffMultiplier, maxBackoff
+ *   <dd>- the delay before the retry of a failed attempt grows exponentially from the initial backoff by the multiplier up to the maximal backoff.
+ *   <dt>hedgeAfter
+ *   <dd>- the latency threshold after which a duplicate attempt is started while the previous one is still running. Default is no hedging.
+ *   <dt>attemptTimeout
+ *   <dd>- the timeout of a single attempt. The attempt exceeding the timeout is cancelled and fails with {@link TimeoutException}. Default is no timeout.
+ *   <dt>retryOn
+ *   <dd>- the predicate of failures which are retried. Default is all failures.
+ * </dl>
+ *
+ * The first successful attempt wins and the other running attempts are cancelled. If all attempts fail, the last failure is thrown.
+ * Each attempt runs in its own virtual thread, interruption of the calling thread cancels all attempts.
+ * Retries and hedged attempts run the call more than once, so the call must be idempotent.
+ *
+ * <pre>{@code
+ *   ResiliencePolicy policy = ResiliencePolicy.builder()
+ *       .maxAttempts(3)
+ *       .initialBackoff(Duration.ofMillis(200))
+ *       .hedgeAfter(Duration.ofMillis(500))
+ *       .attemptTimeout(Duration.ofSeconds(5))
+ *       .build();
+ * }</pre>
+ */
+public class ResiliencePolicy {
+
+  /** Factory of virtual threads running the attempts. */
+  private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name(BackgroundExecutors.THREAD_NAME_PREFIX + "attempt-", 0).factory();
+  /** Marker of no scheduled time. */
+  private static final long NONE = Long.MAX_VALUE;
+
+  /** The maximal number of attempts including retries and hedged attempts. */
+  private final int maxAttempts;
+  /** The delay before the first retry. */
+  private final Duration initialBackoff;
+  /** The multiplier of the delay before each next retry. */
+  private final double backoffMultiplier;
+  /** The maximal delay before a retry. */
+  private final Duration maxBackoff;
+  /** The latency threshold after which a hedged attempt is started, {@code null} means no hedging. */
+  private final Duration hedgeAfter;
+  /** The timeout of a single attempt, {@code null} means no timeout. */
+  private final Duration attemptTimeout;
+  /** The predicate of failures which are retried. */
+  private final Predicate<Exception> retryOn;
+
+  /**
+   * Creates a new policy from the builder.
+   *
+   * @param builder the builder with the policy attributes
+   */
+  private ResiliencePolicy(Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialBackoff = builder.initialBackoff;
+    this.backoffMultiplier = builder.backoffMultiplier;
+    this.maxBackoff = builder.maxBackoff;
+    this.hedgeAfter = builder.hedgeAfter;
+    this.attemptTimeout = builder.attemptTimeout;
+    this.retryOn = builder.retryOn;
+  }
+
+  /**
+   * Creates a new {@code Builder} instance.
+   *
+   * @return a new {@code Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Calls the callable with this policy. Blocks until the first attempt succeeds or all attempts fail.
+   *
+   * @param callable the call to execute
+   * @param <T>      the result type of the call
+   * @return the result of the first successful attempt
+   * @throws Exception the failure of the last attempt
+   */
+  public <T> T call(Callable<T> callable) throws Exception {
+    return new ResilientCall<>(callable).run();
+  }
+
+  /**
+   * Returns the delay before the retry.
+   *
+   * @param retry the zero based retry number
+   * @return the delay in nanoseconds
+   */
+  long backoffNanos(int retry) {
+    double backoff = initialBackoff.toNanos() * Math.pow(backoffMultiplier, retry);
+    return (long) Math.min(backoff, maxBackoff.toNanos());
+  }
+
+  /**
+   * The execution of one call with the policy. Used only by the calling thread.
+   *
+   * @param <T> the result type of the call
+   */
+  private class ResilientCall<T> {
+    /** The call to execute. */
+    private final Callable<T> callable;
+    /** The attempts completed and not processed yet. */
+    private final BlockingQueue<Attempt<T>> completed = new LinkedBlockingQueue<>();
+    /** The running attempts. */
+    private final List<Attempt<T>> active = new ArrayList<>();
+    /** The number of started attempts. */
+    private int started;
+    /** The number of scheduled retries. */
+    private int retries;
+    /** The {@link System#nanoTime()} of the last attempt start. */
+    private long lastStartNanos;
+    /** The {@link System#nanoTime()} of the scheduled retry or {@link #NONE}. */
+    private long retryNanos = NONE;
+
+    /**
+     * Creates a new execution of the call.
+     *
+     * @param callable the call to execute
+     */
+    ResilientCall(Callable<T> callable) {
+      this.callable = callable;
+    }
+
+    /**
+     * Runs the attempts until the first success or the last failure.
+     *
+     * @return the result of the first successful attempt
+     * @throws Exception the failure of the last attempt
+     */
+    T run() throws Exception {
+      try {
+        startAttempt(System.nanoTime());
+        while (true) {
+          long now = System.nanoTime();
+          active.stream().filter(attempt -> attempt.deadlineNanos <= now).forEach(Attempt::timeout);
+
+          long wakeUp = nextWakeUp();
+          var attempt = wakeUp == NONE ? completed.take() : completed.poll(Math.max(0, wakeUp - now), TimeUnit.NANOSECONDS);
+          if (attempt != null) {
+            active.remove(attempt);
+            if (attempt.isSucceeded()) {
+              return attempt.getResult();
+            }
+            onFailure(attempt.getFailure());
+          } else {
+            onWakeUp();
+          }
+        }
+      } finally {
+        active.forEach(Attempt::cancel);
+      }
+    }
+
+    /**
+     * Schedules the retry of the failed attempt or throws the failure when no attempt is left.
+     *
+     * @param failure the failure of the attempt
+     * @throws Exception the failure if it is not retried
+     */
+    private void onFailure(Exception failure) throws Exception {
+      if (!retryOn.test(failure)) {
+        throw failure;
+      }
+      if (active.isEmpty()) {
+        if (started >= maxAttempts) {
+          throw failure;
+        }
+        retryNanos = System.nanoTime() + backoffNanos(retries++);
+      }
+    }
+
+    /**
+     * Starts the due retry or hedged attempt.
+     */
+    private void onWakeUp() {
+      long now = System.nanoTime();
+      if (retryNanos <= now) {
+        retryNanos = NONE;
+        startAttempt(now);
+      } else if (hedgeNanos() <= now) {
+        startAttempt(now);
+      }
+    }
+
+    /**
+     * Returns the time of the next hedged attempt or {@link #NONE}.
+     *
+     * @return the time of the next hedged attempt
+     */
+    private long hedgeNanos() {
+      if (hedgeAfter == null || started >= maxAttempts || active.isEmpty() || retryNanos != NONE) {
+        return NONE;
+      }
+      return lastStartNanos + hedgeAfter.toNanos();
+    }
+
+    /**
+     * Returns the earliest time of the retry, the hedged attempt or the attempt timeout.
+     *
+     * @return the earliest time to wake up or {@link #NONE}
+     */
+    private long nextWakeUp() {
+      long wakeUp = Math.min(retryNanos, hedgeNanos());
+      for (var attempt : active) {
+        wakeUp = Math.min(wakeUp, attempt.deadlineNanos);
+      }
+      return wakeUp;
+    }
+
+    /**
+     * Starts a new attempt in a virtual thread.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    private void startAttempt(long now) {
+      var attempt = new Attempt<>(callable, completed, attemptTimeout != null ? now + attemptTimeout.toNanos() : NONE);
+      active.add(attempt);
+      started++;
+      lastStartNanos = now;
+      THREAD_FACTORY.newThread(attempt).start();
+    }
+  }
+
+  /**
+   * One attempt of the call.
+   *
+   * @param <T> the result type of the call
+   */
+  private class Attempt<T> extends FutureTask<T> {
+    /** The queue of completed attempts. */
+    private final BlockingQueue<Attempt<T>> completed;
+    /** The {@link System#nanoTime()} of the attempt timeout or {@link #NONE}. */
+    private final long deadlineNanos;
+    /** Flag whether the attempt was cancelled because of the timeout. */
+    private volatile boolean timedOut;
+
+    /**
+     * Creates a new attempt.
+     *
+     * @param callable      the call to execute
+     * @param completed     the queue of completed attempts
+     * @param deadlineNanos the time of the attempt timeout
+     */
+    Attempt(Callable<T> callable, BlockingQueue<Attempt<T>> completed, long deadlineNanos) {
+      super(callable);
+      this.completed = completed;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    protected void done() {
+      completed.add(this);
+    }
+
+    /**
+     * Cancels the attempt because of the timeout.
+     */
+    void timeout() {
+      timedOut = true;
+      cancel(true);
+    }
+
+    /**
+     * Cancels the attempt.
+     */
+    void cancel() {
+      cancel(true);
+    }
+
+    /**
+     * Returns {@code true} if the attempt succeeded.
+     *
+     * @return {@code true} if the attempt succeeded
+     */
+    boolean isSucceeded() {
+      return state() == State.SUCCESS;
+    }
+
+    /**
+     * Returns the result of the succeeded attempt.
+     *
+     * @return the result of the attempt
+     */
+    T getResult() {
+      return resultNow();
+    }
+
+    /**
+     * Returns the failure of the failed or timed out attempt.
+     *
+     * @return the failure of the attempt
+     */
+    Exception getFailure() {
+      if (isCancelled()) {
+        return timedOut ? new TimeoutException("Attempt timed out after " + attemptTimeout) : new IllegalStateException("Attempt was cancelled");
+      }
+      var failure = exceptionNow();
+      return failure instanceof Exception exception ? exception : new ExecutionException(failure);
+    }
+  }
+
+  /**
+   * Builder of the {@link ResiliencePolicy}.
+   */
+  public static class Builder {
+    /** The maximal number of attempts including retries and hedged attempts. */
+    private int maxAttempts = 1;
+    /** The delay before the first retry. */
+    private Duration initialBackoff = Duration.ofMillis(100);
+    /** The multiplier of the delay before each next retry. */
+    private double backoffMultiplier = 2.0;
+    /** The maximal delay before a retry. */
+    private Duration maxBackoff = Duration.ofSeconds(5);
+    /** The latency threshold after which a hedged attempt is started. */
+    private Duration hedgeAfter;
+    /** The timeout of a single attempt. */
+    private Duration attemptTimeout;
+    /** The predicate of failures which are retried. */
+    private Predicate<Exception> retryOn = failure -> true;
+
+    /**
+     * Creates a new {@code Builder} instance.
+     */
+    private Builder() {}
+
+    /**
+     * Sets the maximal number of attempts including retries and hedged attempts.
+     *
+     * @param maxAttempts the maximal number of attempts, at least 1
+     * @return this builder
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("Max attempts must be at least 1: " + maxAttempts);
+      }
+      this.maxAttempts = maxAttempts;
+
+      return this;
+    }
+
+    /**
+     * Sets the delay before the first retry.
+     *
+     * @param initialBackoff the delay before the first retry
+     * @return this builder
+     */
+    public Builder initialBackoff(Duration initialBackoff) {
+      this.initialBackoff = requireNonNegative(initialBackoff, "Initial backoff");
+
+      return this;
+    }
+
+    /**
+     * Sets the multiplier of the delay before each next retry.
+     *
+     * @param backoffMultiplier the multiplier, at least 1
+     * @return this builder
+     */
+    public Builder backoffMultiplier(double backoffMultiplier) {
+      if (backoffMultiplier < 1) {
+        throw new IllegalArgumentException("Backoff multiplier must be at least 1: " + backoffMultiplier);
+      }
+      this.backoffMultiplier = backoffMultiplier;
+
+      return this;
+    }
+
+    /**
+     * Sets the maximal delay before a retry.
+     *
+     * @param maxBackoff the maximal delay before a retry
+     * @return this builder
+     */
+    public Builder maxBackoff(Duration maxBackoff) {
+      this.maxBackoff = requireNonNegative(maxBackoff, "Max backoff");
+
+      return this;
+    }
+
+    /**
+     * Sets the latency threshold after which a hedged attempt is started while the previous attempt is still running.
+     *
+     * @param hedgeAfter the latency threshold, {@code null} means no hedging
+     * @return this builder
+     */
+    public Builder hedgeAfter(Duration hedgeAfter) {
+      this.hedgeAfter = hedgeAfter != null ? requireNonNegative(hedgeAfter, "Hedge after") : null;
+
+      return this;
+    }
+
+    /**
+     * Sets the timeout of a single attempt.
+     *
+     * @param attemptTimeout the timeout of a single attempt, {@code null} means no timeout
+     * @return this builder
+     */
+    public Builder attemptTimeout(Duration attemptTimeout) {
+      this.attemptTimeout = attemptTimeout != null ? requireNonNegative(attemptTimeout, "Attempt timeout") : null;
+
+      return this;
+    }
+
+    /**
+     * Sets the predicate of failures which are retried. Not retried failure is thrown immediately.
+     *
+     * @param retryOn the predicate of retried failures
+     * @return this builder
+     */
+    public Builder retryOn(Predicate<Exception> retryOn) {
+      this.retryOn = requireNonNull(retryOn);
+
+      return this;
+    }
+
+    /**
+     * Builds the policy.
+     *
+     * @return the new policy
+     */
+    public ResiliencePolicy build() {
+      return new ResiliencePolicy(this);
+    }
+
+    /**
+     * Checks the duration is not {@code null} nor negative.
+     *
+     * @param duration the duration to check
+     * @param name     the name of the attribute
+     * @return the duration
+     */
+    private static Duration requireNonNegative(Duration duration, String name) {
+      requireNonNull(duration);
+      if (duration.isNegative()) {
+        throw new IllegalArgumentException(name + " must not be negative: " + duration);
+      }
+      return duration;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+/**
+ * Priority class of the background task used by {@link PriorityTaskScheduler}.
+ */
+public enum TaskPriority {
+  /** Task triggered by the user waiting for its result, e.g. loading after a click. */
+  INTERACTIVE,
+  /** Regular background task. */
+  NORMAL,
+  /** Long or mass task which must not delay other tasks, e.g. prefetch, import or bulk save. */
+  BULK
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Scope of subtasks running in parallel. The scope follows the shape of the structured concurrency {@code StructuredTaskScope.ShutdownOnFailure}
+ * which is a preview API in Java 21.
+ *
+ * <p>
+ *   Each subtask is forked in its own virtual thread. {@link #join()} waits for all subtasks. The first failure or the elapsed deadline cancels
+ *   the remaining subtasks and is thrown from {@link #join()}. Closing the scope cancels the unfinished subtasks, so the interruption of the owning
+ *   thread propagates to all subtasks.
+ * </p>
+ *
+ * <pre>{@code
+ *   try (var scope = new TaskScope(Duration.ofSeconds(5))) {
+ *     var characters = scope.fork(interactor::loadCharacters);
+ *     var books = scope.fork(interactor::loadBooks);
+ *     scope.join();
+ *     return new Detail(characters.get(), books.get());
+ *   }
+ * }</pre>
+ */
+public class TaskScope implements AutoCloseable {
+
+  /** Factory of virtual threads running the subtasks. */
+  private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name(BackgroundExecutors.THREAD_NAME_PREFIX + "fork-", 0).factory();
+
+  /** The forked subtasks. */
+  private final List<Subtask<?>> subtasks = new ArrayList<>();
+  /** The subtasks completed and not processed by {@link #join()} yet. */
+  private final BlockingQueue<Subtask<?>> completed = new LinkedBlockingQueue<>();
+  /** The {@link System#nanoTime()} of the deadline, {@code null} means no deadline. */
+  private final Long deadlineNanos;
+  /** The deadline of the scope, {@code null} means no deadline. */
+  private final Duration deadline;
+  /** The number of subtasks processed by {@link #join()}. */
+  private int joined;
+  /** Flag whether the scope is closed. */
+  private boolean closed;
+
+  /**
+   * Creates a new scope without a deadline.
+   */
+  public TaskScope() {
+    this(null);
+  }
+
+  /**
+   * Creates a new scope with the deadline measured from now.
+   *
+   * @param deadline the time to complete all subtasks, {@code null} means no deadline
+   */
+  public TaskScope(Duration deadline) {
+    this.deadline = deadline;
+    this.deadlineNanos = deadline != null ? System.nanoTime() + deadline.toNanos() : null;
+  }
+
+  /**
+   * Forks the subtask in a new virtual thread. Must be called by the owner of the scope.
+   *
+   * @param callable the subtask body
+   * @param <U>      the result type of the subtask
+   * @return the handle of the subtask
+   */
+  public <U> Subtask<U> fork(Callable<U> callable) {
+    requireNonNull(callable);
+    if (closed) {
+      throw new IllegalStateException("Task scope is closed");
+    }
+
+    var subtask = new Subtask<>(callable, completed);
+    subtasks.add(subtask);
+    THREAD_FACTORY.newThread(subtask.future).start();
+
+    return subtask;
+  }
+
+  /**
+   * Waits for all forked subtasks. Must be called by the owner of the scope.
+   *
+   * @throws Exception            the failure of the first failed subtask
+   * @throws TimeoutException     if the deadline elapsed
+   * @throws InterruptedException if the owner was interrupted while waiting
+   */
+  public void join() throws Exception {
+    try {
+      while (joined < subtasks.size()) {
+        var subtask = deadlineNanos == null ? completed.take() : completed.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (subtask == null) {
+          throw new TimeoutException("Subtasks did not complete within " + deadline);
+        }
+        joined++;
+        subtask.throwIfFailed();
+      }
+    } catch (Exception e) {
+      shutdown();
+      throw e;
+    }
+  }
+
+  /**
+   * Cancels the unfinished subtasks.
+   */
+  public void shutdown() {
+    subtasks.forEach(subtask -> subtask.future.cancel(true));
+  }
+
+  /**
+   * Cancels the unfinished subtasks and closes the scope.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    shutdown();
+  }
+
+  /**
+   * Handle of the forked subtask.
+   *
+   * @param <U> the result type of the subtask
+   */
+  public static final class Subtask<U> implements Supplier<U> {
+    /** The future running the subtask body. */
+    private final FutureTask<U> future;
+
+    /**
+     * Creates a new subtask reporting its completion to the queue.
+     *
+     * @param callable  the subtask body
+     * @param completed the queue of completed subtasks
+     */
+    private Subtask(Callable<U> callable, BlockingQueue<Subtask<?>> completed) {
+      this.future = new FutureTask<>(callable) {
+        @Override
+        protected void done() {
+          completed.add(Subtask.this);
+        }
+      };
+    }
+
+    /**
+     * Returns the result of the succeeded subtask.
+     *
+     * @return the result of the subtask
+     * @throws IllegalStateException if the subtask did not succeed
+     */
+    @Override
+    public U get() {
+      if (!future.isDone() || future.isCancelled()) {
+        throw new IllegalStateException("Subtask has not completed");
+      }
+      try {
+        return future.get();
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Subtask failed", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Subtask has not completed", e);
+      }
+    }
+
+    /**
+     * Returns {@code true} if the subtask completed.
+     *
+     * @return {@code true} if the subtask completed
+     */
+    public boolean isDone() {
+      return future.isDone();
+    }
+
+    /**
+     * Throws the failure of the subtask if it failed.
+     *
+     * @throws Exception the failure of the subtask
+     */
+    private void throwIfFailed() throws Exception {
+      if (future.isCancelled()) {
+        throw new IllegalStateException("Subtask was cancelled");
+      }
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof Exception exception) {
+          throw exception;
+        }
+        throw e;
+      }
+    }
+  }
+}
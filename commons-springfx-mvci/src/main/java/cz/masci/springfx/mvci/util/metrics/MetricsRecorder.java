@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.metrics;
+
+import java.time.Duration;
+
+/**
+ * Recorder of the library metrics. All methods do nothing by default, implementations override the metrics they publish.
+ * The recorder is called from background threads and from the JavaFX Application Thread, so implementations must be thread safe and fast.
+ */
+public interface MetricsRecorder {
+
+  /** The recorder doing nothing. */
+  MetricsRecorder NOOP = new MetricsRecorder() {};
+
+  /**
+   * Records the completed background task.
+   *
+   * @param name     the name of the task
+   * @param outcome  the outcome of the task
+   * @param wait     the time from the submission to the start of the task body
+   * @param run      the time of the task body
+   * @param delivery the time from the end of the task body to the call of the completion handlers in the JavaFX thread
+   */
+  default void taskCompleted(String name, TaskOutcome outcome, Duration wait, Duration run, Duration delivery) {
+  }
+
+  /**
+   * Records one drain of the {@link cz.masci.springfx.mvci.util.concurrent.FxDispatcher FxDispatcher} queue.
+   *
+   * @param runnables the number of runnables run by the drain
+   * @param latency   the queue wait of the oldest runnable of the drain
+   * @param duration  the time of the drain in the JavaFX thread
+   */
+  default void fxDrained(int runnables, Duration latency, Duration duration) {
+  }
+
+  /**
+   * Records the save batch of dirty elements.
+   *
+   * @param name     the name of the batch
+   * @param size     the number of elements passed to the save action
+   * @param duration the time from the start of the batch until the last element is saved
+   */
+  default void saveBatch(String name, int size, Duration duration) {
+  }
+
+  /**
+   * Outcome of the completed background task.
+   */
+  enum TaskOutcome {
+    /** The task succeeded. */
+    SUCCEEDED,
+    /** The task failed. */
+    FAILED,
+    /** The task was cancelled. */
+    CANCELLED
+  }
+}
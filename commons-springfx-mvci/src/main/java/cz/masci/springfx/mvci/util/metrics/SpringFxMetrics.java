@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class holding the library-wide {@link MetricsRecorder}. Initially the recorder does nothing.
+ *
+ * <pre>{@code
+ *   SpringFxMetrics.setRecorder(new MyMetricsRecorder());
+ * }</pre>
+ */
+@UtilityClass
+public class SpringFxMetrics {
+
+  /** The library-wide metrics recorder. */
+  private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+
+  /**
+   * Returns the library-wide metrics recorder.
+   *
+   * @return the metrics recorder
+   */
+  public static MetricsRecorder getRecorder() {
+    return recorder;
+  }
+
+  /**
+   * Sets the library-wide metrics recorder.
+   *
+   * @param metricsRecorder the metrics recorder
+   */
+  public static void setRecorder(MetricsRecorder metricsRecorder) {
+    requireNonNull(metricsRecorder);
+
+    recorder = metricsRecorder;
+  }
+
+  /**
+   * Restores the library-wide metrics recorder to {@link MetricsRecorder#NOOP}.
+   */
+  public static void resetRecorder() {
+    recorder = MetricsRecorder.NOOP;
+  }
+
+  /**
+   * Returns {@code true} if a recorder other than {@link MetricsRecorder#NOOP} is set.
+   *
+   * @return {@code true} if the metrics are recorded
+   */
+  public static boolean isEnabled() {
+    return recorder != MetricsRecorder.NOOP;
+  }
+}
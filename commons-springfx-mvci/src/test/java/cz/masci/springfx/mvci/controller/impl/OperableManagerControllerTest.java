@@ -20,8 +20,13 @@
 package cz.masci.springfx.mvci.controller.impl;
 
 import static cz.masci.springfx.mvci.TestConstants.DETAIL_MODEL_ID;
+import static cz.masci.springfx.mvci.TestConstants.UPDATED_TEXT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -33,8 +38,13 @@ import cz.masci.springfx.mvci.model.list.Focusable;
 import cz.masci.springfx.mvci.model.list.Removable;
 import cz.masci.springfx.mvci.model.list.Selectable;
 import cz.masci.springfx.mvci.model.list.impl.BaseListModel;
+import cz.masci.springfx.mvci.util.metrics.MetricsRecorder;
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -92,6 +102,199 @@ class OperableManagerControllerTest {
   }
   // endregion
 
+  // region reload
+  @Test
+  void reload_merge() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    var element3 = model(3, "third");
+    listModel.getElements().addAll(element1, element2, element3);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var changes = new ArrayList<String>();
+    listModel.getElements().addListener((ListChangeListener<TestDetailModel>) change -> {
+      while (change.next()) {
+        changes.add(change.getFrom() + (change.wasRemoved() ? " removed " + change.getRemovedSize() : "") + (change.wasAdded() ? " added " + change.getAddedSize() : ""));
+      }
+    });
+    var inserted = model(4, "fourth");
+
+    localController.reload(ElementsDiff.of(List.of(model(1, "first"), model(3, UPDATED_TEXT), inserted)), (current, loaded) -> current.setText(loaded.getText()));
+
+    assertEquals(List.of(element1, element3, inserted), listModel.getElements());
+    assertEquals(UPDATED_TEXT, element3.getText());
+    assertEquals(0, listModel.dirtyCountProperty().get());
+    assertEquals(List.of("3 added 1", "1 removed 1"), changes);
+  }
+
+  @Test
+  void reload_replace() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var loaded1 = model(1, UPDATED_TEXT);
+    var loaded2 = model(2, UPDATED_TEXT);
+
+    localController.reload(List.of(loaded1, loaded2));
+
+    assertEquals(List.of(loaded1, loaded2), listModel.getElements());
+  }
+
+  @Test
+  void reload_keepsDirtyAndTransient() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var dirtyElement = model(1, "first");
+    var deletedDirtyElement = model(2, "second");
+    var transientElement = new TestDetailModel();
+    transientElement.setTransient(true);
+    var deletedElement = model(3, "third");
+    listModel.getElements().addAll(dirtyElement, deletedDirtyElement, transientElement, deletedElement);
+    dirtyElement.setText(UPDATED_TEXT);
+    deletedDirtyElement.setText(UPDATED_TEXT);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+
+    localController.reload(List.of(model(1, "loaded")));
+
+    assertEquals(List.of(dirtyElement, deletedDirtyElement, transientElement), listModel.getElements());
+    assertEquals(UPDATED_TEXT, dirtyElement.getText());
+  }
+
+  @Test
+  void reload_reordered() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+
+    localController.reload(ElementsDiff.of(List.of(model(2, "second"), model(1, "first"))), (current, loaded) -> current.setText(loaded.getText()));
+
+    assertEquals(List.of(element2, element1), listModel.getElements());
+  }
+
+  @Test
+  void reload_selection() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var selected = new ArrayList<TestDetailModel>();
+    listModel.setOnSelectElement(selected::add);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var loaded1 = model(1, UPDATED_TEXT);
+
+    listModel.selectedElementProperty().setValue(element1);
+    localController.reload(List.of(loaded1));
+
+    assertEquals(1, selected.size());
+    assertSame(loaded1, selected.get(0));
+
+    listModel.selectedElementProperty().setValue(loaded1);
+    localController.reload(List.of(model(2, "second")));
+
+    assertEquals(2, selected.size());
+    assertEquals(null, selected.get(1));
+  }
+  @Test
+  void reload_keepsUnchanged() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var changes = new ArrayList<String>();
+    listModel.getElements().addListener((ListChangeListener<TestDetailModel>) change -> changes.add(change.toString()));
+
+    localController.reload(List.of(model(1, "first"), model(2, "second")));
+
+    assertEquals(List.of(element1, element2), listModel.getElements());
+    assertEquals(List.of(), changes);
+  }
+
+  @Test
+  void reload_snapshot() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var loaded2 = model(2, UPDATED_TEXT);
+    var inserted = model(3, "third");
+
+    var diff = ElementsDiff.of(localController.snapshot(), List.of(model(1, "first"), loaded2, inserted));
+    localController.reload(diff);
+
+    assertEquals(List.of(element1, loaded2, inserted), listModel.getElements());
+  }
+
+  @Test
+  void reload_snapshotMerged() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+
+    var diff = ElementsDiff.ofMerged(localController.snapshot(), List.of(model(1, "first"), model(2, UPDATED_TEXT)));
+    localController.reload(diff, (current, loaded) -> current.setText(loaded.getText()));
+
+    assertEquals(List.of(element1, element2), listModel.getElements());
+    assertEquals(UPDATED_TEXT, element2.getText());
+    assertFalse(element2.isDirty());
+  }
+
+  @Test
+  void reload_snapshotComparesCapturedValues() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    listModel.getElements().add(element1);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var snapshot = localController.snapshot();
+
+    element1.setText(UPDATED_TEXT);
+    element1.rebaseline();
+    var loaded1 = model(1, UPDATED_TEXT);
+    var diff = ElementsDiff.of(snapshot, List.of(loaded1));
+    localController.reload(diff);
+
+    assertEquals(List.of(loaded1), listModel.getElements());
+  }
+
+  @Test
+  void reload_snapshotOutdated() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var diff = ElementsDiff.of(localController.snapshot(), List.of(model(1, "first")));
+    var transientElement = new TestDetailModel();
+    transientElement.setTransient(true);
+
+    listModel.getElements().add(transientElement);
+    localController.reload(diff);
+
+    assertEquals(List.of(element1, transientElement), listModel.getElements());
+  }
+
+  @Test
+  void reload_snapshotRemovedElementEdited() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var element1 = model(1, "first");
+    var element2 = model(2, "second");
+    listModel.getElements().addAll(element1, element2);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var diff = ElementsDiff.of(localController.snapshot(), List.of(model(1, "first")));
+
+    element2.setText(UPDATED_TEXT);
+    localController.reload(diff);
+
+    assertEquals(List.of(element1, element2), listModel.getElements());
+  }
+  // endregion
+
   // region update
   @Test
   void update() {
@@ -123,6 +326,64 @@ class OperableManagerControllerTest {
     verify(notTransientElement, never()).setId(any());
     verify(notTransientElement).rebaseline();
   }
+
+  @Test
+  void update_recordsSaveBatch() {
+    var metricsRecorder = mock(MetricsRecorder.class);
+    var notValidElement = createTestDetailModel(true, false, null);
+    var validElement = createTestDetailModel(true, true, false);
+
+    when(modelElements.stream()).thenReturn(Stream.of(notValidElement, validElement));
+    controller.setMetricsName("test");
+    SpringFxMetrics.setRecorder(metricsRecorder);
+    try {
+      controller.update((element, updateAction) -> updateAction.accept(element));
+    } finally {
+      SpringFxMetrics.resetRecorder();
+    }
+
+    verify(metricsRecorder).saveBatch(eq("test"), eq(1), any(Duration.class));
+  }
+
+  @Test
+  void update_recordsSaveBatchWhenSaved() {
+    var metricsRecorder = mock(MetricsRecorder.class);
+    var validElement = createTestDetailModel(true, true, false);
+    var saves = new ArrayList<Runnable>();
+
+    when(modelElements.stream()).thenReturn(Stream.of(validElement));
+    controller.setMetricsName("test");
+    SpringFxMetrics.setRecorder(metricsRecorder);
+    try {
+      controller.update((element, updateAction) -> saves.add(() -> updateAction.accept(element)));
+      verify(metricsRecorder, never()).saveBatch(any(), anyInt(), any());
+
+      saves.forEach(Runnable::run);
+    } finally {
+      SpringFxMetrics.resetRecorder();
+    }
+
+    verify(metricsRecorder).saveBatch(eq("test"), eq(1), any(Duration.class));
+  }
+
+  @Test
+  void update_dirtyElementsIndex() {
+    BaseListModel<Integer, TestDetailModel> listModel = new BaseListModel<>();
+    var notDirtyElement = new TestDetailModel();
+    var dirtyElement = new TestDetailModel();
+    listModel.getElements().addAll(notDirtyElement, dirtyElement);
+    dirtyElement.setText(UPDATED_TEXT);
+    var localController = new OperableManagerController<>(listModel, listModel.getElements());
+    var updatedElements = new ArrayList<TestDetailModel>();
+
+    localController.update((element, updateAction) -> {
+      updatedElements.add(element);
+      updateAction.accept(element);
+    });
+
+    assertEquals(List.of(dirtyElement), updatedElements);
+    assertEquals(0, listModel.dirtyCountProperty().get());
+  }
   // endregion
 
   // region discard
@@ -143,11 +404,19 @@ class OperableManagerControllerTest {
 
     verify(notTransientElement).reset();
 
-    verify(removable).remove(transientElement);
+    verify(removable).removeAll(List.of(transientElement));
   }
   // endregion
 
 
+  private static TestDetailModel model(Integer id, String text) {
+    var model = new TestDetailModel();
+    model.setId(id);
+    model.setText(text);
+    model.rebaseline();
+    return model;
+  }
+
   private TestDetailModel createTestDetailModel(Boolean dirty, Boolean valid, Boolean isTransient) {
     var testDetailModel = mock(TestDetailModel.class);
     if (dirty != null) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ModelBatchTest {
+
+  @Test
+  void recompute_noBatch() {
+    AtomicInteger recomputations = new AtomicInteger();
+
+    ModelBatch.recompute(recomputations::incrementAndGet);
+
+    assertEquals(1, recomputations.get());
+    assertFalse(ModelBatch.isActive());
+  }
+
+  @Test
+  void recompute_deferredOnce() {
+    AtomicInteger recomputations = new AtomicInteger();
+    Runnable recomputation = recomputations::incrementAndGet;
+
+    ModelBatch.run(() -> {
+      assertTrue(ModelBatch.isActive());
+      ModelBatch.recompute(recomputation);
+      ModelBatch.recompute(recomputation);
+      assertEquals(0, recomputations.get());
+    });
+
+    assertEquals(1, recomputations.get());
+    assertFalse(ModelBatch.isActive());
+  }
+
+  @Test
+  void recompute_nested() {
+    AtomicInteger recomputations = new AtomicInteger();
+
+    ModelBatch.run(() -> {
+      ModelBatch.run(() -> ModelBatch.recompute(recomputations::incrementAndGet));
+      assertEquals(0, recomputations.get());
+    });
+
+    assertEquals(1, recomputations.get());
+  }
+
+  @Test
+  void run_nestedFailure() {
+    AtomicInteger recomputations = new AtomicInteger();
+
+    ModelBatch.run(() -> {
+      assertThrows(IllegalStateException.class, () -> ModelBatch.run(() -> {
+        ModelBatch.recompute(recomputations::incrementAndGet);
+        throw new IllegalStateException();
+      }));
+      assertTrue(ModelBatch.isActive());
+      assertEquals(0, recomputations.get());
+    });
+
+    assertEquals(1, recomputations.get());
+    assertFalse(ModelBatch.isActive());
+  }
+
+  @Test
+  void run_failure() {
+    AtomicInteger recomputations = new AtomicInteger();
+
+    assertThrows(IllegalStateException.class, () -> ModelBatch.run(() -> {
+      ModelBatch.recompute(recomputations::incrementAndGet);
+      throw new IllegalStateException();
+    }));
+
+    assertEquals(1, recomputations.get());
+    assertFalse(ModelBatch.isActive());
+  }
+}
@@ -28,6 +28,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import cz.masci.springfx.mvci.model.dirty.DirtyStringProperty;
+import io.github.palexdev.materialfx.validation.Constraint;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.BooleanBinding;
 import org.junit.jupiter.api.Test;
 
 public class BaseDetailModelTest {
@@ -80,6 +85,20 @@ public class BaseDetailModelTest {
     assertEquals(INITIAL_TEXT, baseDetailModel.getText());
   }
 
+  @Test
+  @SuppressWarnings("deprecation")
+  public void getComposite_wrapsDirtyComposite() {
+    var composite = baseDetailModel.getComposite();
+    assertFalse(composite.isDirty());
+
+    baseDetailModel.setText(UPDATED_TEXT);
+    assertTrue(composite.isDirty());
+
+    composite.reset();
+    assertFalse(baseDetailModel.isDirty());
+    assertEquals(INITIAL_TEXT, baseDetailModel.getText());
+  }
+
   @Test
   public void valid() {
     baseDetailModel.setText("");
@@ -91,5 +110,137 @@ public class BaseDetailModelTest {
     assertTrue(baseDetailModel.isValid());
   }
 
+  @Test
+  public void batch_rebaseline() {
+    AtomicInteger dirtyChanges = new AtomicInteger();
+    baseDetailModel.isDirtyProperty().addListener((observable, oldValue, newValue) -> dirtyChanges.incrementAndGet());
+
+    baseDetailModel.batch(() -> {
+      baseDetailModel.setText(UPDATED_TEXT);
+      baseDetailModel.setText("");
+      baseDetailModel.setText(UPDATED_TEXT);
+      baseDetailModel.rebaseline();
+    });
+
+    assertEquals(0, dirtyChanges.get());
+    assertFalse(baseDetailModel.isDirty());
+    assertEquals(UPDATED_TEXT, baseDetailModel.getText());
+  }
+
+  @Test
+  public void batch_validation() {
+    AtomicInteger validChanges = new AtomicInteger();
+    baseDetailModel.validProperty().addListener((observable, oldValue, newValue) -> validChanges.incrementAndGet());
+
+    baseDetailModel.batch(() -> {
+      baseDetailModel.setText("");
+      assertTrue(baseDetailModel.isValid());
+      baseDetailModel.setText(UPDATED_TEXT);
+      baseDetailModel.setText("");
+    });
+
+    assertEquals(1, validChanges.get());
+    assertFalse(baseDetailModel.isValid());
+    assertTrue(baseDetailModel.isDirty());
+  }
+
+  @Test
+  public void validator_lazy() {
+    var model = new LazyValidatedModel();
+
+    assertEquals(0, model.builtConstraints.get());
+
+    assertFalse(model.isValid());
+    assertEquals(1, model.builtConstraints.get());
+  }
+
+  @Test
+  public void validator_createdOnDirty_releasedOnRebaseline() {
+    var model = new LazyValidatedModel();
+
+    model.text.set(UPDATED_TEXT);
+    assertEquals(1, model.builtConstraints.get());
+    assertTrue(model.isValid());
+
+    model.rebaseline();
+    model.text.set("");
+
+    assertEquals(2, model.builtConstraints.get());
+    assertFalse(model.isValid());
+  }
+
+  @Test
+  public void validator_observed_notReleased() {
+    var model = new LazyValidatedModel();
+    var validProperty = model.validProperty();
+    InvalidationListener listener = observable -> {};
+    validProperty.addListener(listener);
+
+    model.text.set(UPDATED_TEXT);
+    assertTrue(validProperty.get());
+    model.reset();
+
+    assertEquals(1, model.builtConstraints.get());
+    assertFalse(validProperty.get());
+  }
+
+  @Test
+  public void validator_unobserved_released() {
+    var model = new LazyValidatedModel();
+    var validProperty = model.validProperty();
+    InvalidationListener listener = observable -> {};
+    validProperty.addListener(listener);
+    model.text.set(UPDATED_TEXT);
+    model.rebaseline();
+
+    assertEquals(0, model.disposedConditions.get());
+
+    validProperty.removeListener(listener);
+
+    assertEquals(1, model.disposedConditions.get());
+    model.text.set("");
+    assertEquals(2, model.builtConstraints.get());
+    assertFalse(model.isValid());
+  }
+
+  @Test
+  public void validator_releasedDisposesBuiltConditions() {
+    var model = new LazyValidatedModel();
+    model.text.set(UPDATED_TEXT);
+
+    model.rebaseline();
+
+    assertEquals(1, model.disposedConditions.get());
+  }
+
+  private static class LazyValidatedModel extends BaseDetailModel<Integer> {
+    private final DirtyStringProperty text = new DirtyStringProperty("");
+    private final AtomicInteger builtConstraints = new AtomicInteger();
+    private final AtomicInteger disposedConditions = new AtomicInteger();
+
+    LazyValidatedModel() {
+      addComposite("text", text);
+      addConstraints(() -> {
+        builtConstraints.incrementAndGet();
+        return Constraint.of("Text should be not empty", new BooleanBinding() {
+          {
+            bind(text);
+          }
+
+          @Override
+          protected boolean computeValue() {
+            return !text.get().isEmpty();
+          }
+
+          @Override
+          public void dispose() {
+            unbind(text);
+            disposedConditions.incrementAndGet();
+          }
+        });
+      });
+    }
+  }
+
   // endregion
 }
\ No newline at end of file
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.commons.springfx.data.FieldChange;
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DirtyCompositeTest {
+
+  private final static String INITIAL_VALUE = "INITIAL";
+  private final static String DIRTY_VALUE = "DIRTY";
+
+  @Test
+  void isDirty() {
+    var property1 = new DirtyStringProperty(INITIAL_VALUE);
+    var property2 = new DirtyStringProperty(INITIAL_VALUE);
+    var composite = new DirtyComposite();
+    composite.add("property1", property1);
+    composite.add("property2", property2);
+
+    assertFalse(composite.isDirty());
+
+    property1.set(DIRTY_VALUE);
+    property2.set(DIRTY_VALUE);
+    assertTrue(composite.isDirty());
+    assertEquals(2, composite.getDirtyCount());
+
+    property1.set(INITIAL_VALUE);
+    assertTrue(composite.isDirty());
+    assertEquals(1, composite.getDirtyCount());
+
+    property2.set(INITIAL_VALUE);
+    assertFalse(composite.isDirty());
+  }
+
+  @Test
+  void add_dirty() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    property.set(DIRTY_VALUE);
+    var composite = new DirtyComposite();
+
+    composite.add("property", property);
+    composite.add("property", property);
+
+    assertTrue(composite.isDirty());
+    assertEquals(1, composite.getDirtyCount());
+  }
+
+  @Test
+  void remove() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    var composite = new DirtyComposite();
+    composite.add("property", property);
+    property.set(DIRTY_VALUE);
+
+    composite.remove(property);
+    assertFalse(composite.isDirty());
+
+    property.set(INITIAL_VALUE);
+    property.set(DIRTY_VALUE);
+    assertFalse(composite.isDirty());
+  }
+
+  @Test
+  void rebaseline_onlyDirtyChildren() {
+    List<CountingProperty> properties = new ArrayList<>();
+    var composite = new DirtyComposite();
+    for (int i = 0; i < 30; i++) {
+      var property = new CountingProperty();
+      properties.add(property);
+      composite.add("property" + i, property);
+    }
+    properties.get(3).set(DIRTY_VALUE);
+
+    composite.rebaseline();
+
+    assertFalse(composite.isDirty());
+    assertEquals(DIRTY_VALUE, properties.get(3).getOriginalValue());
+    assertEquals(1, properties.stream().mapToInt(property -> property.updates).sum());
+  }
+
+  @Test
+  void reset_onlyDirtyChildren() {
+    List<CountingProperty> properties = new ArrayList<>();
+    var composite = new DirtyComposite();
+    for (int i = 0; i < 30; i++) {
+      var property = new CountingProperty();
+      properties.add(property);
+      composite.add("property" + i, property);
+    }
+    properties.get(3).set(DIRTY_VALUE);
+
+    composite.reset();
+
+    assertFalse(composite.isDirty());
+    assertEquals(INITIAL_VALUE, properties.get(3).get());
+    assertEquals(1, properties.stream().mapToInt(property -> property.updates).sum());
+  }
+
+  @Test
+  void rebaseline_batch() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    var composite = new DirtyComposite();
+    composite.add("property", property);
+
+    ModelBatch.run(() -> {
+      property.set(DIRTY_VALUE);
+      composite.rebaseline();
+    });
+
+    assertFalse(composite.isDirty());
+    assertEquals(DIRTY_VALUE, property.getOriginalValue());
+  }
+
+  @Test
+  void getChanges() {
+    var name = new DirtyStringProperty(INITIAL_VALUE);
+    var age = new DirtyIntegerProperty(10);
+    var unchanged = new DirtyStringProperty(INITIAL_VALUE);
+    var composite = new DirtyComposite();
+    composite.add("name", name);
+    composite.add("unchanged", unchanged);
+    composite.add("age", age);
+
+    age.set(11);
+    name.set(DIRTY_VALUE);
+
+    assertEquals(List.of(new FieldChange("name", INITIAL_VALUE, DIRTY_VALUE), new FieldChange("age", 10, 11)), composite.getChanges());
+
+    composite.rebaseline();
+
+    assertTrue(composite.getChanges().isEmpty());
+  }
+
+  @Test
+  void add_sharedProperty() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    var first = new DirtyComposite();
+    var second = new DirtyComposite();
+    first.add("property", property);
+    second.add("property", property);
+
+    property.set(DIRTY_VALUE);
+    assertTrue(first.isDirty());
+    assertTrue(second.isDirty());
+
+    first.remove(property);
+    property.set(INITIAL_VALUE);
+    assertFalse(first.isDirty());
+    assertFalse(second.isDirty());
+  }
+
+  @Test
+  void add_unnamedValue() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    var composite = new DirtyComposite();
+
+    composite.add(property);
+    property.set(DIRTY_VALUE);
+
+    assertTrue(composite.isDirty());
+    assertTrue(composite.getChanges().isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> composite.add(" ", new DirtyStringProperty(INITIAL_VALUE)));
+  }
+
+  @Test
+  void add_unnamedComposite() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    var child = new DirtyComposite();
+    child.add("property", property);
+    var composite = new DirtyComposite();
+
+    composite.add(child);
+    property.set(DIRTY_VALUE);
+
+    assertTrue(composite.isDirty());
+  }
+
+  @Test
+  void hasSameValues() {
+    var property = new DirtyStringProperty(INITIAL_VALUE);
+    var otherProperty = new DirtyStringProperty(DIRTY_VALUE);
+    var composite = new DirtyComposite();
+    composite.add("property", property);
+    var other = new DirtyComposite();
+    other.add("property", otherProperty);
+
+    assertFalse(composite.hasSameValues(other));
+
+    otherProperty.set(INITIAL_VALUE);
+    assertTrue(composite.hasSameValues(other));
+
+    other.add(new DirtyComposite());
+    assertFalse(composite.hasSameValues(other));
+  }
+
+  private static class CountingProperty extends DirtyStringProperty {
+    private int updates;
+
+    CountingProperty() {
+      super(INITIAL_VALUE);
+    }
+
+    @Override
+    public void rebaseline() {
+      updates++;
+      super.rebaseline();
+    }
+
+    @Override
+    public void reset() {
+      updates++;
+      super.reset();
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.beans.value.ObservableDoubleValue;
+import org.junit.jupiter.api.Test;
+
+class DirtyDoublePropertyTest {
+  public static final Double INITIAL_VALUE = 10.5;
+  public static final Double DIRTY_VALUE = 20.25;
+
+  @Test
+  void isDirty_setValue() {
+    var dirtyProperty = new DirtyDoubleProperty(INITIAL_VALUE);
+
+    assertFalse(dirtyProperty.isDirty());
+
+    dirtyProperty.setValue(DIRTY_VALUE);
+
+    assertTrue(dirtyProperty.isDirty());
+    assertEquals(DIRTY_VALUE, dirtyProperty.get());
+    assertEquals(DIRTY_VALUE, dirtyProperty.getValue());
+  }
+
+  @Test
+  void isDirty_set() {
+    var dirtyProperty = new DirtyDoubleProperty(INITIAL_VALUE);
+
+    assertFalse(dirtyProperty.isDirty());
+
+    dirtyProperty.set(DIRTY_VALUE);
+
+    assertTrue(dirtyProperty.isDirty());
+    assertEquals(DIRTY_VALUE, dirtyProperty.get());
+    assertEquals(DIRTY_VALUE, dirtyProperty.getValue());
+  }
+
+  @Test
+  void originalValueProperty() {
+    var dirtyProperty = new DirtyDoubleProperty(INITIAL_VALUE);
+    ObservableDoubleValue originalValue = dirtyProperty.originalValueProperty();
+
+    dirtyProperty.set(DIRTY_VALUE);
+    dirtyProperty.rebaseline();
+
+    assertEquals(DIRTY_VALUE, originalValue.get());
+  }
+
+  @Test
+  void rebaseline() {
+    var dirtyProperty = new DirtyDoubleProperty(INITIAL_VALUE);
+
+    assertFalse(dirtyProperty.isDirty());
+
+    dirtyProperty.setValue(DIRTY_VALUE);
+
+    assertTrue(dirtyProperty.isDirty());
+
+    dirtyProperty.rebaseline();
+
+    assertFalse(dirtyProperty.isDirty());
+    assertEquals(DIRTY_VALUE, dirtyProperty.get());
+    assertEquals(DIRTY_VALUE, dirtyProperty.getValue());
+    assertEquals(DIRTY_VALUE, dirtyProperty.getOriginalValue());
+  }
+
+  @Test
+  void reset() {
+    var dirtyProperty = new DirtyDoubleProperty(INITIAL_VALUE);
+
+    assertFalse(dirtyProperty.isDirty());
+
+    dirtyProperty.setValue(DIRTY_VALUE);
+
+    assertTrue(dirtyProperty.isDirty());
+
+    dirtyProperty.reset();
+
+    assertFalse(dirtyProperty.isDirty());
+    assertEquals(INITIAL_VALUE, dirtyProperty.get());
+    assertEquals(INITIAL_VALUE, dirtyProperty.getValue());
+    assertEquals(INITIAL_VALUE, dirtyProperty.getOriginalValue());
+  }
+
+  @Test
+  void isDirty_nan() {
+    var dirtyProperty = new DirtyDoubleProperty(Double.NaN);
+
+    dirtyProperty.set(0.0);
+    dirtyProperty.set(Double.NaN);
+
+    assertFalse(dirtyProperty.isDirty());
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Objects;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+class DirtyElementIndexTest {
+
+  private final static String INITIAL_VALUE = "INITIAL";
+  private final static String DIRTY_VALUE = "DIRTY";
+
+  @Test
+  void getDirtyElements_initialList() {
+    DirtyStringProperty dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    dirtyProperty.set(DIRTY_VALUE);
+    ObservableList<DirtyStringProperty> list = FXCollections.observableArrayList(new DirtyStringProperty(INITIAL_VALUE), dirtyProperty);
+
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(list);
+
+    assertEquals(List.of(dirtyProperty), List.copyOf(index.getDirtyElements()));
+    assertEquals(1, index.getDirtyCount());
+  }
+
+  @Test
+  void getDirtyElements_insertionOrder() {
+    DirtyStringProperty dirtyProperty1 = new DirtyStringProperty(INITIAL_VALUE);
+    DirtyStringProperty dirtyProperty2 = new DirtyStringProperty(INITIAL_VALUE);
+    DirtyStringProperty dirtyProperty3 = new DirtyStringProperty(INITIAL_VALUE);
+    ObservableList<DirtyStringProperty> list = FXCollections.observableArrayList(dirtyProperty1, dirtyProperty2, dirtyProperty3);
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(list);
+
+    dirtyProperty3.set(DIRTY_VALUE);
+    dirtyProperty1.set(DIRTY_VALUE);
+    dirtyProperty2.set(DIRTY_VALUE);
+    dirtyProperty3.set(INITIAL_VALUE);
+
+    assertEquals(List.of(dirtyProperty1, dirtyProperty2), List.copyOf(index.getDirtyElements()));
+    assertEquals(2, index.dirtyCountProperty().get());
+  }
+
+  @Test
+  void getDirtyElements_removeElement() {
+    DirtyStringProperty dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    ObservableList<DirtyStringProperty> list = FXCollections.observableArrayList(dirtyProperty);
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(list);
+    dirtyProperty.set(DIRTY_VALUE);
+
+    list.remove(dirtyProperty);
+    assertTrue(index.getDirtyElements().isEmpty());
+
+    dirtyProperty.set(INITIAL_VALUE);
+    dirtyProperty.set(DIRTY_VALUE);
+    assertTrue(index.getDirtyElements().isEmpty());
+  }
+
+  @Test
+  void getDirtyElements_duplicateElement() {
+    DirtyStringProperty dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    ObservableList<DirtyStringProperty> list = FXCollections.observableArrayList(dirtyProperty, dirtyProperty);
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(list);
+    dirtyProperty.set(DIRTY_VALUE);
+
+    assertEquals(1, index.getDirtyCount());
+
+    list.remove(0);
+    assertEquals(1, index.getDirtyCount());
+
+    list.remove(0);
+    assertEquals(0, index.getDirtyCount());
+  }
+
+  @Test
+  void getDirtyElements_equalElements() {
+    DirtyStringProperty dirtyProperty1 = new ValueEqualProperty();
+    DirtyStringProperty dirtyProperty2 = new ValueEqualProperty();
+    ObservableList<DirtyStringProperty> list = FXCollections.observableArrayList(dirtyProperty1, dirtyProperty2);
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(list);
+
+    dirtyProperty1.set(DIRTY_VALUE);
+    dirtyProperty2.set(DIRTY_VALUE);
+
+    assertEquals(List.of(dirtyProperty1, dirtyProperty2), List.copyOf(index.getDirtyElements()));
+
+    dirtyProperty1.set(INITIAL_VALUE);
+    list.remove(1);
+
+    assertEquals(0, index.getDirtyCount());
+  }
+
+  @Test
+  void getDirtyElements_unmodifiable() {
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(FXCollections.observableArrayList());
+
+    assertThrows(UnsupportedOperationException.class, () -> index.getDirtyElements().add(new DirtyStringProperty(INITIAL_VALUE)));
+  }
+
+  @Test
+  void dispose() {
+    DirtyStringProperty dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    ObservableList<DirtyStringProperty> list = FXCollections.observableArrayList(dirtyProperty);
+    DirtyElementIndex<DirtyStringProperty> index = new DirtyElementIndex<>(list);
+
+    index.dispose();
+    dirtyProperty.set(DIRTY_VALUE);
+    list.add(new DirtyStringProperty(DIRTY_VALUE));
+
+    assertEquals(0, index.getDirtyCount());
+  }
+
+  /** The property equal to all properties of this type with the same value, like the models with equals generated by Lombok. */
+  private static class ValueEqualProperty extends DirtyStringProperty {
+    ValueEqualProperty() {
+      super(INITIAL_VALUE);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ValueEqualProperty property && Objects.equals(property.get(), get());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(get());
+    }
+  }
+}
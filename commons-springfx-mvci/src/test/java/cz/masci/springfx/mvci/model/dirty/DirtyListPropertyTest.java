@@ -19,9 +19,15 @@
 
 package cz.masci.springfx.mvci.model.dirty;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import cz.masci.springfx.mvci.model.batch.ModelBatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.Test;
 
 class DirtyListPropertyTest {
@@ -272,4 +278,159 @@ class DirtyListPropertyTest {
   }
 
   // endregion
-}
\ No newline at end of file
+
+  // region dirty count
+  @Test
+  void dirtyCount() {
+    DirtyStringProperty dirtyProperty1 = new DirtyStringProperty(INITIAL_VALUE);
+    DirtyStringProperty dirtyProperty2 = new DirtyStringProperty(INITIAL_VALUE);
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    dirtyListProperty.addAll(dirtyProperty1, dirtyProperty2);
+
+    dirtyProperty1.set(DIRTY_VALUE);
+    dirtyProperty2.set(DIRTY_VALUE);
+    assertEquals(2, dirtyListProperty.getDirtyCount());
+
+    dirtyProperty1.set(INITIAL_VALUE);
+    assertEquals(1, dirtyListProperty.getDirtyCount());
+    assertTrue(dirtyListProperty.isDirty());
+
+    dirtyListProperty.rebaseline();
+    assertEquals(0, dirtyListProperty.getDirtyCount());
+    assertFalse(dirtyListProperty.isDirty());
+  }
+
+  @Test
+  void dirtyCount_setList() {
+    DirtyStringProperty dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    dirtyListProperty.add(dirtyProperty);
+    dirtyProperty.set(DIRTY_VALUE);
+
+    dirtyListProperty.setAll(new DirtyStringProperty(INITIAL_VALUE));
+    assertEquals(0, dirtyListProperty.getDirtyCount());
+    assertFalse(dirtyListProperty.isDirty());
+
+    dirtyProperty.set(INITIAL_VALUE);
+    dirtyProperty.set(DIRTY_VALUE);
+    assertFalse(dirtyListProperty.isDirty());
+  }
+
+  @Test
+  void rebaseline_touchesOnlyDirtyElements() {
+    AtomicInteger rebaselines = new AtomicInteger();
+    AtomicInteger dirtyReads = new AtomicInteger();
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    List<DirtyStringProperty> elements = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      elements.add(new DirtyStringProperty(INITIAL_VALUE) {
+        @Override
+        public boolean isDirty() {
+          dirtyReads.incrementAndGet();
+          return super.isDirty();
+        }
+
+        @Override
+        public void rebaseline() {
+          rebaselines.incrementAndGet();
+          super.rebaseline();
+        }
+      });
+    }
+    dirtyListProperty.addAll(elements);
+    for (int i = 0; i < elements.size(); i += 10) {
+      elements.get(i).set(DIRTY_VALUE);
+    }
+    AtomicInteger countChanges = new AtomicInteger();
+    dirtyListProperty.dirtyCountProperty().addListener((observable, oldValue, newValue) -> countChanges.incrementAndGet());
+    dirtyReads.set(0);
+
+    dirtyListProperty.rebaseline();
+
+    // the work is proportional to the 1 000 dirty elements, the clean elements are not visited
+    assertEquals(1_000, rebaselines.get());
+    assertEquals(1_000, countChanges.get());
+    assertTrue(dirtyReads.get() <= 1_000, "Dirty state was read " + dirtyReads.get() + " times");
+    assertFalse(dirtyListProperty.isDirty());
+  }
+  // endregion
+
+  // region bulk
+  @Test
+  void addAll_singleNotification() {
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    List<DirtyStringProperty> elements = createDirtyElements(1_000);
+    AtomicInteger listChanges = new AtomicInteger();
+    AtomicInteger countChanges = new AtomicInteger();
+    AtomicInteger dirtyChanges = new AtomicInteger();
+    dirtyListProperty.addListener((ListChangeListener<DirtyStringProperty>) change -> listChanges.incrementAndGet());
+    dirtyListProperty.dirtyCountProperty().addListener((observable, oldValue, newValue) -> countChanges.incrementAndGet());
+    dirtyListProperty.isDirtyProperty().addListener((observable, oldValue, newValue) -> dirtyChanges.incrementAndGet());
+
+    dirtyListProperty.addAll(elements);
+
+    assertEquals(1, listChanges.get());
+    assertEquals(1, countChanges.get());
+    assertEquals(1, dirtyChanges.get());
+    assertEquals(1_000, dirtyListProperty.getDirtyCount());
+  }
+
+  @Test
+  void setAll_singleNotification() {
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    dirtyListProperty.addAll(createDirtyElements(1_000));
+    AtomicInteger listChanges = new AtomicInteger();
+    AtomicInteger dirtyChanges = new AtomicInteger();
+    dirtyListProperty.addListener((ListChangeListener<DirtyStringProperty>) change -> listChanges.incrementAndGet());
+    dirtyListProperty.isDirtyProperty().addListener((observable, oldValue, newValue) -> dirtyChanges.incrementAndGet());
+
+    dirtyListProperty.setAll(List.of(new DirtyStringProperty(INITIAL_VALUE)));
+
+    assertEquals(1, listChanges.get());
+    assertEquals(1, dirtyChanges.get());
+    assertFalse(dirtyListProperty.isDirty());
+  }
+
+  @Test
+  void removeAll_singleNotification() {
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    List<DirtyStringProperty> elements = createDirtyElements(1_000);
+    dirtyListProperty.addAll(elements);
+    AtomicInteger countChanges = new AtomicInteger();
+    AtomicInteger dirtyChanges = new AtomicInteger();
+    dirtyListProperty.dirtyCountProperty().addListener((observable, oldValue, newValue) -> countChanges.incrementAndGet());
+    dirtyListProperty.isDirtyProperty().addListener((observable, oldValue, newValue) -> dirtyChanges.incrementAndGet());
+
+    dirtyListProperty.removeAll(elements);
+
+    assertEquals(1, countChanges.get());
+    assertEquals(1, dirtyChanges.get());
+    assertFalse(dirtyListProperty.isDirty());
+  }
+
+  @Test
+  void rebaseline_batch() {
+    DirtyStringProperty dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    DirtyListProperty<DirtyStringProperty> dirtyListProperty = new DirtyListProperty<>();
+    dirtyListProperty.add(dirtyProperty);
+
+    ModelBatch.run(() -> {
+      dirtyProperty.set(DIRTY_VALUE);
+      dirtyListProperty.rebaseline();
+    });
+
+    assertFalse(dirtyListProperty.isDirty());
+    assertEquals(DIRTY_VALUE, dirtyProperty.getOriginalValue());
+  }
+
+  private List<DirtyStringProperty> createDirtyElements(int size) {
+    List<DirtyStringProperty> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DirtyStringProperty element = new DirtyStringProperty(INITIAL_VALUE);
+      element.set(DIRTY_VALUE);
+      elements.add(element);
+    }
+    return elements;
+  }
+  // endregion
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import javafx.beans.value.ObservableLongValue;
 import org.junit.jupiter.api.Test;
 
 class DirtyLongPropertyTest {
@@ -55,6 +56,17 @@ class DirtyLongPropertyTest {
     assertEquals(DIRTY_VALUE, dirtyProperty.getValue());
   }
 
+  @Test
+  void originalValueProperty() {
+    var dirtyProperty = new DirtyLongProperty(INITIAL_VALUE);
+    ObservableLongValue originalValue = dirtyProperty.originalValueProperty();
+
+    dirtyProperty.set(DIRTY_VALUE);
+    dirtyProperty.rebaseline();
+
+    assertEquals(DIRTY_VALUE, originalValue.get());
+  }
+
   @Test
   void rebaseline() {
     var dirtyProperty = new DirtyLongProperty(INITIAL_VALUE);
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class DirtyObjectPropertyTest {
+  public static final LocalDate INITIAL_VALUE = LocalDate.of(2024, 1, 1);
+  public static final LocalDate DIRTY_VALUE = LocalDate.of(2024, 12, 31);
+
+  @Test
+  void isDirty_set() {
+    var dirtyProperty = new DirtyObjectProperty<>(INITIAL_VALUE);
+
+    assertFalse(dirtyProperty.isDirty());
+
+    dirtyProperty.set(DIRTY_VALUE);
+
+    assertTrue(dirtyProperty.isDirty());
+    assertEquals(DIRTY_VALUE, dirtyProperty.get());
+
+    dirtyProperty.set(LocalDate.of(2024, 1, 1));
+
+    assertFalse(dirtyProperty.isDirty());
+  }
+
+  @Test
+  void isDirty_null() {
+    var dirtyProperty = new DirtyObjectProperty<LocalDate>(null);
+
+    dirtyProperty.set(DIRTY_VALUE);
+    assertTrue(dirtyProperty.isDirty());
+
+    dirtyProperty.set(null);
+    assertFalse(dirtyProperty.isDirty());
+  }
+
+  @Test
+  void isDirty_equivalence() {
+    var dirtyProperty = new DirtyObjectProperty<>(new BigDecimal("1.0"), (original, value) -> original.compareTo(value) == 0);
+
+    dirtyProperty.set(new BigDecimal("1.00"));
+    assertFalse(dirtyProperty.isDirty());
+
+    dirtyProperty.set(new BigDecimal("1.01"));
+    assertTrue(dirtyProperty.isDirty());
+  }
+
+  @Test
+  void rebaseline() {
+    var dirtyProperty = new DirtyObjectProperty<>(INITIAL_VALUE);
+
+    dirtyProperty.set(DIRTY_VALUE);
+    dirtyProperty.rebaseline();
+
+    assertFalse(dirtyProperty.isDirty());
+    assertEquals(DIRTY_VALUE, dirtyProperty.get());
+    assertEquals(DIRTY_VALUE, dirtyProperty.getOriginalValue());
+  }
+
+  @Test
+  void reset() {
+    var dirtyProperty = new DirtyObjectProperty<LocalDate>(null);
+
+    dirtyProperty.set(DIRTY_VALUE);
+    dirtyProperty.reset();
+
+    assertFalse(dirtyProperty.isDirty());
+    assertNull(dirtyProperty.get());
+    assertNull(dirtyProperty.getOriginalValue());
+  }
+}
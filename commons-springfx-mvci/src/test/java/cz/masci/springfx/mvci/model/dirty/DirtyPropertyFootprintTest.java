@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.dirty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.springfx.mvci.model.detail.impl.BaseDetailModel;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.nield.dirtyfx.tracking.DirtyProperty;
+
+/**
+ * Estimates the retained footprint of the dirty properties by walking the object graph the same way JOL does.
+ * The shared values and the stateless lambdas shared by all instances are not counted.
+ * The shallow size assumes compressed oops: a 12 bytes header, 4 bytes references and 8 bytes alignment.
+ */
+class DirtyPropertyFootprintTest {
+
+  private static final String VALUE = "value";
+
+  @Test
+  void footprint_registeredInDetailModel() {
+    var compact = Footprint.perProperty(DirtyStringProperty::new);
+    var dirtyFx = Footprint.perProperty(org.nield.dirtyfx.beans.DirtyStringProperty::new);
+
+    // the observable dirty property and the listener are not created, the composite entries held in JDK maps are not counted for either
+    assertEquals(2, compact.objects());
+    assertTrue(compact.bytes() * 3 <= dirtyFx.bytes(), "Registered compact property takes " + compact + ", dirtyfx property takes " + dirtyFx);
+  }
+
+  @Test
+  void footprint_allTypes() {
+    // the property and its dirty tracker
+    assertEquals(2, Footprint.of(new DirtyIntegerProperty(1)).objects());
+    assertEquals(2, Footprint.of(new DirtyLongProperty(1L)).objects());
+    assertEquals(2, Footprint.of(new DirtyBooleanProperty(true)).objects());
+    assertEquals(2, Footprint.of(new DirtyDoubleProperty(1.0)).objects());
+    assertEquals(2, Footprint.of(new DirtyFloatProperty(1.0f)).objects());
+    assertEquals(2, Footprint.of(new DirtyObjectProperty<>(VALUE)).objects());
+  }
+
+  @Test
+  void footprint_observablesMaterializedOnRequest() {
+    var property = new DirtyStringProperty(VALUE);
+
+    property.isDirtyProperty();
+    property.originalValueProperty();
+
+    assertEquals(4, Footprint.of(property).objects());
+  }
+
+  /**
+   * Detail model registering the given number of properties with its composite.
+   */
+  private static class FootprintModel extends BaseDetailModel<Long> {
+    private final DirtyProperty[] properties;
+
+    FootprintModel(int size, Function<String, DirtyProperty> factory) {
+      properties = new DirtyProperty[size];
+      for (int i = 0; i < size; i++) {
+        properties[i] = factory.apply(VALUE);
+        addComposite("field" + i, properties[i]);
+      }
+    }
+  }
+
+  /**
+   * Number of objects and bytes reachable from the root, not counting the shared values and JDK internals.
+   *
+   * @param objects the number of reachable objects
+   * @param bytes   the estimated shallow size of the reachable objects
+   */
+  private record Footprint(int objects, long bytes) {
+
+    /**
+     * Returns the footprint added to the detail model by one registered property.
+     *
+     * @param factory the factory of the property
+     * @return the footprint of one property
+     */
+    static Footprint perProperty(Function<String, DirtyProperty> factory) {
+      int size = 10;
+      var empty = of(new FootprintModel(0, factory));
+      var full = of(new FootprintModel(size, factory));
+      // the array slot holding the property is not counted
+      return new Footprint((full.objects() - empty.objects()) / size, (full.bytes() - empty.bytes() - 4L * size) / size);
+    }
+
+    static Footprint of(Object root) {
+      Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+      Deque<Object> pending = new ArrayDeque<>();
+      pending.push(root);
+      int objects = 0;
+      long bytes = 0;
+      while (!pending.isEmpty()) {
+        Object object = pending.pop();
+        if (isSharedValue(object) || !visited.add(object)) {
+          continue;
+        }
+        objects++;
+        bytes += shallowSize(object);
+        references(object).forEach(pending::push);
+      }
+      return new Footprint(objects, bytes);
+    }
+
+    private static boolean isSharedValue(Object object) {
+      // the stateless lambdas, like the comparisons of the dirty trackers, are one instance per type
+      return object instanceof String || object instanceof Number || object instanceof Boolean || object.getClass().isSynthetic();
+    }
+
+    private static long shallowSize(Object object) {
+      Class<?> type = object.getClass();
+      long size;
+      if (type.isArray()) {
+        size = 16L + (long) Array.getLength(object) * fieldSize(type.getComponentType());
+      } else {
+        size = 12;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+          for (Field field : current.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+              size += fieldSize(field.getType());
+            }
+          }
+        }
+      }
+      return (size + 7) / 8 * 8;
+    }
+
+    private static int fieldSize(Class<?> type) {
+      if (type == long.class || type == double.class) {
+        return 8;
+      } else if (type == short.class || type == char.class) {
+        return 2;
+      } else if (type == byte.class || type == boolean.class) {
+        return 1;
+      }
+      return 4;
+    }
+
+    private static Deque<Object> references(Object object) {
+      Deque<Object> references = new ArrayDeque<>();
+      Class<?> type = object.getClass();
+      if (type.getName().startsWith("java.")) {
+        return references;
+      }
+      if (type.isArray()) {
+        if (!type.getComponentType().isPrimitive()) {
+          for (int i = 0; i < Array.getLength(object); i++) {
+            var element = Array.get(object, i);
+            if (element != null) {
+              references.push(element);
+            }
+          }
+        }
+        return references;
+      }
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        for (Field field : current.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive() || !field.trySetAccessible()) {
+            continue;
+          }
+          try {
+            var value = field.get(object);
+            if (value != null) {
+              references.push(value);
+            }
+          } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      }
+      return references;
+    }
+
+    @Override
+    public String toString() {
+      return objects + " objects, " + bytes + " bytes";
+    }
+  }
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class DirtyStringPropertyTest {
@@ -91,4 +92,31 @@ class DirtyStringPropertyTest {
     assertEquals(INITIAL_VALUE, dirtyProperty.getValue());
     assertEquals(INITIAL_VALUE, dirtyProperty.getOriginalValue());
   }
-}
\ No newline at end of file
+
+  @Test
+  void isDirtyProperty_invalidationListener() {
+    var dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    var invalidations = new AtomicInteger();
+    dirtyProperty.isDirtyProperty().addListener(observable -> invalidations.incrementAndGet());
+
+    dirtyProperty.set(DIRTY_VALUE);
+    assertTrue(dirtyProperty.isDirty());
+    dirtyProperty.rebaseline();
+    assertFalse(dirtyProperty.isDirty());
+    dirtyProperty.set(INITIAL_VALUE);
+
+    assertEquals(3, invalidations.get());
+    assertTrue(dirtyProperty.isDirtyProperty().getValue());
+  }
+
+  @Test
+  void originalValueProperty() {
+    var dirtyProperty = new DirtyStringProperty(INITIAL_VALUE);
+    var originalValue = dirtyProperty.originalValueProperty();
+
+    dirtyProperty.set(DIRTY_VALUE);
+    dirtyProperty.rebaseline();
+
+    assertEquals(DIRTY_VALUE, originalValue.getValue());
+  }
+}
@@ -23,11 +23,15 @@ import static cz.masci.springfx.mvci.TestConstants.UPDATED_TEXT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -79,6 +83,81 @@ public class BaseListModelTest {
   }
   // endregion
 
+  // region getDirtyElements
+  @Test
+  void getDirtyElements() {
+    TestDetailModel notDirtyModel = new TestDetailModel();
+    TestDetailModel dirtyModel = new TestDetailModel();
+    baseListModel.getElements().addAll(notDirtyModel, dirtyModel);
+
+    dirtyModel.setText(UPDATED_TEXT);
+
+    assertEquals(1, baseListModel.dirtyCountProperty().get());
+    assertTrue(baseListModel.getDirtyElements().contains(dirtyModel));
+
+    baseListModel.remove(dirtyModel);
+
+    assertEquals(0, baseListModel.dirtyCountProperty().get());
+    assertTrue(baseListModel.getDirtyElements().isEmpty());
+  }
+  // endregion
+
+  // region findById, upsert, removeById
+  @Test
+  void findById() {
+    TestDetailModel model = new TestDetailModel();
+    model.setId(1);
+    baseListModel.getElements().add(model);
+
+    assertSame(model, baseListModel.findById(1));
+    assertNull(baseListModel.findById(2));
+  }
+
+  @Test
+  void upsert_insert() {
+    TestDetailModel model = new TestDetailModel();
+    model.setId(1);
+
+    assertNull(baseListModel.upsert(model));
+
+    assertEquals(1, baseListModel.getElements().size());
+    assertSame(model, baseListModel.findById(1));
+  }
+
+  @Test
+  void upsert_update() {
+    TestDetailModel model = new TestDetailModel();
+    model.setId(1);
+    TestDetailModel other = new TestDetailModel();
+    other.setId(2);
+    baseListModel.getElements().addAll(model, other);
+    baseListModel.selectedElementProperty().setValue(model);
+    TestDetailModel updated = new TestDetailModel();
+    updated.setId(1);
+
+    assertSame(model, baseListModel.upsert(updated));
+
+    assertEquals(2, baseListModel.getElements().size());
+    assertSame(updated, baseListModel.getElements().get(0));
+    assertSame(updated, baseListModel.findById(1));
+    assertSame(updated, baseListModel.getSelectedElement());
+  }
+
+  @Test
+  void removeById() {
+    TestDetailModel model = new TestDetailModel();
+    model.setId(1);
+    baseListModel.getElements().add(model);
+    baseListModel.setOnRemoveElement(element -> assertSame(model, element));
+
+    assertSame(model, baseListModel.removeById(1));
+
+    assertTrue(baseListModel.getElements().isEmpty());
+    assertNull(baseListModel.findById(1));
+    assertNull(baseListModel.removeById(1));
+  }
+  // endregion
+
   // region selectedElementProperty
   @Test
   void selectedElementProperty() {
@@ -145,6 +224,96 @@ public class BaseListModelTest {
   }
   // endregion
 
+  // region removeAll, replaceAll
+  @Test
+  void removeAll() {
+    TestDetailModel model1 = new TestDetailModel();
+    TestDetailModel model2 = new TestDetailModel();
+    TestDetailModel model3 = new TestDetailModel();
+    baseListModel.getElements().addAll(model1, model2, model3);
+    baseListModel.selectedElementProperty().setValue(model3);
+    var removedBatches = new ArrayList<List<TestDetailModel>>();
+    baseListModel.setOnRemoveElements(removedBatches::add);
+    var changes = new ArrayList<ListChangeListener.Change<? extends TestDetailModel>>();
+    baseListModel.getElements().addListener((ListChangeListener<TestDetailModel>) changes::add);
+
+    baseListModel.removeAll(List.of(model1, model3, new TestDetailModel()));
+
+    assertEquals(List.of(model2), baseListModel.getElements());
+    assertEquals(List.of(List.of(model1, model3)), removedBatches);
+    assertEquals(1, changes.size());
+    assertNull(baseListModel.getSelectedElement());
+  }
+
+  @Test
+  void removeAll_onRemoveElement() {
+    TestDetailModel model1 = new TestDetailModel();
+    TestDetailModel model2 = new TestDetailModel();
+    baseListModel.getElements().addAll(model1, model2);
+    var removed = new ArrayList<TestDetailModel>();
+    baseListModel.setOnRemoveElement(removed::add);
+
+    baseListModel.removeAll(List.of(model2, model1));
+
+    assertTrue(baseListModel.getElements().isEmpty());
+    assertEquals(List.of(model1, model2), removed);
+  }
+
+  @Test
+  void replaceAll() {
+    TestDetailModel model1 = new TestDetailModel();
+    model1.setId(1);
+    TestDetailModel model2 = new TestDetailModel();
+    model2.setId(2);
+    baseListModel.getElements().addAll(model1, model2);
+    baseListModel.selectedElementProperty().setValue(model2);
+    TestDetailModel replacement = new TestDetailModel();
+    replacement.setId(2);
+    TestDetailModel notInList = new TestDetailModel();
+    notInList.setId(3);
+    var changes = new ArrayList<ListChangeListener.Change<? extends TestDetailModel>>();
+    baseListModel.getElements().addListener((ListChangeListener<TestDetailModel>) changes::add);
+
+    var replaced = baseListModel.replaceAll(List.of(replacement, notInList));
+
+    assertEquals(List.of(model2), replaced);
+    assertEquals(List.of(model1, replacement), baseListModel.getElements());
+    assertSame(replacement, baseListModel.findById(2));
+    assertSame(replacement, baseListModel.getSelectedElement());
+    assertEquals(1, changes.size());
+  }
+
+  @Test
+  void replaceAll_onlyReplacedPositions() {
+    for (int id = 1; id <= 5; id++) {
+      TestDetailModel model = new TestDetailModel();
+      model.setId(id);
+      baseListModel.getElements().add(model);
+    }
+    TestDetailModel replacement2 = new TestDetailModel();
+    replacement2.setId(2);
+    TestDetailModel replacement4 = new TestDetailModel();
+    replacement4.setId(4);
+    var changedPositions = new ArrayList<Integer>();
+    var changes = new AtomicInteger();
+    baseListModel.getElements().addListener((ListChangeListener<TestDetailModel>) change -> {
+      changes.incrementAndGet();
+      while (change.next()) {
+        assertTrue(change.wasReplaced());
+        changedPositions.add(change.getFrom());
+        assertEquals(change.getFrom() + 1, change.getTo());
+      }
+    });
+
+    baseListModel.replaceAll(List.of(replacement4, replacement2));
+
+    assertEquals(1, changes.get());
+    assertEquals(List.of(1, 3), changedPositions);
+    assertSame(replacement2, baseListModel.getElements().get(1));
+    assertSame(replacement4, baseListModel.getElements().get(3));
+  }
+  // endregion
+
   // region update
   @Test
   void update() {
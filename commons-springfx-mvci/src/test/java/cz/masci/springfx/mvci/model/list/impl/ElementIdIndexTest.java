@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+class ElementIdIndexTest {
+
+  private final ObservableList<TestDetailModel> list = FXCollections.observableArrayList();
+
+  @Test
+  void get_initialElements() {
+    TestDetailModel model = model(1);
+    list.add(model);
+
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(list);
+
+    assertSame(model, index.get(1));
+    assertEquals(0, index.indexOf(model));
+    assertNull(index.get(2));
+    assertNull(index.get(null));
+  }
+
+  @Test
+  void get_addedAndRemoved() {
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(list);
+    TestDetailModel model1 = model(1);
+    TestDetailModel model2 = model(2);
+
+    list.addAll(model1, model2);
+
+    assertSame(model1, index.get(1));
+    assertSame(model2, index.get(2));
+
+    list.remove(model1);
+
+    assertNull(index.get(1));
+    assertEquals(-1, index.indexOf(model1));
+    assertEquals(0, index.indexOf(model2));
+  }
+
+  @Test
+  void get_idChanged() {
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(list);
+    TestDetailModel model = new TestDetailModel();
+    list.add(model);
+
+    model.setId(1);
+
+    assertSame(model, index.get(1));
+
+    model.setId(2);
+
+    assertNull(index.get(1));
+    assertSame(model, index.get(2));
+  }
+
+  @Test
+  void indexOf_afterStructuralChanges() {
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(list);
+    TestDetailModel model1 = model(1);
+    TestDetailModel model2 = model(2);
+    TestDetailModel model3 = model(3);
+    list.addAll(model1, model2, model3);
+
+    list.add(0, model(4));
+    assertEquals(3, index.indexOf(model3));
+
+    list.remove(0, 2);
+    assertEquals(0, index.indexOf(model2));
+    assertEquals(1, index.indexOf(model3));
+
+    TestDetailModel replacement = model(5);
+    list.set(0, replacement);
+    assertEquals(0, index.indexOf(replacement));
+    assertEquals(-1, index.indexOf(model2));
+
+    FXCollections.reverse(list);
+    assertEquals(0, index.indexOf(model3));
+    assertEquals(1, index.indexOf(replacement));
+  }
+
+  @Test
+  void indexOf_recomputesOnlyShiftedPositions() {
+    AtomicInteger reads = new AtomicInteger();
+    ObservableList<TestDetailModel> countingList = FXCollections.observableList(new ArrayList<>() {
+      @Override
+      public TestDetailModel get(int index) {
+        reads.incrementAndGet();
+        return super.get(index);
+      }
+    });
+    for (int i = 0; i < 1_000; i++) {
+      countingList.add(model(i));
+    }
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(countingList);
+    TestDetailModel first = countingList.get(0);
+    TestDetailModel last = countingList.get(999);
+
+    countingList.remove(990);
+    reads.set(0);
+
+    assertEquals(0, index.indexOf(first));
+    assertEquals(998, index.indexOf(last));
+    assertTrue(reads.get() < 20, "Positions were read " + reads.get() + " times");
+  }
+
+  @Test
+  void get_equalElementsIndexedSeparately() {
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(list);
+    TestDetailModel model1 = new EqualDetailModel(1);
+    TestDetailModel model2 = new EqualDetailModel(2);
+
+    list.addAll(model1, model2);
+
+    assertSame(model1, index.get(1));
+    assertSame(model2, index.get(2));
+
+    list.remove(1);
+
+    assertSame(model1, index.get(1));
+    assertNull(index.get(2));
+    assertEquals(0, index.indexOf(model1));
+    assertEquals(-1, index.indexOf(model2));
+  }
+
+  @Test
+  void dispose() {
+    ElementIdIndex<Integer, TestDetailModel> index = new ElementIdIndex<>(list);
+    TestDetailModel model = model(1);
+    list.add(model);
+
+    index.dispose();
+    list.add(model(2));
+
+    assertNull(index.get(1));
+    assertNull(index.get(2));
+  }
+
+  /** The element equal to all other elements of this type, like the elements with equals generated by Lombok. */
+  private static class EqualDetailModel extends TestDetailModel {
+    EqualDetailModel(Integer id) {
+      setId(id);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualDetailModel;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+
+  private static TestDetailModel model(Integer id) {
+    TestDetailModel model = new TestDetailModel();
+    model.setId(id);
+    return model;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import static cz.masci.springfx.mvci.TestConstants.UPDATED_TEXT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+class ElementListTest {
+
+  private final ElementList<TestDetailModel> list = new ElementList<>(model -> new Observable[]{model.textProperty()});
+  private final List<ListChangeListener.Change<? extends TestDetailModel>> changes = new ArrayList<>();
+
+  @Test
+  void batch_oneChange() {
+    var model1 = new TestDetailModel();
+    var model2 = new TestDetailModel();
+    list.addAll(model1, model2, new TestDetailModel());
+    list.addListener((ListChangeListener<TestDetailModel>) changes::add);
+
+    list.batch(() -> {
+      list.set(0, model2);
+      list.set(2, model1);
+    });
+
+    assertEquals(List.of(model2, model2, model1), list);
+    assertEquals(1, changes.size());
+  }
+
+  @Test
+  void removeAll_oneChange() {
+    var model1 = new TestDetailModel();
+    var model2 = new TestDetailModel();
+    var model3 = new TestDetailModel();
+    list.addAll(model1, model2, model3);
+    var removed = new ArrayList<TestDetailModel>();
+    list.addListener((ListChangeListener<TestDetailModel>) change -> {
+      changes.add(change);
+      while (change.next()) {
+        removed.addAll(change.getRemoved());
+      }
+    });
+
+    assertTrue(list.removeAll(Set.of(model1, model3)));
+
+    assertEquals(List.of(model2), list);
+    assertEquals(List.of(model1, model3), removed);
+    assertEquals(1, changes.size());
+  }
+
+  @Test
+  void extractor_updates() {
+    var model = new TestDetailModel();
+    var removedModel = new TestDetailModel();
+    list.addAll(model, new TestDetailModel(), model, removedModel);
+    list.remove(removedModel);
+    var updated = new ArrayList<Integer>();
+    list.addListener((ListChangeListener<TestDetailModel>) change -> {
+      while (change.next()) {
+        if (change.wasUpdated()) {
+          for (int i = change.getFrom(); i < change.getTo(); i++) {
+            updated.add(i);
+          }
+        }
+      }
+    });
+
+    model.setText(UPDATED_TEXT);
+    removedModel.setText(UPDATED_TEXT);
+
+    assertEquals(List.of(0, 2), updated);
+  }
+
+  @Test
+  void clear() {
+    var model = new TestDetailModel();
+    list.addAll(model, new TestDetailModel());
+    list.addListener((ListChangeListener<TestDetailModel>) changes::add);
+
+    list.clear();
+    model.setText(UPDATED_TEXT);
+
+    assertTrue(list.isEmpty());
+    assertEquals(1, changes.size());
+  }
+}
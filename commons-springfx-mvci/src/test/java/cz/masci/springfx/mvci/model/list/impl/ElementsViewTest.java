@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+class ElementsViewTest {
+
+  private final ObservableList<TestDetailModel> source = FXCollections.observableArrayList(model -> new Observable[]{model.textProperty()});
+  private final List<Runnable> pendingComputations = new ArrayList<>();
+
+  @Test
+  void constructor_allElements() {
+    var first = model("b");
+    var second = model("a");
+    source.addAll(first, second);
+
+    var view = new ElementsView<>(source, Runnable::run, Runnable::run);
+
+    assertEquals(List.of(first, second), view.getElements());
+  }
+
+  @Test
+  void setPredicateAndComparator() {
+    var b = model("b");
+    var a = model("a");
+    var c = model("c");
+    source.addAll(b, a, c);
+    var view = new ElementsView<>(source, Runnable::run, Runnable::run);
+
+    view.setPredicate(model -> !model.getText().equals("c"));
+    assertEquals(List.of(b, a), view.getElements());
+
+    view.setComparator(Comparator.comparing(TestDetailModel::getText));
+    assertEquals(List.of(a, b), view.getElements());
+  }
+
+  @Test
+  void sourceChanges_appliedIncrementally() {
+    var b = model("b");
+    var d = model("d");
+    source.addAll(b, d);
+    var view = new ElementsView<>(source, Runnable::run, Runnable::run);
+    view.setComparator(Comparator.comparing(TestDetailModel::getText));
+    view.setPredicate(model -> !model.getText().startsWith("x"));
+    var changes = new ArrayList<String>();
+    view.getElements().addListener((ListChangeListener<TestDetailModel>) change -> {
+      while (change.next()) {
+        changes.add(change.getFrom() + (change.wasRemoved() ? " removed" : "") + (change.wasAdded() ? " added" : ""));
+      }
+    });
+    var c = model("c");
+    var x = model("x");
+
+    source.addAll(c, x);
+    assertEquals(List.of(b, c, d), view.getElements());
+
+    d.setText("a");
+    assertEquals(List.of(d, b, c), view.getElements());
+
+    b.setText("x");
+    assertEquals(List.of(d, c), view.getElements());
+
+    source.remove(c);
+    assertEquals(List.of(d), view.getElements());
+
+    assertEquals(List.of("1 added", "2 removed", "0 added", "1 removed", "1 removed"), changes);
+  }
+
+  @Test
+  void sourceChanges_sourceOrder() {
+    var a = model("a");
+    var x = model("x");
+    var c = model("c");
+    source.addAll(a, x, c);
+    var view = new ElementsView<>(source, Runnable::run, Runnable::run);
+    view.setPredicate(model -> !model.getText().startsWith("x"));
+
+    source.add(1, model("b"));
+    assertEquals(List.of("a", "b", "c"), view.getElements().stream().map(TestDetailModel::getText).toList());
+
+    x.setText("bb");
+    assertEquals(List.of("a", "b", "bb", "c"), view.getElements().stream().map(TestDetailModel::getText).toList());
+
+    FXCollections.reverse(source);
+    assertEquals(List.of("c", "bb", "b", "a"), view.getElements().stream().map(TestDetailModel::getText).toList());
+  }
+
+  @Test
+  void recompute_offThread() {
+    var a = model("a");
+    var b = model("b");
+    source.addAll(a, b);
+    var view = new ElementsView<>(source, pendingComputations::add, Runnable::run);
+
+    view.setPredicate(model -> model.getText().equals("a"));
+
+    assertTrue(view.computingProperty().get());
+    assertEquals(List.of(a, b), view.getElements());
+
+    source.add(model("a"));
+    view.setComparator(Comparator.comparing(TestDetailModel::getText));
+    runPendingComputations();
+
+    assertFalse(view.computingProperty().get());
+    assertEquals(2, view.getElements().size());
+    assertTrue(view.getElements().stream().allMatch(model -> model.getText().equals("a")));
+  }
+
+  @Test
+  void recompute_burstOfChangesRecomputedOnce() {
+    source.add(model("a"));
+    var view = new ElementsView<>(source, pendingComputations::add, Runnable::run);
+
+    view.setPredicate(model -> model.getText().equals("a"));
+    for (int i = 0; i < 10; i++) {
+      source.add(model("a"));
+    }
+
+    assertEquals(1, pendingComputations.size());
+    pendingComputations.remove(0).run();
+    assertEquals(1, pendingComputations.size());
+    runPendingComputations();
+
+    assertFalse(view.computingProperty().get());
+    assertEquals(11, view.getElements().size());
+  }
+
+  @Test
+  void recompute_failureReported() {
+    var a = model("a");
+    source.add(a);
+    var view = new ElementsView<>(source, Runnable::run, Runnable::run);
+    var failures = new ArrayList<Throwable>();
+    view.setOnComputeFailed(failures::add);
+
+    view.setPredicate(model -> {
+      throw new IllegalStateException("failed");
+    });
+
+    assertEquals(1, failures.size());
+    assertFalse(view.computingProperty().get());
+    assertEquals(List.of(a), view.getElements());
+
+    view.setPredicate(null);
+    var b = model("b");
+    source.add(b);
+    assertEquals(List.of(a, b), view.getElements());
+  }
+
+  @Test
+  void dispose() {
+    var view = new ElementsView<>(source, Runnable::run, Runnable::run);
+
+    view.dispose();
+    source.add(model("a"));
+
+    assertTrue(view.getElements().isEmpty());
+  }
+
+  private void runPendingComputations() {
+    while (!pendingComputations.isEmpty()) {
+      pendingComputations.remove(0).run();
+    }
+  }
+
+  private static TestDetailModel model(String text) {
+    var model = new TestDetailModel();
+    model.setText(text);
+    return model;
+  }
+}
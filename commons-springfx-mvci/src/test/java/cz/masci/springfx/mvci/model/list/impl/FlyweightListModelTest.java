@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import static cz.masci.springfx.mvci.TestConstants.UPDATED_TEXT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FlyweightListModelTest {
+
+  private final FlyweightListModel<Integer, TestRow, TestDetailModel> listModel = new FlyweightListModel<>(FlyweightListModelTest::toDetail,
+      FlyweightListModelTest::toRow);
+  private final TestRow row1 = new TestRow(1, "first");
+  private final TestRow row2 = new TestRow(2, "second");
+
+  @BeforeEach
+  void setUp() {
+    listModel.getElements().setAll(row1, row2);
+  }
+
+  @Test
+  void select_materializesSelectedDetail() {
+    assertEquals(0, listModel.getMaterializedCount());
+
+    listModel.selectedElementProperty().setValue(row1);
+
+    TestDetailModel detail = listModel.getSelectedDetail();
+    assertEquals(1, listModel.getMaterializedCount());
+    assertEquals(1, detail.getId());
+    assertEquals("first", detail.getText());
+    assertFalse(detail.isDirty());
+  }
+
+  @Test
+  void select_releasesNotDirtyDetail() {
+    listModel.selectedElementProperty().setValue(row1);
+    listModel.selectedElementProperty().setValue(row2);
+
+    assertEquals(1, listModel.getMaterializedCount());
+    assertEquals(2, listModel.getSelectedDetail().getId());
+
+    listModel.selectedElementProperty().setValue(null);
+
+    assertEquals(0, listModel.getMaterializedCount());
+    assertNull(listModel.getSelectedDetail());
+  }
+
+  @Test
+  void select_keepsDirtyDetail() {
+    listModel.selectedElementProperty().setValue(row1);
+    TestDetailModel detail = listModel.getSelectedDetail();
+    detail.setText(UPDATED_TEXT);
+
+    listModel.selectedElementProperty().setValue(row2);
+
+    assertEquals(2, listModel.getMaterializedCount());
+    assertEquals(1, listModel.dirtyCountProperty().get());
+    assertTrue(listModel.getDirtyElements().contains(detail));
+
+    listModel.selectedElementProperty().setValue(row1);
+
+    assertSame(detail, listModel.getSelectedDetail());
+  }
+
+  @Test
+  void fold() {
+    listModel.selectedElementProperty().setValue(row1);
+    TestDetailModel detail = listModel.getSelectedDetail();
+    detail.setText(UPDATED_TEXT);
+
+    listModel.fold(detail);
+
+    TestRow folded = listModel.getElements().get(0);
+    assertEquals(new TestRow(1, UPDATED_TEXT), folded);
+    assertSame(folded, listModel.selectedElementProperty().getValue());
+    assertSame(detail, listModel.getSelectedDetail());
+    assertFalse(detail.isDirty());
+    assertEquals(0, listModel.dirtyCountProperty().get());
+  }
+
+  @Test
+  void foldAll() {
+    listModel.selectedElementProperty().setValue(row1);
+    listModel.getSelectedDetail().setText(UPDATED_TEXT);
+    listModel.selectedElementProperty().setValue(row2);
+    listModel.getSelectedDetail().setText(UPDATED_TEXT);
+    listModel.selectedElementProperty().setValue(null);
+
+    listModel.foldAll();
+
+    assertEquals(new TestRow(1, UPDATED_TEXT), listModel.getElements().get(0));
+    assertEquals(new TestRow(2, UPDATED_TEXT), listModel.getElements().get(1));
+    assertEquals(0, listModel.getMaterializedCount());
+    assertTrue(listModel.getDirtyElements().isEmpty());
+  }
+
+  @Test
+  void discard() {
+    TestDetailModel detail = listModel.getDetail(row1);
+    detail.setText(UPDATED_TEXT);
+
+    listModel.discard(detail);
+
+    assertEquals("first", detail.getText());
+    assertEquals(row1, listModel.getElements().get(0));
+    assertEquals(0, listModel.getMaterializedCount());
+  }
+
+  @Test
+  void remove() {
+    listModel.setOnRemoveElement(element -> assertSame(row1, element));
+    listModel.getDetail(row1).setText(UPDATED_TEXT);
+
+    listModel.remove(row1);
+
+    assertEquals(1, listModel.getElements().size());
+    assertEquals(0, listModel.getMaterializedCount());
+    assertEquals(0, listModel.dirtyCountProperty().get());
+  }
+
+  @Test
+  void removeFromElements_dropsDirtyDetail() {
+    listModel.selectedElementProperty().setValue(row1);
+    listModel.getSelectedDetail().setText(UPDATED_TEXT);
+    listModel.getDetail(row2).setText(UPDATED_TEXT);
+
+    listModel.getElements().setAll(new TestRow(3, "third"));
+
+    assertNull(listModel.selectedElementProperty().getValue());
+    assertNull(listModel.getSelectedDetail());
+    assertEquals(0, listModel.getMaterializedCount());
+    assertEquals(0, listModel.dirtyCountProperty().get());
+  }
+
+  @Test
+  void setAllSameRows_keepsDirtyDetail() {
+    TestDetailModel detail = listModel.getDetail(row1);
+    detail.setText(UPDATED_TEXT);
+
+    listModel.getElements().setAll(row2, row1);
+
+    assertSame(detail, listModel.getDetail(row1));
+    assertEquals(1, listModel.dirtyCountProperty().get());
+  }
+
+  @Test
+  void replaceAll() {
+    listModel.selectedElementProperty().setValue(row2);
+    var replacement = new TestRow(2, "second");
+    var changes = new AtomicInteger();
+    listModel.getElements().addListener((ListChangeListener<TestRow>) change -> changes.incrementAndGet());
+
+    var replaced = listModel.replaceAll(List.of(replacement, new TestRow(3, "third")));
+
+    assertEquals(1, replaced.size());
+    assertSame(row2, replaced.get(0));
+    assertSame(replacement, listModel.getElements().get(1));
+    assertSame(replacement, listModel.selectedElementProperty().getValue());
+    assertEquals(1, changes.get());
+  }
+
+  private static TestDetailModel toDetail(TestRow row) {
+    TestDetailModel detail = new TestDetailModel();
+    detail.setId(row.id());
+    detail.setText(row.text());
+    detail.rebaseline();
+    return detail;
+  }
+
+  private static TestRow toRow(TestDetailModel detail) {
+    return new TestRow(detail.getId(), detail.getText());
+  }
+
+  private record TestRow(Integer id, String text) {
+  }
+}
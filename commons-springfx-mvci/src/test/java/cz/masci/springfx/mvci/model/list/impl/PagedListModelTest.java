@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package cz.masci.springfx.mvci.model.list.impl;
+
+import static cz.masci.springfx.mvci.TestConstants.UPDATED_TEXT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.commons.springfx.data.Page;
+import cz.masci.springfx.mvci.TestUtils.TestDetailModel;
+import cz.masci.springfx.mvci.controller.impl.OperableManagerController;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+class PagedListModelTest {
+
+  private static final int TOTAL_COUNT = 95;
+  private static final int PAGE_SIZE = 10;
+
+  private final TestDetailModel placeholder = new TestDetailModel();
+  private final List<Integer> loadedPages = new ArrayList<>();
+  private final List<Runnable> pendingLoads = new ArrayList<>();
+  private final Set<Integer> deletedIds = new HashSet<>();
+
+  @Test
+  void refresh_loadsFirstPage() {
+    var listModel = createListModel(3, Runnable::run);
+
+    listModel.refresh();
+
+    assertEquals(TOTAL_COUNT, listModel.getElements().size());
+    assertEquals(TOTAL_COUNT, listModel.totalCountProperty().get());
+    assertEquals(List.of(0), loadedPages);
+    assertEquals(1, listModel.getLoadedPageCount());
+  }
+
+  @Test
+  void get_loadsPageAndPrefetchesNeighbors() {
+    var listModel = createListModel(3, Runnable::run);
+    listModel.refresh();
+
+    var element = listModel.getElements().get(42);
+
+    assertEquals(42, element.getId());
+    assertEquals(List.of(0, 4, 5, 3), loadedPages);
+    assertEquals(3, listModel.getLoadedPageCount());
+    assertEquals(4, listModel.getElements().get(94).getId() % PAGE_SIZE);
+  }
+
+  @Test
+  void get_deferredLoad() {
+    var listModel = createListModel(4, pendingLoads::add);
+    listModel.refresh();
+    runPendingLoads();
+    var changes = new ArrayList<ListChangeListener.Change<? extends TestDetailModel>>();
+    listModel.getElements().addListener((ListChangeListener<TestDetailModel>) change -> {
+      while (change.next()) {
+        assertSame(placeholder, change.getRemoved().get(0));
+        changes.add(change);
+      }
+    });
+
+    assertSame(placeholder, listModel.getElements().get(25));
+    assertSame(placeholder, listModel.getElements().get(26));
+    assertEquals(List.of(0), loadedPages);
+
+    runPendingLoads();
+
+    assertEquals(25, listModel.getElements().get(25).getId());
+    assertEquals(35, listModel.getElements().get(35).getId());
+    assertEquals(15, listModel.getElements().get(15).getId());
+    assertEquals(List.of(0, 2, 3, 1), loadedPages);
+    assertEquals(3, changes.size());
+  }
+
+  @Test
+  void evict_leastRecentlyUsed() {
+    var listModel = createListModel(2, Runnable::run);
+    listModel.refresh();
+
+    listModel.getElements().get(50);
+
+    assertEquals(2, listModel.getLoadedPageCount());
+    assertEquals(List.of(0, 5, 6), loadedPages);
+
+    listModel.getElements().get(5);
+
+    assertEquals(List.of(0, 5, 6, 0, 1), loadedPages);
+  }
+
+  @Test
+  void evict_keepsDirtyPage() {
+    var listModel = createListModel(2, Runnable::run);
+    listModel.refresh();
+    var dirtyElement = listModel.getElements().get(3);
+    dirtyElement.setText(UPDATED_TEXT);
+
+    listModel.getElements().get(50);
+    listModel.getElements().get(70);
+
+    assertSame(dirtyElement, listModel.getElements().get(3));
+    assertEquals(1, listModel.dirtyCountProperty().get());
+    assertTrue(listModel.getLoadedPageCount() <= 3);
+  }
+
+  @Test
+  void upsert() {
+    var listModel = createListModel(3, Runnable::run);
+    listModel.refresh();
+    var updated = new TestDetailModel();
+    updated.setId(3);
+    var notLoaded = new TestDetailModel();
+    notLoaded.setId(80);
+
+    assertEquals(3, listModel.upsert(updated).getId());
+    assertSame(updated, listModel.getElements().get(3));
+    assertSame(updated, listModel.findById(3));
+    assertNull(listModel.upsert(notLoaded));
+    assertEquals(TOTAL_COUNT, listModel.getElements().size());
+  }
+
+  @Test
+  void refresh_placeholdersNotIndexed() {
+    var countingPlaceholder = new CountingPlaceholder();
+    var listModel = new PagedListModel<>(this::loadPage, countingPlaceholder, PAGE_SIZE, 3, Runnable::run, Runnable::run);
+
+    listModel.refresh();
+    listModel.getElements().get(50);
+
+    assertEquals(TOTAL_COUNT, listModel.getElements().size());
+    assertEquals(0, countingPlaceholder.lookups.get());
+  }
+
+  @Test
+  void add_appendsAfterPagedElements() {
+    var listModel = createListModel(3, Runnable::run);
+    listModel.refresh();
+    var controller = new OperableManagerController<>(listModel, listModel.getElements());
+    var added = new TestDetailModel();
+    added.setText(UPDATED_TEXT);
+
+    controller.add(added);
+
+    assertEquals(TOTAL_COUNT + 1, listModel.getElements().size());
+    assertSame(added, listModel.getElements().get(TOTAL_COUNT));
+    assertEquals(1, listModel.dirtyCountProperty().get());
+
+    listModel.refresh();
+    assertSame(added, listModel.getElements().get(TOTAL_COUNT));
+
+    added.setId(TOTAL_COUNT);
+    added.rebaseline();
+    listModel.refresh();
+    assertEquals(TOTAL_COUNT, listModel.getElements().size());
+  }
+
+  @Test
+  void removeAll_addedElementWithoutRefresh() {
+    var listModel = createListModel(3, Runnable::run);
+    listModel.refresh();
+    var added = new TestDetailModel();
+    listModel.getElements().add(added);
+    var removed = new ArrayList<TestDetailModel>();
+    listModel.setOnRemoveElements(removed::addAll);
+
+    listModel.removeAll(List.of(added, placeholder));
+
+    assertEquals(List.of(added), removed);
+    assertEquals(TOTAL_COUNT, listModel.getElements().size());
+    assertEquals(List.of(0), loadedPages);
+  }
+
+  @Test
+  void remove_hidesElementUntilDeleted() {
+    var listModel = createListModel(3, Runnable::run);
+    listModel.refresh();
+    var element = listModel.getElements().get(3);
+    element.setText(UPDATED_TEXT);
+    var removed = new ArrayList<TestDetailModel>();
+    listModel.setOnRemoveElement(removed::add);
+
+    listModel.remove(element);
+
+    assertEquals(List.of(element), removed);
+    assertEquals(TOTAL_COUNT - 1, listModel.getElements().size());
+    assertEquals(4, listModel.getElements().get(3).getId());
+    assertEquals(0, listModel.dirtyCountProperty().get());
+    assertNull(listModel.findById(3));
+
+    listModel.refresh();
+    listModel.getElements().get(3);
+
+    assertEquals(TOTAL_COUNT - 1, listModel.getElements().size());
+    assertEquals(4, listModel.getElements().get(3).getId());
+    assertEquals(10, listModel.getElements().get(9).getId());
+    assertEquals(94, listModel.getElements().get(TOTAL_COUNT - 2).getId());
+
+    deletedIds.add(3);
+    listModel.refresh();
+
+    assertEquals(TOTAL_COUNT - 1, listModel.getElements().size());
+    assertEquals(4, listModel.getElements().get(3).getId());
+    assertEquals(94, listModel.getElements().get(TOTAL_COUNT - 2).getId());
+  }
+
+  @Test
+  void refresh_shrinkRemovesOnlyLoadedElements() {
+    var listModel = createListModel(3, Runnable::run);
+    listModel.refresh();
+    var element = listModel.getElements().get(92);
+    element.setText(UPDATED_TEXT);
+    var removed = new ArrayList<TestDetailModel>();
+    listModel.getElements().addListener((ListChangeListener<TestDetailModel>) change -> {
+      while (change.next()) {
+        if (!change.wasAdded()) {
+          removed.addAll(change.getRemoved());
+        }
+      }
+    });
+    IntStream.range(0, PAGE_SIZE).forEach(deletedIds::add);
+
+    listModel.refresh();
+
+    assertEquals(TOTAL_COUNT - PAGE_SIZE, listModel.getElements().size());
+    assertEquals(PAGE_SIZE, removed.size());
+    assertSame(element, removed.get(7));
+    assertEquals(5, removed.stream().filter(removedElement -> removedElement == placeholder).count());
+    assertEquals(0, listModel.dirtyCountProperty().get());
+  }
+
+  @Test
+  void loadFailed() {
+    var failures = new ArrayList<Throwable>();
+    var listModel = new PagedListModel<Integer, TestDetailModel>((pageIndex, pageSize) -> {
+      throw new IllegalStateException("failed");
+    }, placeholder, PAGE_SIZE, 3, Runnable::run, Runnable::run);
+    listModel.setOnLoadFailed(failures::add);
+
+    listModel.refresh();
+    listModel.refresh();
+
+    assertEquals(2, failures.size());
+    assertEquals(0, listModel.getElements().size());
+  }
+
+  private PagedListModel<Integer, TestDetailModel> createListModel(int maxPages, Executor loadExecutor) {
+    return new PagedListModel<>(this::loadPage, placeholder, PAGE_SIZE, maxPages, loadExecutor, Runnable::run);
+  }
+
+  private Page<TestDetailModel> loadPage(int pageIndex, int pageSize) {
+    loadedPages.add(pageIndex);
+    var items = IntStream.range(0, TOTAL_COUNT).filter(id -> !deletedIds.contains(id)).skip((long) pageIndex * pageSize).limit(pageSize).mapToObj(id -> {
+      var model = new TestDetailModel();
+      model.setId(id);
+      return model;
+    }).toList();
+    return new Page<>(items, TOTAL_COUNT - deletedIds.size());
+  }
+
+  private static class CountingPlaceholder extends TestDetailModel {
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Override
+    public int hashCode() {
+      lookups.incrementAndGet();
+      return super.hashCode();
+    }
+  }
+
+  private void runPendingLoads() {
+    while (!pendingLoads.isEmpty()) {
+      pendingLoads.remove(0).run();
+    }
+  }
+}
@@ -19,16 +19,45 @@
 
 package cz.masci.springfx.mvci.util.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import cz.masci.springfx.mvci.util.concurrent.BackgroundExecutors;
+import cz.masci.springfx.mvci.util.concurrent.ResiliencePolicy;
+import cz.masci.springfx.mvci.util.concurrent.TaskPriority;
+import cz.masci.springfx.mvci.util.metrics.MetricsRecorder;
+import cz.masci.springfx.mvci.util.metrics.MetricsRecorder.TaskOutcome;
+import cz.masci.springfx.mvci.util.metrics.SpringFxMetrics;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 import org.apache.commons.lang3.function.FailableFunction;
 import org.junit.jupiter.api.Test;
@@ -196,6 +225,438 @@ class BackgroundTaskBuilderTest {
 
     verify(runnableMock, only()).run();
   }
+
+  @Test
+  void executor() throws Exception {
+    Executor executorMock = mock(Executor.class);
+
+    BackgroundTaskBuilder.task(callableMock)
+        .executor(executorMock)
+        .start();
+
+    verify(executorMock, only()).execute(any(Task.class));
+    verifyNoInteractions(callableMock);
+  }
+
+  @Test
+  void publishingTask_chunksDeliveredBeforeSucceeded() throws Exception {
+    List<Integer> delivered = new CopyOnWriteArrayList<>();
+    List<Integer> deliveredOnSucceeded = new ArrayList<>();
+
+    BackgroundTaskBuilder.<String, Integer>publishingTask(publisher -> {
+          for (int i = 0; i < 1000; i++) {
+            publisher.publish(i);
+          }
+          return "Hello";
+        }, delivered::addAll)
+        .chunkInterval(Duration.ofMillis(5))
+        .onSucceeded(result -> deliveredOnSucceeded.addAll(delivered))
+        .start();
+    sleep();
+
+    assertEquals(1000, deliveredOnSucceeded.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, deliveredOnSucceeded.get(i));
+    }
+  }
+
+  @Test
+  void publishingTask_chunksAreBatched() throws Exception {
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    BackgroundTaskBuilder.<String, Integer>publishingTask(publisher -> {
+          for (int i = 0; i < 1000; i++) {
+            publisher.publish(i);
+          }
+          return "Hello";
+        }, batch -> batchSizes.add(batch.size()))
+        .chunkInterval(Duration.ofSeconds(1))
+        .start();
+    sleep();
+
+    assertTrue(batchSizes.size() <= 2);
+    assertEquals(1000, batchSizes.stream().mapToInt(Integer::intValue).sum());
+  }
+
+  @Test
+  void publishingTask_progressAndMessage() throws Exception {
+    List<Object> progressAndMessage = new CopyOnWriteArrayList<>();
+    AtomicReference<Task<String>> taskHolder = new AtomicReference<>();
+
+    BackgroundTaskBuilder.<String, Integer>publishingTask(publisher -> {
+          for (int i = 1; i <= 100; i++) {
+            publisher.updateProgress(i, 100);
+            publisher.updateMessage("Step " + i);
+          }
+          return "Hello";
+        }, batch -> {})
+        .onScheduled(taskHolder::set)
+        .onSucceeded(result -> {
+          progressAndMessage.add(taskHolder.get().getProgress());
+          progressAndMessage.add(taskHolder.get().getMessage());
+        })
+        .start();
+    sleep();
+
+    assertEquals(List.of(1.0, "Step 100"), progressAndMessage);
+  }
+
+  @Test
+  void publishingTask_onFailed() throws Exception {
+    List<Integer> delivered = new CopyOnWriteArrayList<>();
+    List<Integer> deliveredOnFailed = new ArrayList<>();
+
+    BackgroundTaskBuilder.<String, Integer>publishingTask(publisher -> {
+          publisher.publish(1);
+          throw new Exception();
+        }, delivered::addAll)
+        .chunkInterval(Duration.ofSeconds(1))
+        .onFailed(task -> deliveredOnFailed.addAll(delivered))
+        .start();
+    sleep();
+
+    assertEquals(List.of(1), deliveredOnFailed);
+  }
+
+  @Test
+  void publishingTask_onCancelledDiscardsChunks() throws Exception {
+    List<Integer> delivered = new CopyOnWriteArrayList<>();
+    AtomicInteger cancelled = new AtomicInteger();
+
+    BackgroundTaskBuilder.<String, Integer>publishingTask(publisher -> {
+          for (int i = 0; i < 100; i++) {
+            publisher.publish(i);
+          }
+          Thread.sleep(50);
+          return "Hello";
+        }, delivered::addAll)
+        .chunkInterval(Duration.ofSeconds(1))
+        .onScheduled(Task::cancel)
+        .onCancelled(task -> cancelled.incrementAndGet())
+        .start();
+    sleep();
+
+    assertEquals(1, cancelled.get());
+    assertTrue(delivered.isEmpty());
+  }
+
+  @Test
+  void fanOut() throws Exception {
+    List<String> results = new CopyOnWriteArrayList<>();
+
+    BackgroundTaskBuilder.fanOut(scope -> {
+          var first = scope.fork(() -> "Hello");
+          var second = scope.fork(() -> "World");
+          scope.join();
+          return first.get() + " " + second.get();
+        })
+        .onSucceeded(results::add)
+        .start();
+    sleep();
+
+    assertEquals(List.of("Hello World"), results);
+  }
+
+  @Test
+  void fanOut_deadline() throws Exception {
+    List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+    BackgroundTaskBuilder.fanOut(scope -> {
+          scope.fork(() -> {
+            Thread.sleep(5000);
+            return "slow";
+          });
+          scope.join();
+          return "Hello";
+        })
+        .deadline(Duration.ofMillis(50))
+        .onFailed(task -> failures.add(task.getException()))
+        .start();
+    sleep();
+
+    assertEquals(1, failures.size());
+    assertInstanceOf(TimeoutException.class, failures.getFirst());
+  }
+
+  @Test
+  void fanOut_cancelPropagatesToSubtasks() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicInteger cancelled = new AtomicInteger();
+
+    Task<String> task = BackgroundTaskBuilder.<String>fanOut(scope -> {
+          scope.fork(() -> {
+            started.countDown();
+            try {
+              Thread.sleep(5000);
+            } catch (InterruptedException e) {
+              interrupted.countDown();
+            }
+            return "slow";
+          });
+          scope.join();
+          return "Hello";
+        })
+        .onCancelled(t -> cancelled.incrementAndGet())
+        .build();
+    new Thread(task).start();
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    task.cancel();
+
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    sleep();
+    assertEquals(1, cancelled.get());
+  }
+
+  @Test
+  void resilience() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    List<String> results = new CopyOnWriteArrayList<>();
+
+    BackgroundTaskBuilder.task(() -> {
+          if (calls.incrementAndGet() < 2) {
+            throw new Exception();
+          }
+          return "Hello";
+        })
+        .resilience(ResiliencePolicy.builder().maxAttempts(2).initialBackoff(Duration.ZERO).build())
+        .onSucceeded(results::add)
+        .start();
+    sleep();
+
+    assertEquals(List.of("Hello"), results);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void resilience_publishingTask() {
+    var builder = BackgroundTaskBuilder.<String, Integer>publishingTask(publisher -> "Hello", batch -> {});
+    var policy = ResiliencePolicy.builder().build();
+
+    assertThrows(IllegalStateException.class, () -> builder.resilience(policy));
+  }
+
+  @Test
+  void priority() throws Exception {
+    List<String> threadNames = new CopyOnWriteArrayList<>();
+
+    BackgroundTaskBuilder.task(() -> Thread.currentThread().getName())
+        .priority(TaskPriority.INTERACTIVE)
+        .onSucceeded(threadNames::add)
+        .start();
+    sleep();
+
+    assertEquals(1, threadNames.size());
+    assertTrue(threadNames.getFirst().startsWith(BackgroundExecutors.THREAD_NAME_PREFIX + "priority-"));
+  }
+
+  @Test
+  void toCompletableFuture() throws Exception {
+    var future = BackgroundTaskBuilder.task(() -> "Hello").toCompletableFuture();
+
+    var result = future.thenApply(value -> value + " " + Platform.isFxApplicationThread()).get(1, TimeUnit.SECONDS);
+
+    assertEquals("Hello false", result);
+  }
+
+  @Test
+  void toCompletableFuture_failed() {
+    var future = BackgroundTaskBuilder.<String>task(() -> {
+      throw new IOException("failed");
+    }).toCompletableFuture();
+
+    var exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+    assertInstanceOf(IOException.class, exception.getCause());
+  }
+
+  @Test
+  void toCompletableFuture_cancelCancelsTask() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicInteger cancelled = new AtomicInteger();
+
+    var future = BackgroundTaskBuilder.task(() -> {
+          started.countDown();
+          try {
+            Thread.sleep(5000);
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+          }
+          return "Hello";
+        })
+        .onCancelled(task -> cancelled.incrementAndGet())
+        .toCompletableFuture();
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    future.cancel(true);
+
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    sleep();
+    assertEquals(1, cancelled.get());
+  }
+
+  @Test
+  void toCompletableFuture_joinedKey() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+
+    var first = BackgroundTaskBuilder.task(() -> {
+      release.await();
+      return "Hello";
+    }).key("toCompletableFuture_joinedKey").toCompletableFuture();
+    var second = BackgroundTaskBuilder.task(() -> "World").key("toCompletableFuture_joinedKey").toCompletableFuture();
+    release.countDown();
+
+    assertEquals("Hello", first.get(1, TimeUnit.SECONDS));
+    assertEquals("Hello", second.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void fromStage() throws Exception {
+    List<String> results = new CopyOnWriteArrayList<>();
+
+    BackgroundTaskBuilder.fromStage(() -> CompletableFuture.supplyAsync(() -> "Hello")
+            .thenCombine(CompletableFuture.supplyAsync(() -> "World"), (first, second) -> first + " " + second))
+        .onSucceeded(results::add)
+        .start();
+    sleep();
+
+    assertEquals(List.of("Hello World"), results);
+  }
+
+  @Test
+  void fromStage_cancelCancelsStage() throws Exception {
+    var stage = new CompletableFuture<String>();
+
+    Task<String> task = BackgroundTaskBuilder.fromStage(() -> stage).build();
+    new Thread(task).start();
+    Thread.sleep(100);
+    task.cancel();
+
+    assertThrows(CancellationException.class, () -> stage.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void metrics() throws Exception {
+    var metricsRecorder = mock(MetricsRecorder.class);
+    SpringFxMetrics.setRecorder(metricsRecorder);
+    try {
+      BackgroundTaskBuilder.task(() -> "Hello").name("metrics").start();
+      BackgroundTaskBuilder.<String>task(() -> {
+        throw new Exception();
+      }).key("metrics-key").start();
+      sleep();
+    } finally {
+      SpringFxMetrics.resetRecorder();
+    }
+
+    verify(metricsRecorder).taskCompleted(eq("metrics"), eq(TaskOutcome.SUCCEEDED), any(Duration.class), any(Duration.class), any(Duration.class));
+    verify(metricsRecorder).taskCompleted(eq("metrics-key"), eq(TaskOutcome.FAILED), any(Duration.class), any(Duration.class), any(Duration.class));
+  }
+
+  @Test
+  void key_joinsTaskInFlight() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    List<String> results = new CopyOnWriteArrayList<>();
+    AtomicInteger postGuiCalls = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      BackgroundTaskBuilder.task(() -> {
+            calls.incrementAndGet();
+            release.await();
+            return "Hello";
+          })
+          .key("key_joinsTaskInFlight")
+          .onSucceeded(results::add)
+          .postGuiCall(postGuiCalls::incrementAndGet)
+          .start();
+    }
+    assertTrue(BackgroundTaskBuilder.isInFlight("key_joinsTaskInFlight"));
+    release.countDown();
+    sleep();
+
+    assertEquals(1, calls.get());
+    assertEquals(List.of("Hello", "Hello", "Hello"), results);
+    assertEquals(3, postGuiCalls.get());
+    assertFalse(BackgroundTaskBuilder.isInFlight("key_joinsTaskInFlight"));
+  }
+
+  @Test
+  void key_joinedReceivesFailure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger failures = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      BackgroundTaskBuilder.<String>task(() -> {
+            release.await();
+            throw new Exception();
+          })
+          .key("key_joinedReceivesFailure")
+          .onFailed(task -> failures.incrementAndGet())
+          .start();
+    }
+    release.countDown();
+    sleep();
+
+    assertEquals(2, failures.get());
+  }
+
+  @Test
+  void key_joinedReceivesRejection() throws Exception {
+    AtomicReference<Throwable> joinedFailure = new AtomicReference<>();
+    AtomicInteger ownFailures = new AtomicInteger();
+    Executor rejecting = command -> {
+      BackgroundTaskBuilder.task(this::normalTask)
+          .key("key_joinedReceivesRejection")
+          .onFailed(task -> joinedFailure.set(task.getException()))
+          .start();
+      throw new RejectedExecutionException();
+    };
+
+    var builder = BackgroundTaskBuilder.task(this::normalTask)
+        .key("key_joinedReceivesRejection")
+        .executor(rejecting)
+        .onFailed(task -> ownFailures.incrementAndGet());
+
+    assertThrows(RejectedExecutionException.class, builder::start);
+    assertFalse(BackgroundTaskBuilder.isInFlight("key_joinedReceivesRejection"));
+    sleep();
+
+    assertInstanceOf(RejectedExecutionException.class, joinedFailure.get());
+    assertEquals(0, ownFailures.get());
+  }
+
+  @Test
+  void key_startsAgainAfterCompletion() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+
+    BackgroundTaskBuilder.task(calls::incrementAndGet).key("key_startsAgainAfterCompletion").start();
+    sleep();
+    BackgroundTaskBuilder.task(calls::incrementAndGet).key("key_startsAgainAfterCompletion").start();
+    sleep();
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void key_differentKeysRunIndependently() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+
+    for (String key : List.of("key_first", "key_second")) {
+      BackgroundTaskBuilder.task(() -> {
+            calls.incrementAndGet();
+            release.await();
+            return "Hello";
+          })
+          .key(key)
+          .start();
+    }
+    release.countDown();
+    sleep();
+
+    assertEquals(2, calls.get());
+  }
   // endregion
 
   // region utils
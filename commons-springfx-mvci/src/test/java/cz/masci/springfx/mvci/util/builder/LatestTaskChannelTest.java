@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+@ExtendWith(ApplicationExtension.class)
+class LatestTaskChannelTest {
+
+  @Test
+  void submit_debouncesSubmissions() throws Exception {
+    var channel = new LatestTaskChannel<String>(Duration.ofMillis(100));
+    AtomicInteger calls = new AtomicInteger();
+    List<String> results = new CopyOnWriteArrayList<>();
+
+    for (String query : List.of("a", "ab", "abc")) {
+      channel.submit(BackgroundTaskBuilder.task(() -> {
+            calls.incrementAndGet();
+            return query;
+          })
+          .onSucceeded(results::add));
+    }
+    sleep();
+
+    assertEquals(1, calls.get());
+    assertEquals(List.of("abc"), results);
+  }
+
+  @Test
+  void submit_cancelsTaskInFlight() throws Exception {
+    var channel = new LatestTaskChannel<String>(Duration.ZERO);
+    CountDownLatch firstStarted = new CountDownLatch(1);
+    List<String> results = new CopyOnWriteArrayList<>();
+    AtomicInteger cancelled = new AtomicInteger();
+    AtomicInteger postGuiCalls = new AtomicInteger();
+
+    channel.submit(BackgroundTaskBuilder.task(() -> {
+          firstStarted.countDown();
+          Thread.sleep(5000);
+          return "first";
+        })
+        .onSucceeded(results::add)
+        .onCancelled(task -> cancelled.incrementAndGet())
+        .postGuiCall(postGuiCalls::incrementAndGet));
+    assertTrue(firstStarted.await(1, TimeUnit.SECONDS));
+    channel.submit(BackgroundTaskBuilder.task(() -> "second")
+        .onSucceeded(results::add)
+        .postGuiCall(postGuiCalls::incrementAndGet));
+    sleep();
+
+    assertEquals(List.of("second"), results);
+    assertEquals(0, cancelled.get());
+    assertEquals(2, postGuiCalls.get());
+    assertFalse(channel.isBusy());
+  }
+
+  @Test
+  void submit_dropsStaleResult() throws Exception {
+    var channel = new LatestTaskChannel<String>(Duration.ZERO);
+    AtomicBoolean released = new AtomicBoolean();
+    List<String> results = new CopyOnWriteArrayList<>();
+
+    channel.submit(BackgroundTaskBuilder.task(() -> {
+          // ignores the interruption and finishes anyway
+          while (!released.get()) {
+            Thread.onSpinWait();
+          }
+          return "stale";
+        })
+        .onSucceeded(results::add));
+    channel.submit(BackgroundTaskBuilder.task(() -> {
+          while (!released.get()) {
+            Thread.onSpinWait();
+          }
+          return "latest";
+        })
+        .onSucceeded(results::add));
+    released.set(true);
+    sleep();
+
+    assertEquals(List.of("latest"), results);
+  }
+
+  @Test
+  void cancel() throws Exception {
+    var channel = new LatestTaskChannel<String>(Duration.ofMillis(100));
+    AtomicInteger calls = new AtomicInteger();
+
+    channel.submit(BackgroundTaskBuilder.task(() -> {
+      calls.incrementAndGet();
+      return "Hello";
+    }));
+    assertTrue(channel.isBusy());
+    channel.cancel();
+    sleep();
+
+    assertEquals(0, calls.get());
+    assertFalse(channel.isBusy());
+  }
+
+  @Test
+  void cancel_whileExecutorBlocks() throws Exception {
+    var channel = new LatestTaskChannel<String>(Duration.ofMillis(10));
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    List<String> results = new CopyOnWriteArrayList<>();
+
+    channel.submit(BackgroundTaskBuilder.task(() -> "Hello")
+        .onSucceeded(results::add)
+        .executor(command -> {
+          entered.countDown();
+          try {
+            released.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          new Thread(command).start();
+        }));
+    assertTrue(entered.await(1, TimeUnit.SECONDS));
+    CompletableFuture.runAsync(channel::cancel).get(1, TimeUnit.SECONDS);
+    released.countDown();
+    sleep();
+
+    assertEquals(List.of(), results);
+    assertFalse(channel.isBusy());
+  }
+
+  @Test
+  void negativeDebounce() {
+    assertThrows(IllegalArgumentException.class, () -> new LatestTaskChannel<String>(Duration.ofMillis(-1)));
+  }
+
+  private void sleep() throws InterruptedException {
+    Thread.sleep(400);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BackgroundExecutorsTest {
+
+  @AfterEach
+  void tearDown() {
+    BackgroundExecutors.resetDefaultExecutor();
+  }
+
+  @Test
+  void threadPerTask_daemon() throws Exception {
+    var thread = CompletableFuture.supplyAsync(Thread::currentThread, BackgroundExecutors.threadPerTask()).get(1, TimeUnit.SECONDS);
+
+    assertTrue(thread.isDaemon());
+    assertTrue(thread.getName().startsWith(BackgroundExecutors.THREAD_NAME_PREFIX));
+  }
+
+  @Test
+  void platformPool_daemon() throws Exception {
+    var executor = BackgroundExecutors.platformPool(1, 10);
+    try {
+      var first = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(1, TimeUnit.SECONDS);
+      var second = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(1, TimeUnit.SECONDS);
+
+      assertTrue(first.isDaemon());
+      assertSame(first, second);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void platformPool_invalidSize() {
+    assertThrows(IllegalArgumentException.class, () -> BackgroundExecutors.platformPool(0, 10));
+    assertThrows(IllegalArgumentException.class, () -> BackgroundExecutors.platformPool(1, 0));
+  }
+
+  @Test
+  void virtualThreads() throws Exception {
+    try (var executor = BackgroundExecutors.virtualThreads()) {
+      var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(1, TimeUnit.SECONDS);
+
+      assertTrue(thread.isVirtual());
+    }
+  }
+
+  @Test
+  void defaultExecutor() {
+    Executor executor = Runnable::run;
+    var originalExecutor = BackgroundExecutors.getDefaultExecutor();
+
+    BackgroundExecutors.setDefaultExecutor(executor);
+    assertEquals(executor, BackgroundExecutors.getDefaultExecutor());
+
+    BackgroundExecutors.resetDefaultExecutor();
+    assertNotSame(executor, BackgroundExecutors.getDefaultExecutor());
+    assertNotSame(originalExecutor, BackgroundExecutors.getDefaultExecutor());
+  }
+
+  @Test
+  void defaultExecutor_builtInShutDown() {
+    var builtInExecutor = (ExecutorService) BackgroundExecutors.getDefaultExecutor();
+    var executor = BackgroundExecutors.platformPool(1, 10);
+    try {
+      BackgroundExecutors.setDefaultExecutor(executor);
+      assertTrue(builtInExecutor.isShutdown());
+
+      BackgroundExecutors.resetDefaultExecutor();
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void currentDefault() {
+    var currentDefault = BackgroundExecutors.currentDefault();
+    AtomicInteger executed = new AtomicInteger();
+
+    BackgroundExecutors.setDefaultExecutor(command -> executed.incrementAndGet());
+    currentDefault.execute(() -> {});
+
+    assertEquals(1, executed.get());
+  }
+
+  @Test
+  void defaultExecutor_null() {
+    assertThrows(NullPointerException.class, () -> BackgroundExecutors.setDefaultExecutor(null));
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.application.Platform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+@ExtendWith(ApplicationExtension.class)
+class FxDispatcherTest {
+
+  private static final int COUNT = 1000;
+
+  @Test
+  void dispatch() throws Exception {
+    var dispatcher = new FxDispatcher();
+    var result = new ArrayList<Integer>();
+    var fxThread = new AtomicBoolean(true);
+    var latch = new CountDownLatch(COUNT);
+
+    for (int i = 0; i < COUNT; i++) {
+      int value = i;
+      dispatcher.dispatch(() -> {
+        fxThread.compareAndSet(true, Platform.isFxApplicationThread());
+        result.add(value);
+        latch.countDown();
+      });
+    }
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(fxThread.get());
+    assertEquals(COUNT, result.size());
+    for (int i = 0; i < COUNT; i++) {
+      assertEquals(i, result.get(i));
+    }
+    assertEquals(0, dispatcher.getQueueDepth());
+    assertEquals(COUNT, dispatcher.getDispatchedCount());
+  }
+
+  @Test
+  void dispatch_zeroTimeBudget() throws Exception {
+    var dispatcher = new FxDispatcher(Duration.ZERO);
+    var latch = new CountDownLatch(COUNT / 10);
+
+    for (int i = 0; i < COUNT / 10; i++) {
+      dispatcher.dispatch(latch::countDown);
+    }
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  @Test
+  void dispatch_fromManyThreads() throws Exception {
+    var dispatcher = new FxDispatcher();
+    var threadCount = 8;
+    var latch = new CountDownLatch(threadCount * COUNT);
+    List<Thread> threads = new ArrayList<>();
+
+    for (int t = 0; t < threadCount; t++) {
+      threads.add(Thread.ofPlatform().start(() -> {
+        for (int i = 0; i < COUNT; i++) {
+          dispatcher.dispatch(latch::countDown);
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(0, dispatcher.getQueueDepth());
+    assertEquals((long) threadCount * COUNT, dispatcher.getDispatchedCount());
+  }
+
+  @Test
+  void dispatch_failingRunnable() throws Exception {
+    var dispatcher = new FxDispatcher();
+    var latch = new CountDownLatch(1);
+    var handlerCalled = new AtomicBoolean();
+    Platform.runLater(() -> {
+      var handler = Thread.currentThread().getUncaughtExceptionHandler();
+      Thread.currentThread().setUncaughtExceptionHandler((thread, throwable) -> handlerCalled.set(true));
+      dispatcher.dispatch(() -> {
+        throw new IllegalStateException();
+      });
+      dispatcher.dispatch(() -> {
+        Thread.currentThread().setUncaughtExceptionHandler(handler);
+        latch.countDown();
+      });
+    });
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(handlerCalled.get());
+  }
+
+  @Test
+  void latency() throws Exception {
+    var dispatcher = new FxDispatcher();
+    var latch = new CountDownLatch(1);
+
+    dispatcher.dispatch(latch::countDown);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertFalse(dispatcher.getMaxDrainLatency().isNegative());
+    assertTrue(dispatcher.getMaxDrainLatency().compareTo(dispatcher.getLastDrainLatency()) >= 0);
+
+    dispatcher.resetStatistics();
+    assertEquals(Duration.ZERO, dispatcher.getMaxDrainLatency());
+    assertEquals(0, dispatcher.getDispatchedCount());
+  }
+
+  @Test
+  void timeBudget() {
+    var dispatcher = new FxDispatcher();
+
+    assertEquals(FxDispatcher.DEFAULT_TIME_BUDGET, dispatcher.getTimeBudget());
+    dispatcher.setTimeBudget(Duration.ofMillis(2));
+    assertEquals(Duration.ofMillis(2), dispatcher.getTimeBudget());
+    assertThrows(IllegalArgumentException.class, () -> dispatcher.setTimeBudget(Duration.ofMillis(-1)));
+  }
+}
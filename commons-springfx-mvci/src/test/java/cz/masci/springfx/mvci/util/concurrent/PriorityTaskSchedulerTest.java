@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cz.masci.springfx.mvci.util.concurrent.PriorityTaskScheduler.OverflowPolicy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PriorityTaskSchedulerTest {
+
+  private PriorityTaskScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  void submit_highestPriorityFirst() throws Exception {
+    scheduler = new PriorityTaskScheduler(1, 10, OverflowPolicy.REJECT);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(3);
+    List<TaskPriority> order = new CopyOnWriteArrayList<>();
+
+    scheduler.submit(TaskPriority.NORMAL, () -> await(release));
+    for (TaskPriority priority : List.of(TaskPriority.BULK, TaskPriority.NORMAL, TaskPriority.INTERACTIVE)) {
+      scheduler.submit(priority, () -> {
+        order.add(priority);
+        done.countDown();
+      });
+    }
+    release.countDown();
+
+    assertTrue(done.await(1, TimeUnit.SECONDS));
+    assertEquals(List.of(TaskPriority.INTERACTIVE, TaskPriority.NORMAL, TaskPriority.BULK), order);
+  }
+
+  @Test
+  void submit_bulkLeavesWorkerForInteractive() throws Exception {
+    scheduler = new PriorityTaskScheduler(2, 10, OverflowPolicy.REJECT);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch interactiveDone = new CountDownLatch(1);
+
+    scheduler.submit(TaskPriority.BULK, () -> await(release));
+    scheduler.submit(TaskPriority.BULK, () -> await(release));
+    scheduler.submit(TaskPriority.INTERACTIVE, interactiveDone::countDown);
+
+    assertTrue(interactiveDone.await(1, TimeUnit.SECONDS));
+    assertEquals(1, scheduler.getQueueSize(TaskPriority.BULK));
+    release.countDown();
+  }
+
+  @Test
+  void submit_reject() {
+    scheduler = new PriorityTaskScheduler(1, 1, OverflowPolicy.REJECT);
+    CountDownLatch release = new CountDownLatch(1);
+
+    scheduler.submit(TaskPriority.NORMAL, () -> await(release));
+    waitForQueue(TaskPriority.NORMAL, 0);
+    scheduler.submit(TaskPriority.NORMAL, () -> {});
+
+    assertThrows(RejectedExecutionException.class, () -> scheduler.submit(TaskPriority.NORMAL, () -> {}));
+    release.countDown();
+  }
+
+  @Test
+  void submit_dropOldestCancelsFuture() throws Exception {
+    scheduler = new PriorityTaskScheduler(1, 1, OverflowPolicy.DROP_OLDEST);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch newestDone = new CountDownLatch(1);
+    var oldest = new FutureTask<>(() -> "oldest");
+
+    scheduler.submit(TaskPriority.NORMAL, () -> await(release));
+    waitForQueue(TaskPriority.NORMAL, 0);
+    scheduler.submit(TaskPriority.NORMAL, oldest);
+    scheduler.submit(TaskPriority.NORMAL, newestDone::countDown);
+    release.countDown();
+
+    assertTrue(newestDone.await(1, TimeUnit.SECONDS));
+    assertTrue(oldest.isCancelled());
+  }
+
+  @Test
+  void submit_blockWaitsForSlot() throws Exception {
+    scheduler = new PriorityTaskScheduler(1, 1, OverflowPolicy.BLOCK);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch submitted = new CountDownLatch(1);
+
+    scheduler.submit(TaskPriority.NORMAL, () -> await(release));
+    waitForQueue(TaskPriority.NORMAL, 0);
+    scheduler.submit(TaskPriority.NORMAL, () -> {});
+    Thread.ofVirtual().start(() -> {
+      scheduler.submit(TaskPriority.NORMAL, () -> {});
+      submitted.countDown();
+    });
+
+    assertFalse(submitted.await(100, TimeUnit.MILLISECONDS));
+    release.countDown();
+    assertTrue(submitted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void submit_shutdown() {
+    scheduler = new PriorityTaskScheduler(1, 1, OverflowPolicy.REJECT);
+    scheduler.shutdown();
+
+    assertThrows(RejectedExecutionException.class, () -> scheduler.submit(TaskPriority.NORMAL, () -> {}));
+  }
+
+  @Test
+  void setDefaultFactory_createsSchedulerOnFirstUse() {
+    AtomicInteger created = new AtomicInteger();
+    PriorityTaskScheduler.setDefaultFactory(() -> {
+      created.incrementAndGet();
+      return new PriorityTaskScheduler(1, 1, OverflowPolicy.REJECT);
+    });
+    try {
+      assertEquals(0, created.get());
+
+      scheduler = PriorityTaskScheduler.getDefault();
+
+      assertSame(scheduler, PriorityTaskScheduler.getDefault());
+      assertEquals(1, created.get());
+    } finally {
+      PriorityTaskScheduler.resetDefault();
+    }
+  }
+
+  @Test
+  void resetDefault_shutsDownReplacedScheduler() {
+    scheduler = new PriorityTaskScheduler(1, 1, OverflowPolicy.REJECT);
+    PriorityTaskScheduler.setDefault(scheduler);
+
+    PriorityTaskScheduler.resetDefault();
+
+    assertThrows(RejectedExecutionException.class, () -> scheduler.submit(TaskPriority.NORMAL, () -> {}));
+  }
+
+  @Test
+  void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new PriorityTaskScheduler(0, 1, OverflowPolicy.REJECT));
+    assertThrows(IllegalArgumentException.class, () -> new PriorityTaskScheduler(1, 0, OverflowPolicy.REJECT));
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void waitForQueue(TaskPriority priority, int size) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (scheduler.getQueueSize(priority) != size && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ResiliencePolicyTest {
+
+  @Test
+  void call_singleAttempt() {
+    var policy = ResiliencePolicy.builder().build();
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(IOException.class, () -> policy.call(() -> {
+      calls.incrementAndGet();
+      throw new IOException();
+    }));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void call_retriesUntilSuccess() throws Exception {
+    var policy = ResiliencePolicy.builder()
+        .maxAttempts(3)
+        .initialBackoff(Duration.ofMillis(10))
+        .build();
+    AtomicInteger calls = new AtomicInteger();
+
+    var result = policy.call(() -> {
+      if (calls.incrementAndGet() < 3) {
+        throw new IOException();
+      }
+      return "Hello";
+    });
+
+    assertEquals("Hello", result);
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void call_throwsLastFailure() {
+    var policy = ResiliencePolicy.builder()
+        .maxAttempts(2)
+        .initialBackoff(Duration.ZERO)
+        .build();
+    AtomicInteger calls = new AtomicInteger();
+
+    var exception = assertThrows(IOException.class, () -> policy.call(() -> {
+      throw new IOException("attempt " + calls.incrementAndGet());
+    }));
+    assertEquals("attempt 2", exception.getMessage());
+  }
+
+  @Test
+  void call_notRetriedFailure() {
+    var policy = ResiliencePolicy.builder()
+        .maxAttempts(3)
+        .retryOn(IOException.class::isInstance)
+        .build();
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(IllegalArgumentException.class, () -> policy.call(() -> {
+      calls.incrementAndGet();
+      throw new IllegalArgumentException();
+    }));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void call_hedgedAttemptWins() throws Exception {
+    var policy = ResiliencePolicy.builder()
+        .maxAttempts(2)
+        .hedgeAfter(Duration.ofMillis(50))
+        .build();
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+    long start = System.nanoTime();
+    var result = policy.call(() -> {
+      if (calls.incrementAndGet() == 1) {
+        try {
+          Thread.sleep(5000);
+        } catch (InterruptedException e) {
+          slowInterrupted.countDown();
+          throw e;
+        }
+        return "slow";
+      }
+      return "hedged";
+    });
+
+    assertEquals("hedged", result);
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+    assertTrue(slowInterrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void call_attemptTimeout() {
+    var policy = ResiliencePolicy.builder()
+        .attemptTimeout(Duration.ofMillis(50))
+        .build();
+
+    assertThrows(TimeoutException.class, () -> policy.call(() -> {
+      Thread.sleep(5000);
+      return "slow";
+    }));
+  }
+
+  @Test
+  void call_retryAfterTimeout() throws Exception {
+    var policy = ResiliencePolicy.builder()
+        .maxAttempts(2)
+        .initialBackoff(Duration.ZERO)
+        .attemptTimeout(Duration.ofMillis(50))
+        .build();
+    AtomicInteger calls = new AtomicInteger();
+
+    var result = policy.call(() -> {
+      if (calls.incrementAndGet() == 1) {
+        Thread.sleep(5000);
+      }
+      return "Hello";
+    });
+
+    assertEquals("Hello", result);
+  }
+
+  @Test
+  void backoff() {
+    var policy = ResiliencePolicy.builder()
+        .initialBackoff(Duration.ofMillis(100))
+        .backoffMultiplier(2)
+        .maxBackoff(Duration.ofMillis(300))
+        .build();
+
+    assertEquals(Duration.ofMillis(100).toNanos(), policy.backoffNanos(0));
+    assertEquals(Duration.ofMillis(200).toNanos(), policy.backoffNanos(1));
+    assertEquals(Duration.ofMillis(300).toNanos(), policy.backoffNanos(2));
+  }
+
+  @Test
+  void invalidAttributes() {
+    var builder = ResiliencePolicy.builder();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.maxAttempts(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.backoffMultiplier(0.5));
+    assertThrows(IllegalArgumentException.class, () -> builder.attemptTimeout(Duration.ofMillis(-1)));
+  }
+}
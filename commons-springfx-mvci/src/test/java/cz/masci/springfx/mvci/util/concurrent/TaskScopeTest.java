@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026
+ *
+ * This file is part of commons-springfx library.
+ *
+ * commons-springfx library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free
+ *  Software Foundation, either version 3 of the License, or (at your option)
+ *   any later version.
+ *
+ * commons-springfx library is distributed in the hope that it will be useful, but WITHOUT ANY
+ *  WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *   FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public
+ *    License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ *  along with Foobar. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package cz.masci.springfx.mvci.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class TaskScopeTest {
+
+  @Test
+  void join_runsSubtasksInParallel() throws Exception {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    try (var scope = new TaskScope()) {
+      var first = scope.fork(() -> {
+        bothStarted.countDown();
+        return bothStarted.await(1, TimeUnit.SECONDS) ? "first" : null;
+      });
+      var second = scope.fork(() -> {
+        bothStarted.countDown();
+        return bothStarted.await(1, TimeUnit.SECONDS) ? "second" : null;
+      });
+      scope.join();
+
+      assertEquals("first", first.get());
+      assertEquals("second", second.get());
+    }
+  }
+
+  @Test
+  void join_throwsFirstFailureAndCancelsOthers() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    try (var scope = new TaskScope()) {
+      var slow = scope.fork(() -> {
+        try {
+          Thread.sleep(5000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          throw e;
+        }
+        return "slow";
+      });
+      scope.fork(() -> {
+        throw new IOException("failed");
+      });
+
+      var exception = assertThrows(IOException.class, scope::join);
+      assertEquals("failed", exception.getMessage());
+      assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+      assertThrows(IllegalStateException.class, slow::get);
+    }
+  }
+
+  @Test
+  void join_deadline() {
+    try (var scope = new TaskScope(Duration.ofMillis(100))) {
+      scope.fork(() -> {
+        Thread.sleep(5000);
+        return "slow";
+      });
+
+      assertThrows(TimeoutException.class, scope::join);
+    }
+  }
+
+  @Test
+  void close_cancelsSubtasks() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    try (var scope = new TaskScope()) {
+      scope.fork(() -> {
+        started.countDown();
+        try {
+          Thread.sleep(5000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return null;
+      });
+      assertTrue(started.await(1, TimeUnit.SECONDS));
+    }
+
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void fork_closed() {
+    var scope = new TaskScope();
+    scope.close();
+
+    assertThrows(IllegalStateException.class, () -> scope.fork(() -> null));
+  }
+
+  @Test
+  void get_notJoined() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (var scope = new TaskScope()) {
+      var subtask = scope.fork(() -> release.await(1, TimeUnit.SECONDS));
+
+      assertThrows(IllegalStateException.class, subtask::get);
+      release.countDown();
+    }
+  }
+}